@@ -0,0 +1,33 @@
+package org.stepaniuk.laboratorywork.benchmarks;
+
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.DynamicHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.ExtendedHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.GeneratedHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.HammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.WideHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.repetition.RepetitionCode;
+
+/**
+ * Створює код за назвою з параметра бенчмарку ("hamming", "dynamic-26", "generated-26", "wide-4083", "repetition-5"...).
+ */
+final class BenchmarkCodes {
+
+    private BenchmarkCodes() {
+    }
+
+    static IErrorCorrectionCode create(String spec) {
+        int dash = spec.indexOf('-');
+        String family = (dash < 0) ? spec : spec.substring(0, dash);
+        int k = (dash < 0) ? 0 : Integer.parseInt(spec.substring(dash + 1));
+        return switch (family) {
+            case "hamming" -> new HammingCode();
+            case "repetition" -> (k == 0) ? new RepetitionCode() : new RepetitionCode(Long.SIZE / k, k); // k - кількість повторень
+            case "dynamic" -> new DynamicHammingCode(k);
+            case "generated" -> new GeneratedHammingCode(k);
+            case "secded" -> new ExtendedHammingCode(k);
+            case "wide" -> new WideHammingCode(k);
+            default -> throw new IllegalArgumentException("Невідомий код: " + spec);
+        };
+    }
+}
@@ -0,0 +1,130 @@
+package org.stepaniuk.laboratorywork.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.DecodeResult;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускна здатність та затримка кодування/декодування для кодів з n <= 64:
+ * по одному слову (рядковий та бітово-упакований API) і пакетами.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    static final int POOL_SIZE = 1024; // Степінь двійки - індекс береться за маскою
+
+    @Param({"hamming", "repetition", "repetition-5", "dynamic-8", "dynamic-26", "generated-26", "dynamic-32", "secded-26"})
+    public String code;
+
+    @Param({"0", "1", "2"})
+    public int errorsPerWord;
+
+    private IErrorCorrectionCode codec;
+    private long[] dataWords;
+    private long[] codeWords;
+    private String[] dataStrings;
+    private String[] codeStrings;
+    private long[] batchData;
+    private long[] batchCode;
+    private long[] errorMasks;
+    private final DecodeResult result = new DecodeResult();
+    private final long[] single = new long[1];
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = BenchmarkCodes.create(code);
+        int k = codec.getDataWordLength();
+        int n = codec.getCodeWordLength();
+        SplittableRandom random = new SplittableRandom(42);
+
+        dataWords = new long[POOL_SIZE];
+        codeWords = new long[POOL_SIZE];
+        dataStrings = new String[POOL_SIZE];
+        codeStrings = new String[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            dataWords[i] = random.nextLong() & ((1L << k) - 1);
+            long word = codec.encodeBits(dataWords[i]);
+            long errors = 0; // Різні позиції: повторна позиція скасувала б помилку
+            while (Long.bitCount(errors) < errorsPerWord) {
+                errors |= 1L << random.nextInt(n);
+            }
+            word ^= errors;
+            codeWords[i] = word;
+            dataStrings[i] = BitWords.format(dataWords[i], k);
+            codeStrings[i] = BitWords.format(word, n);
+        }
+        batchData = new long[POOL_SIZE];
+        batchCode = new long[POOL_SIZE];
+        errorMasks = new long[POOL_SIZE];
+    }
+
+    private int next() {
+        return cursor++ & (POOL_SIZE - 1);
+    }
+
+    @Benchmark
+    public String encodeString() {
+        return codec.encode(dataStrings[next()]);
+    }
+
+    @Benchmark
+    public IErrorCorrectionCode.CodeCheckResult decodeString() {
+        return codec.checkAndCorrect(codeStrings[next()]);
+    }
+
+    /**
+     * Структурований результат без тексту: той самий об'єкт для кожного слова.
+     */
+    @Benchmark
+    public DecodeResult.Outcome decodeStructured() {
+        single[0] = codeWords[next()];
+        return codec.decode(single, result).getOutcome();
+    }
+
+    @Benchmark
+    public long encodeBits() {
+        return codec.encodeBits(dataWords[next()]);
+    }
+
+    @Benchmark
+    public void decodeBits(Blackhole blackhole) {
+        long corrected = codec.correctBits(codeWords[next()]);
+        blackhole.consume(codec.extractDataBits(corrected));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POOL_SIZE)
+    public long[] encodeBatch() {
+        codec.encodeBatch(dataWords, 0, batchCode, 0, POOL_SIZE);
+        return batchCode;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POOL_SIZE)
+    public int decodeBatch() {
+        return codec.decodeBatch(codeWords, 0, batchData, errorMasks, null, 0, POOL_SIZE);
+    }
+}
@@ -0,0 +1,83 @@
+package org.stepaniuk.laboratorywork.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Кодування/декодування довгих кодових слів через API над масивами слів.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WideCodecBenchmark {
+
+    @Param({"wide-120", "wide-1013", "wide-4083"})
+    public String code;
+
+    @Param({"0", "1"})
+    public int errorsPerWord;
+
+    private IErrorCorrectionCode codec;
+    private long[] data;
+    private long[] encoded;
+    private long[] received;
+    private long[] work;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = BenchmarkCodes.create(code);
+        int k = codec.getDataWordLength();
+        int n = codec.getCodeWordLength();
+        SplittableRandom random = new SplittableRandom(42);
+
+        data = new long[BitWords.wordCount(k)];
+        for (int i = 0; i < k; i++) {
+            if (random.nextBoolean()) {
+                BitWords.flipBit(data, i);
+            }
+        }
+        encoded = new long[BitWords.wordCount(n)];
+        codec.encodeWords(data, encoded);
+        received = encoded.clone();
+        for (int e = 0; e < errorsPerWord; ) {
+            int position = random.nextInt(n);
+            if (BitWords.getBit(received, position) == BitWords.getBit(encoded, position)) { // Лише нові позиції
+                BitWords.flipBit(received, position);
+                e++;
+            }
+        }
+        work = new long[received.length];
+    }
+
+    @Benchmark
+    public long[] encodeWords() {
+        codec.encodeWords(data, encoded);
+        return encoded;
+    }
+
+    @Benchmark
+    public long[] decodeWords() {
+        System.arraycopy(received, 0, work, 0, work.length);
+        codec.correctWords(work);
+        codec.extractDataWords(work, data);
+        return data;
+    }
+}
@@ -1,14 +1,22 @@
 module org.stepaniuk.laboratorywork {
-    requires javafx.controls;
-    requires javafx.fxml;
-    requires javafx.web;
+    // Графічний інтерфейс - лише якщо модулі додано (--add-modules ALL-MODULE-PATH);
+    // консольний режим (cli.CommandLineApp) працює без них
+    requires static javafx.controls;
+    requires static javafx.fxml;
+    requires static javafx.web;
 
-    requires org.controlsfx.controls;
-    requires com.dlsc.formsfx;
-    requires net.synedra.validatorfx;
-    requires org.kordamp.ikonli.javafx;
-    requires org.kordamp.bootstrapfx.core;
-    requires eu.hansolo.tilesfx;
+    requires static org.controlsfx.controls;
+    requires static com.dlsc.formsfx;
+    requires static net.synedra.validatorfx;
+    requires static org.kordamp.ikonli.javafx;
+    requires static org.kordamp.bootstrapfx.core;
+    requires static eu.hansolo.tilesfx;
+
+    // Векторні ядра (algorithms.simd) - лише якщо модуль додано: --add-modules jdk.incubator.vector
+    requires static jdk.incubator.vector;
+
+    // Локальна HTTP-точка метрик (metrics.MetricsServer)
+    requires jdk.httpserver;
 
     opens org.stepaniuk.laboratorywork to javafx.fxml;
     exports org.stepaniuk.laboratorywork;
@@ -1,9 +1,24 @@
 package org.stepaniuk.laboratorywork;
 
-import javafx.application.Application;
+import org.stepaniuk.laboratorywork.cli.CommandLineApp;
 
+/**
+ * Точка входу: з командою (encode, decode, simulate...) запускає консольний
+ * режим без JavaFX, інакше - графічний інтерфейс.
+ */
 public class Launcher {
+
+    private static final String JAVAFX_MODULE = "javafx.controls";
+
     public static void main(String[] args) {
-        Application.launch(MainApp.class, args);
+        if (CommandLineApp.isCommand(args)) {
+            CommandLineApp.main(args);
+        } else if (Launcher.class.getModule().isNamed() && ModuleLayer.boot().findModule(JAVAFX_MODULE).isEmpty()) {
+            // Модулі JavaFX підключені як requires static і самі не завантажуються
+            System.err.println("Графічний інтерфейс потребує модулів JavaFX: додайте --add-modules ALL-MODULE-PATH.");
+            System.exit(1);
+        } else {
+            MainApp.main(args);
+        }
     }
 }
@@ -0,0 +1,80 @@
+package org.stepaniuk.laboratorywork.algorithms;
+
+/**
+ * Базовий клас для кодів, що природно працюють над масивами слів
+ * (кодове слово може бути довшим за 64 біти).
+ * <p>
+ * Нащадки реалізують API над масивами, а бітово-упакований API
+ * та рядкові адаптери надаються тут. Бітово-упакований API доступний
+ * лише тоді, коли кодове слово вміщується в один {@code long}.
+ */
+public abstract class AbstractWordArrayCode implements IErrorCorrectionCode {
+
+    @Override
+    public abstract void encodeWords(long[] dataWords, long[] codeWords);
+
+    @Override
+    public abstract long syndromeWords(long[] codeWords);
+
+    @Override
+    public abstract int correctWords(long[] codeWords);
+
+    @Override
+    public abstract void extractDataWords(long[] codeWords, long[] dataWords);
+
+    @Override
+    public String encode(String dataWord) {
+        int k = getDataWordLength();
+        if (dataWord == null || dataWord.length() != k || !BitWords.isBinary(dataWord)) {
+            throw new IllegalArgumentException("Інформаційне слово повинно складатися з " + k + " бітів.");
+        }
+        long[] data = BitWords.parse(dataWord, new long[BitWords.wordCount(k)]);
+        long[] code = new long[BitWords.wordCount(getCodeWordLength())];
+        encodeWords(data, code);
+        return BitWords.format(code, getCodeWordLength());
+    }
+
+    @Override
+    public CodeCheckResult checkAndCorrect(String potentiallyCorruptedWord) {
+        return checkAndCorrect(potentiallyCorruptedWord, new DecodeResult()).toCheckResult();
+    }
+
+    // --- Бітово-упакований API поверх масивів слів ---
+
+    @Override
+    public long encodeBits(long dataBits) {
+        requirePackedWord();
+        long[] code = new long[1];
+        encodeWords(new long[]{dataBits}, code);
+        return code[0];
+    }
+
+    @Override
+    public long syndromeBits(long codeBits) {
+        requirePackedWord();
+        return syndromeWords(new long[]{codeBits});
+    }
+
+    @Override
+    public long correctBits(long codeBits) {
+        requirePackedWord();
+        long[] code = {codeBits};
+        correctWords(code);
+        return code[0];
+    }
+
+    @Override
+    public long extractDataBits(long codeBits) {
+        requirePackedWord();
+        long[] data = new long[1];
+        extractDataWords(new long[]{codeBits}, data);
+        return data[0];
+    }
+
+    private void requirePackedWord() {
+        if (getCodeWordLength() > Long.SIZE) {
+            throw new UnsupportedOperationException(
+                    "Кодове слово '" + getName() + "' довше за 64 біти - використовуйте API над масивами слів.");
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.stepaniuk.laboratorywork.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Допоміжні методи для перетворення між рядковим ("0101...")
+ * та бітово-упакованим представленням слів.
+ * <p>
+ * Домовленість: i-й символ рядка відповідає i-му біту числа
+ * (індекс 0 - молодший біт).
+ */
+public final class BitWords {
+
+    private BitWords() {
+    }
+
+    /**
+     * Перевіряє, що рядок непорожній і складається лише з '0' та '1'.
+     */
+    public static boolean isBinary(String bits) {
+        if (bits == null || bits.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < bits.length(); i++) {
+            char c = bits.charAt(i);
+            if (c != '0' && c != '1') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Пакує рядок бітів (до 64 символів) у {@code long}.
+     * Будь-який символ, окрім '1', трактується як нуль.
+     */
+    public static long parse(String bits) {
+        long word = 0;
+        int length = Math.min(bits.length(), Long.SIZE);
+        for (int i = 0; i < length; i++) {
+            if (bits.charAt(i) == '1') {
+                word |= 1L << i;
+            }
+        }
+        return word;
+    }
+
+    /**
+     * Розпаковує молодші {@code length} біт у рядок.
+     */
+    public static String format(long word, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('0' + ((word >>> i) & 1L));
+        }
+        return new String(chars);
+    }
+
+    // --- Слова довільної довжини у масивах long ---
+    // Біт i зберігається у words[i >>> 6] на позиції (i & 63).
+
+    /**
+     * Кількість слів {@code long}, потрібна для зберігання {@code bits} біт.
+     */
+    public static int wordCount(int bits) {
+        return (bits + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * Пакує рядок бітів довільної довжини у масив {@code words}.
+     *
+     * @return Той самий масив {@code words}.
+     */
+    public static long[] parse(String bits, long[] words) {
+        Arrays.fill(words, 0L);
+        int length = Math.min(bits.length(), words.length * Long.SIZE);
+        for (int i = 0; i < length; i++) {
+            if (bits.charAt(i) == '1') {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Розпаковує перші {@code length} біт масиву у рядок.
+     */
+    public static String format(long[] words, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('0' + ((words[i >>> 6] >>> i) & 1L));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Зчитує до 64 біт, починаючи з довільної позиції {@code from}.
+     */
+    public static long getBits(long[] words, int from, int length) {
+        int index = from >>> 6;
+        int offset = from & 63;
+        long value = words[index] >>> offset;
+        if (offset != 0 && offset + length > Long.SIZE) {
+            value |= words[index + 1] << (Long.SIZE - offset);
+        }
+        return (length == Long.SIZE) ? value : value & ((1L << length) - 1);
+    }
+
+    /**
+     * Записує до 64 біт {@code value}, починаючи з довільної позиції {@code from}.
+     */
+    public static void setBits(long[] words, int from, int length, long value) {
+        long mask = (length == Long.SIZE) ? -1L : (1L << length) - 1;
+        value &= mask;
+        int index = from >>> 6;
+        int offset = from & 63;
+        words[index] = (words[index] & ~(mask << offset)) | (value << offset);
+        if (offset + length > Long.SIZE) {
+            int shift = Long.SIZE - offset;
+            words[index + 1] = (words[index + 1] & ~(mask >>> shift)) | (value >>> shift);
+        }
+    }
+
+    /**
+     * Копіює {@code length} біт між масивами порціями по 64 біти.
+     */
+    public static void copyBits(long[] src, int srcPos, long[] dst, int dstPos, int length) {
+        for (int done = 0; done < length; done += Long.SIZE) {
+            int chunk = Math.min(Long.SIZE, length - done);
+            setBits(dst, dstPos + done, chunk, getBits(src, srcPos + done, chunk));
+        }
+    }
+
+    /**
+     * Повертає біт з індексом {@code index}.
+     */
+    public static boolean getBit(long[] words, int index) {
+        return ((words[index >>> 6] >>> index) & 1L) != 0;
+    }
+
+    /**
+     * Інвертує біт з індексом {@code index}.
+     */
+    public static void flipBit(long[] words, int index) {
+        words[index >>> 6] ^= 1L << index;
+    }
+
+    /**
+     * Жорстке рішення за знаком LLR: біт i дорівнює 1, якщо {@code llr[i] < 0}.
+     */
+    public static void hardDecision(float[] llr, int length, long[] words) {
+        Arrays.fill(words, 0, wordCount(length), 0L);
+        for (int i = 0; i < length; i++) {
+            if (llr[i] < 0) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    /**
+     * Кількість біт, у яких слово відрізняється від жорсткого рішення за знаком LLR.
+     */
+    public static int countDisagreements(float[] llr, int length, long[] words) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            count += (getBit(words, i) != (llr[i] < 0)) ? 1 : 0;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,200 @@
+package org.stepaniuk.laboratorywork.algorithms;
+
+import org.stepaniuk.laboratorywork.algorithms.bch.BchCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.DynamicHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.ExtendedHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.GeneratedHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.WideHammingCode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Потокобезпечний реєстр згенерованих кодів, ключований сімейством, 'k'
+ * та (для кодів з кількома параметрами) кількістю помилок 't'.
+ * <p>
+ * Таблиці кожного коду будуються один раз (навіть якщо його одночасно
+ * запитують кілька потоків), а всі потоки отримують той самий незмінний
+ * екземпляр. Коли сумарний оцінений обсяг кодів перевищує бюджет пам'яті,
+ * витісняються ті, що найдовше не використовувалися.
+ */
+public final class CodecRegistry {
+
+    public static final String HAMMING = "hamming";
+    public static final String SECDED = "secded";
+    public static final String BCH = "bch";
+
+    private static final long DEFAULT_BUDGET_BYTES = 64L << 20;
+    private static final CodecRegistry SHARED = createDefault(DEFAULT_BUDGET_BYTES);
+
+    private final Map<String, CodecFactory> factories = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Key, Entry> codecs = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final long budgetBytes;
+
+    public CodecRegistry(long budgetBytes) {
+        if (budgetBytes <= 0) {
+            throw new IllegalArgumentException("Бюджет пам'яті має бути > 0");
+        }
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Спільний реєстр з сімействами {@value #HAMMING}, {@value #SECDED} та {@value #BCH}.
+     */
+    public static CodecRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * Створює реєстр із зареєстрованими кодами Гемінга та БЧХ.
+     */
+    public static CodecRegistry createDefault(long budgetBytes) {
+        CodecRegistry registry = new CodecRegistry(budgetBytes);
+        // Короткі коди вміщуються в один long (кодек генерується під матрицю), довгі - у масив слів
+        registry.register(HAMMING, k -> (k <= DynamicHammingCode.MAX_K) ? new GeneratedHammingCode(k) : new WideHammingCode(k));
+        registry.register(SECDED, ExtendedHammingCode::new);
+        registry.register(BCH, BchCode::forDataLength);
+        return registry;
+    }
+
+    /**
+     * Реєструє фабрику сімейства. Фабрика має повертати незмінні екземпляри.
+     */
+    public void register(String family, IntFunction<? extends IErrorCorrectionCode> factory) {
+        factories.put(family, (k, t) -> factory.apply(k));
+    }
+
+    /**
+     * Реєструє фабрику сімейства з двома параметрами (k, t).
+     */
+    public void register(String family, CodecFactory factory) {
+        factories.put(family, factory);
+    }
+
+    public boolean isRegistered(String family) {
+        return factories.containsKey(family);
+    }
+
+    /**
+     * Повертає код сімейства {@code family} з параметром {@code k},
+     * будуючи його лише при першому запиті.
+     *
+     * @throws IllegalArgumentException якщо сімейство невідоме або 'k' некоректне.
+     */
+    public IErrorCorrectionCode get(String family, int k) {
+        return get(family, k, 0);
+    }
+
+    /**
+     * Повертає код сімейства {@code family} з параметрами {@code k} та {@code t}.
+     *
+     * @throws IllegalArgumentException якщо сімейство невідоме або параметри некоректні.
+     */
+    public IErrorCorrectionCode get(String family, int k, int t) {
+        CodecFactory factory = factories.get(family);
+        if (factory == null) {
+            throw new IllegalArgumentException("Невідоме сімейство кодів '" + family + "'.");
+        }
+        Key key = new Key(family, k, t);
+        Entry entry = codecs.get(key);
+        if (entry == null) {
+            // computeIfAbsent гарантує, що таблиці будуються лише одним потоком
+            entry = codecs.computeIfAbsent(key, ignored -> {
+                Entry created = new Entry(factory.create(k, t));
+                created.lastAccess = clock.incrementAndGet(); // Інакше паралельне витіснення вважатиме його найстарішим
+                usedBytes.addAndGet(created.bytes);
+                return created;
+            });
+            evictIfNeeded(key);
+        }
+        entry.lastAccess = clock.incrementAndGet();
+        return entry.code;
+    }
+
+    /**
+     * Кількість кодів у реєстрі.
+     */
+    public int size() {
+        return codecs.size();
+    }
+
+    /**
+     * Сумарний оцінений обсяг кодів у байтах.
+     */
+    public long usedBytes() {
+        return usedBytes.get();
+    }
+
+    public void clear() {
+        codecs.keySet().forEach(this::remove);
+    }
+
+    /**
+     * Витісняє найдавніше використані коди, доки обсяг не вкладеться в бюджет.
+     * Щойно створений код не витісняється, навіть якщо сам перевищує бюджет.
+     */
+    private void evictIfNeeded(Key justAdded) {
+        if (usedBytes.get() <= budgetBytes) {
+            return;
+        }
+        synchronized (this) {
+            List<Map.Entry<Key, Entry>> candidates = new ArrayList<>(codecs.entrySet());
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+            for (Map.Entry<Key, Entry> candidate : candidates) {
+                if (usedBytes.get() <= budgetBytes) {
+                    break;
+                }
+                if (!candidate.getKey().equals(justAdded)) {
+                    remove(candidate.getKey());
+                }
+            }
+        }
+    }
+
+    private void remove(Key key) {
+        Entry removed = codecs.remove(key);
+        if (removed != null) {
+            usedBytes.addAndGet(-removed.bytes);
+        }
+    }
+
+    /**
+     * Груба оцінка обсягу таблиць коду: перевірочна матриця (n - k) x n біт
+     * плюс таблиці, лінійні за n.
+     */
+    static long estimateBytes(IErrorCorrectionCode code) {
+        long n = code.getCodeWordLength();
+        long checkBits = Math.max(1, n - code.getDataWordLength());
+        return 256 + checkBits * ((n + 7) / 8) + n * Long.BYTES;
+    }
+
+    /**
+     * Фабрика коду з параметрами; для однопараметричних сімейств 't' ігнорується.
+     */
+    @FunctionalInterface
+    public interface CodecFactory {
+        IErrorCorrectionCode create(int k, int t);
+    }
+
+    private record Key(String family, int k, int t) {
+    }
+
+    private static final class Entry {
+
+        final IErrorCorrectionCode code;
+        final long bytes;
+        volatile long lastAccess;
+
+        Entry(IErrorCorrectionCode code) {
+            this.code = code;
+            this.bytes = estimateBytes(code);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package org.stepaniuk.laboratorywork.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Структурований результат декодування одного кодового слова.
+ * <p>
+ * Об'єкт змінний і призначений для повторного використання: викликач передає
+ * той самий екземпляр у {@link IErrorCorrectionCode#decode(long[], DecodeResult)}
+ * для кожного слова, тож після першого виклику декодування не виділяє пам'яті.
+ * Текстові подання (статус, виправлене слово, дані) будуються лише при першому
+ * зверненні до них - тобто тоді, коли їх справді показують.
+ * <p>
+ * Екземпляр не потокобезпечний: кожен потік використовує власний.
+ */
+public final class DecodeResult {
+
+    /**
+     * Підсумок декодування.
+     */
+    public enum Outcome {
+        /** Синдром нульовий, слово не змінено. */
+        CLEAN,
+        /** Помилки виправлено (позиції - у масці помилок). */
+        CORRECTED,
+        /** Помилку виявлено, але виправити її неможливо; слово не змінено. */
+        DETECTED_UNCORRECTABLE
+    }
+
+    /**
+     * Формує текст статусу для відображення. Коди з власними повідомленнями
+     * (напр., позиція помилки для кодів Гемінга) задають його через {@link #describeWith}.
+     */
+    @FunctionalInterface
+    public interface StatusFormatter {
+        String describe(DecodeResult result);
+    }
+
+    /**
+     * Загальний статус: кількість виправлених біт.
+     */
+    public static final StatusFormatter DEFAULT_STATUS = result -> switch (result.outcome) {
+        case CLEAN -> "Помилок немає";
+        case DETECTED_UNCORRECTABLE -> "Виявлено помилку, яку неможливо виправити";
+        case CORRECTED -> (result.errorCount == 1)
+                ? "Виявлено та виправлено 1 помилку"
+                : "Виявлено та виправлено " + result.errorCount + " помилок";
+    };
+
+    private Outcome outcome = Outcome.CLEAN;
+    private int errorCount;
+    private long syndrome;
+    private int n;
+    private int k;
+    private int codeWordCount;
+
+    // Буфери зростають до найдовшого коду і далі перевикористовуються
+    private long[] received = new long[1];
+    private long[] corrected = new long[1];
+    private long[] errors = new long[1];
+    private long[] data = new long[1];
+
+    private StatusFormatter formatter = DEFAULT_STATUS;
+    private String receivedText; // Вхідний рядок, якщо слово отримано з нього
+    private String statusText;
+    private String correctedText;
+    private String dataText;
+
+    // --- Заповнення (IErrorCorrectionCode) ---
+
+    /**
+     * Розбирає рядок бітів у внутрішній буфер вхідного слова.
+     */
+    long[] parseReceived(String codeWord, int codeWordLength) {
+        received = ensureCapacity(received, BitWords.wordCount(codeWordLength));
+        return BitWords.parse(codeWord, received);
+    }
+
+    /**
+     * Декодує {@code codeWords} кодом {@code code} (вхідний масив не змінюється).
+     * <p>
+     * Результат збігається з {@link IErrorCorrectionCode#correctWords(long[])}: слово,
+     * синдром якого після виправлення ненульовий, невиправне і залишається без змін.
+     * <p>
+     * Для n <= 64 синдром обчислюється завжди. Для довших кодів - лише для слів,
+     * які декодер не змінив: так чисте слово відрізняється від невиправного
+     * без зайвого проходу для виправлених слів (їх синдром тоді дорівнює 0).
+     */
+    DecodeResult fill(IErrorCorrectionCode code, long[] codeWords) {
+        n = code.getCodeWordLength();
+        k = code.getDataWordLength();
+        codeWordCount = BitWords.wordCount(n);
+        corrected = ensureCapacity(corrected, codeWordCount);
+        errors = ensureCapacity(errors, codeWordCount);
+        data = ensureCapacity(data, BitWords.wordCount(k));
+        formatter = DEFAULT_STATUS;
+        receivedText = null;
+        statusText = null;
+        correctedText = null;
+        dataText = null;
+
+        if (n <= Long.SIZE) {
+            long word = codeWords[0];
+            long fixed = code.correctBits(word);
+            syndrome = code.syndromeBits(word);
+            if (fixed != word && code.syndromeBits(fixed) != 0) {
+                fixed = word; // Декодер змінив слово, але кодовим воно не стало
+            }
+            corrected[0] = fixed;
+            errors[0] = word ^ fixed;
+            errorCount = Long.bitCount(errors[0]);
+            data[0] = code.extractDataBits(fixed);
+        } else {
+            System.arraycopy(codeWords, 0, corrected, 0, codeWordCount);
+            int result = code.correctWords(corrected);
+            errorCount = 0;
+            if (result == IErrorCorrectionCode.UNCORRECTABLE) {
+                System.arraycopy(codeWords, 0, corrected, 0, codeWordCount);
+                Arrays.fill(errors, 0, codeWordCount, 0L);
+            } else {
+                for (int i = 0; i < codeWordCount; i++) {
+                    errors[i] = codeWords[i] ^ corrected[i];
+                    errorCount += Long.bitCount(errors[i]);
+                }
+            }
+            syndrome = (errorCount == 0) ? code.syndromeWords(codeWords) : 0;
+            if (result == IErrorCorrectionCode.UNCORRECTABLE && syndrome == 0) {
+                syndrome = 1; // Декодер виявив помилку, якої не бачить синдром (напр., CRC)
+            }
+            // Код записує лише k біт, а буфер міг лишитися від довшого коду
+            Arrays.fill(data, 0, BitWords.wordCount(k), 0L);
+            code.extractDataWords(corrected, data);
+        }
+
+        if (errorCount != 0) {
+            outcome = Outcome.CORRECTED;
+        } else {
+            outcome = (syndrome != 0) ? Outcome.DETECTED_UNCORRECTABLE : Outcome.CLEAN;
+        }
+        return this;
+    }
+
+    /**
+     * Запам'ятовує вхідний рядок: для незміненого слова він і є текстом виправленого.
+     */
+    DecodeResult withReceivedText(String codeWord) {
+        this.receivedText = codeWord;
+        return this;
+    }
+
+    /**
+     * Задає формат статусу для цього результату (до наступного декодування).
+     */
+    public DecodeResult describeWith(StatusFormatter formatter) {
+        this.formatter = formatter;
+        this.statusText = null;
+        return this;
+    }
+
+    private static long[] ensureCapacity(long[] buffer, int words) {
+        return (buffer.length >= words) ? buffer : new long[words];
+    }
+
+    // --- Структуровані дані ---
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Кількість виправлених біт.
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Синдром отриманого слова (див. {@link #fill} щодо кодів довших за 64 біти).
+     */
+    public long getSyndrome() {
+        return syndrome;
+    }
+
+    public int getCodeWordLength() {
+        return n;
+    }
+
+    public int getDataWordLength() {
+        return k;
+    }
+
+    /**
+     * Маска виправлених позицій (для n <= 64 - повна; інакше - перші 64 позиції).
+     */
+    public long getErrorMask() {
+        return errors[0];
+    }
+
+    public boolean isErrorAt(int position) {
+        return ((errors[position >>> 6] >>> position) & 1) != 0;
+    }
+
+    /**
+     * Перша виправлена позиція, не менша за {@code from}, або -1 (як {@link java.util.BitSet#nextSetBit}).
+     */
+    public int nextErrorPosition(int from) {
+        if (from >= n) {
+            return -1;
+        }
+        int index = from >>> 6;
+        long word = errors[index] & (-1L << from);
+        while (word == 0) {
+            if (++index >= codeWordCount) {
+                return -1;
+            }
+            word = errors[index];
+        }
+        return index * Long.SIZE + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Виправлене кодове слово (n <= 64).
+     */
+    public long getCorrectedBits() {
+        return corrected[0];
+    }
+
+    /**
+     * Копіює виправлене кодове слово в {@code target} (щонайменше BitWords.wordCount(n) елементів).
+     */
+    public void getCorrectedWords(long[] target) {
+        System.arraycopy(corrected, 0, target, 0, codeWordCount);
+    }
+
+    /**
+     * Інформаційне слово (k <= 64).
+     */
+    public long getDataBits() {
+        return data[0];
+    }
+
+    /**
+     * Копіює інформаційне слово в {@code target}.
+     */
+    public void getDataWords(long[] target) {
+        System.arraycopy(data, 0, target, 0, BitWords.wordCount(k));
+    }
+
+    // --- Текст для UI (будується лише при зверненні) ---
+
+    public String getStatus() {
+        if (statusText == null) {
+            statusText = formatter.describe(this);
+        }
+        return statusText;
+    }
+
+    public String getCorrectedWord() {
+        if (correctedText == null) {
+            correctedText = (errorCount == 0 && receivedText != null)
+                    ? receivedText
+                    : BitWords.format(corrected, n);
+        }
+        return correctedText;
+    }
+
+    public String getExtractedData() {
+        if (dataText == null) {
+            dataText = BitWords.format(data, k);
+        }
+        return dataText;
+    }
+
+    /**
+     * Незмінна копія у форматі {@link IErrorCorrectionCode.CodeCheckResult} (будує всі рядки).
+     */
+    public IErrorCorrectionCode.CodeCheckResult toCheckResult() {
+        return new IErrorCorrectionCode.CodeCheckResult(getStatus(), getCorrectedWord(), getExtractedData());
+    }
+}
@@ -1,10 +1,17 @@
 package org.stepaniuk.laboratorywork.algorithms;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
 public interface IErrorCorrectionCode {
 
+    /**
+     * Значення, яке повертає {@link #correctWords(long[])}, коли помилку
+     * виявлено, але виправити її неможливо.
+     */
+    int UNCORRECTABLE = -1;
+
     /**
      * Результат перевірки та виправлення кодового слова.
      *
@@ -45,6 +52,223 @@ public interface IErrorCorrectionCode {
      */
     CodeCheckResult checkAndCorrect(String codeWord);
 
+    /**
+     * Декодує кодове слово у структурований результат без побудови рядків.
+     *
+     * @param codeWords Потенційно пошкоджене кодове слово (не змінюється).
+     * @param result    Результат для повторного використання або {@code null}.
+     * @return {@code result} (або новий об'єкт), заповнений результатами декодування.
+     */
+    default DecodeResult decode(long[] codeWords, DecodeResult result) {
+        return ((result != null) ? result : new DecodeResult()).fill(this, codeWords);
+    }
+
+    /**
+     * Те саме, що {@link #decode(long[], DecodeResult)}, для слова у рядковому поданні.
+     * Текст статусу та рядки будуються лише при зверненні до них.
+     */
+    default DecodeResult checkAndCorrect(String codeWord, DecodeResult result) {
+        DecodeResult target = (result != null) ? result : new DecodeResult();
+        return decode(target.parseReceived(codeWord, getCodeWordLength()), target).withReceivedText(codeWord);
+    }
+
+    // --- Бітово-упакований API (без виділення пам'яті) ---
+    // Біт i числа відповідає i-му символу рядкового представлення (див. BitWords).
+
+    /**
+     * Кодує інформаційне слово, упаковане у {@code long}.
+     *
+     * @param dataBits Інформаційне слово (молодші k біт).
+     * @return Кодове слово (молодші n біт).
+     */
+    long encodeBits(long dataBits);
+
+    /**
+     * Обчислює синдром кодового слова.
+     *
+     * @param codeBits Потенційно пошкоджене кодове слово.
+     * @return Синдром; 0 означає, що помилок не виявлено.
+     */
+    long syndromeBits(long codeBits);
+
+    /**
+     * Знаходить та виправляє помилки у кодовому слові.
+     *
+     * @param codeBits Потенційно пошкоджене кодове слово.
+     * @return Виправлене кодове слово.
+     */
+    long correctBits(long codeBits);
+
+    /**
+     * Витягує інформаційні біти з (виправленого) кодового слова.
+     *
+     * @param codeBits Кодове слово.
+     * @return Інформаційне слово (молодші k біт).
+     */
+    long extractDataBits(long codeBits);
+
+    // --- API над масивами слів (для кодів довжиною понад 64 біти) ---
+    // Біт i слова зберігається у words[i >>> 6] на позиції (i & 63).
+    // Реалізації за замовчуванням делегують бітово-упакованому API (n <= 64).
+
+    /**
+     * Кодує інформаційне слово довільної довжини.
+     *
+     * @param dataWords Інформаційне слово (k біт).
+     * @param codeWords Масив для кодового слова (щонайменше BitWords.wordCount(n) елементів).
+     */
+    default void encodeWords(long[] dataWords, long[] codeWords) {
+        codeWords[0] = encodeBits(dataWords[0]);
+    }
+
+    /**
+     * Обчислює синдром кодового слова довільної довжини.
+     *
+     * @return 0, якщо помилок не виявлено; інакше - значення, специфічне для коду.
+     */
+    default long syndromeWords(long[] codeWords) {
+        return syndromeBits(codeWords[0]);
+    }
+
+    /**
+     * Виправляє кодове слово на місці. Невиправне слово (синдром виправленого
+     * слова ненульовий) залишається без змін.
+     *
+     * @param codeWords Потенційно пошкоджене кодове слово.
+     * @return Кількість виправлених біт або {@link #UNCORRECTABLE}.
+     */
+    default int correctWords(long[] codeWords) {
+        long word = codeWords[0];
+        long corrected = correctBits(word);
+        if (syndromeBits(corrected) != 0) {
+            return UNCORRECTABLE;
+        }
+        codeWords[0] = corrected;
+        return Long.bitCount(word ^ corrected);
+    }
+
+    /**
+     * Витягує інформаційні біти з (виправленого) кодового слова.
+     *
+     * @param codeWords Кодове слово.
+     * @param dataWords Масив для інформаційного слова.
+     */
+    default void extractDataWords(long[] codeWords, long[] dataWords) {
+        dataWords[0] = extractDataBits(codeWords[0]);
+    }
+
+    // --- М'яке декодування ---
+    // llr[i] - логарифм відношення правдоподібностей ln(P(0) / P(1)) для i-го біта:
+    // знак - жорстке рішення (> 0 - імовірніше 0), модуль - надійність.
+
+    /**
+     * Декодує слово за надійностями біт, отриманими з каналу.
+     * Реалізація за замовчуванням приймає жорстке рішення за знаком і виправляє
+     * його через {@link #correctWords(long[])}; коди з м'яким декодером її перевизначають.
+     *
+     * @param llr       LLR кожного з n біт кодового слова.
+     * @param codeWords Масив для декодованого кодового слова.
+     * @return Кількість біт, що відрізняються від жорсткого рішення, або {@link #UNCORRECTABLE}.
+     */
+    default int decodeSoft(float[] llr, long[] codeWords) {
+        BitWords.hardDecision(llr, getCodeWordLength(), codeWords);
+        return correctWords(codeWords);
+    }
+
+    // --- Пакетний API над суцільними буферами (n <= 64) ---
+    // Цикли за замовчуванням викликають бітово-упакований API для кожного слова;
+    // коди з векторними ядрами (див. algorithms.simd) перевизначають їх.
+    // Як і в correctWords, слово невиправне, якщо синдром виправленого слова ненульовий:
+    // тоді дані беруться з отриманого слова, а маска дорівнює 0.
+
+    /**
+     * Кодує {@code count} інформаційних слів підряд.
+     *
+     * @param dataWords  Вхідні інформаційні слова.
+     * @param dataOffset Індекс першого вхідного слова.
+     * @param codeWords  Буфер для кодових слів.
+     * @param codeOffset Індекс першого вихідного слова.
+     * @param count      Кількість слів.
+     */
+    default void encodeBatch(long[] dataWords, int dataOffset, long[] codeWords, int codeOffset, int count) {
+        for (int i = 0; i < count; i++) {
+            codeWords[codeOffset + i] = encodeBits(dataWords[dataOffset + i]);
+        }
+    }
+
+    /**
+     * Декодує {@code count} кодових слів підряд.
+     *
+     * @param codeWords  Потенційно пошкоджені кодові слова.
+     * @param codeOffset Індекс першого вхідного слова.
+     * @param dataWords  Буфер для виправлених інформаційних слів.
+     * @param errorMasks Буфер для масок виправлених біт кожного слова (може бути null).
+     * @param results    Буфер для результату кожного слова, як у {@link #correctWords(long[])}:
+     *                   кількість виправлених біт або {@link #UNCORRECTABLE} (може бути null).
+     * @param outOffset  Індекс першого слова у вихідних буферах.
+     * @param count      Кількість слів.
+     * @return Кількість слів, у яких було виправлено помилки.
+     */
+    default int decodeBatch(long[] codeWords, int codeOffset, long[] dataWords, long[] errorMasks,
+                            int[] results, int outOffset, int count) {
+        int correctedWords = 0;
+        for (int i = 0; i < count; i++) {
+            long word = codeWords[codeOffset + i];
+            long corrected = correctBits(word);
+            boolean uncorrectable = syndromeBits(corrected) != 0;
+            if (uncorrectable) {
+                corrected = word;
+            }
+            dataWords[outOffset + i] = extractDataBits(corrected);
+            if (errorMasks != null) {
+                errorMasks[outOffset + i] = word ^ corrected;
+            }
+            if (results != null) {
+                results[outOffset + i] = uncorrectable ? UNCORRECTABLE : Long.bitCount(word ^ corrected);
+            }
+            correctedWords += (word != corrected) ? 1 : 0;
+        }
+        return correctedWords;
+    }
+
+    /**
+     * Кодує всі слова, що залишилися у {@code dataWords} (по 8 байт на слово),
+     * і записує кодові слова у {@code codeWords}. Позиції обох буферів зсуваються.
+     */
+    default void encodeBatch(ByteBuffer dataWords, ByteBuffer codeWords) {
+        int count = dataWords.remaining() / Long.BYTES;
+        for (int i = 0; i < count; i++) {
+            codeWords.putLong(encodeBits(dataWords.getLong()));
+        }
+    }
+
+    /**
+     * Декодує всі слова, що залишилися у {@code codeWords} (по 8 байт на слово),
+     * і записує інформаційні слова у {@code dataWords}. Позиції обох буферів зсуваються.
+     *
+     * @param results Буфер для результату i-го слова, як у
+     *                {@link #decodeBatch(long[], int, long[], long[], int[], int, int)} (може бути null).
+     * @return Кількість слів, у яких було виправлено помилки.
+     */
+    default int decodeBatch(ByteBuffer codeWords, ByteBuffer dataWords, int[] results) {
+        int count = codeWords.remaining() / Long.BYTES;
+        int correctedWords = 0;
+        for (int i = 0; i < count; i++) {
+            long word = codeWords.getLong();
+            long corrected = correctBits(word);
+            boolean uncorrectable = syndromeBits(corrected) != 0;
+            if (uncorrectable) {
+                corrected = word;
+            }
+            dataWords.putLong(extractDataBits(corrected));
+            if (results != null) {
+                results[i] = uncorrectable ? UNCORRECTABLE : Long.bitCount(word ^ corrected);
+            }
+            correctedWords += (word != corrected) ? 1 : 0;
+        }
+        return correctedWords;
+    }
+
     /**
      * Повертає мапу зв'язків між бітами.
      * Key: Індекс контрольного біта (p1, p2...).
@@ -0,0 +1,509 @@
+package org.stepaniuk.laboratorywork.algorithms.bch;
+
+import org.stepaniuk.laboratorywork.algorithms.AbstractWordArrayCode;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Двійковий примітивний код БЧХ з виправленням до t помилок у слові
+ * (за потреби - укорочений до заданої кількості інформаційних біт).
+ * <p>
+ * Породжуючий поліном - добуток різних мінімальних поліномів
+ * alpha^1, alpha^3, ..., alpha^(2t-1) над GF(2^m). Код систематичний:
+ * біти [0, r) - контрольні (остача d(x) * x^r mod g(x)), біти [r, n) - дані.
+ * <p>
+ * Кодування - табличний LFSR, що обробляє 8 біт даних за крок (як CRC).
+ * Синдроми S_1, S_3, ... обчислюються за Горнером теж по 8 біт через таблиці
+ * сум степенів alpha, парні синдроми - як квадрати: S_2i = S_i^2.
+ * Далі - Берлекемп-Мессі та пошук Ченя; значення помилок у двійковому коді
+ * завжди 1, тож алгоритм Форні не потрібен.
+ */
+public class BchCode extends AbstractWordArrayCode {
+
+    public static final int MIN_M = 3;
+    public static final int MAX_M = GaloisField.MAX_M;
+
+    private static final int CHUNK = Byte.SIZE;
+
+    private final GaloisField field;
+    private final int m;
+    private final int t;
+    private final int n; // Довжина (можливо, укороченого) кодового слова
+    private final int k;
+    private final int r; // Степінь породжуючого полінома - кількість контрольних біт
+
+    private final int registerWords;
+    private final long[] generatorLow;  // g(x) без старшого члена x^r
+    private final long[] registerMask;  // Маска r біт регістра
+    private final long[] encoderTable;  // [byte * registerWords + w]: (byte(x) * x^r) mod g(x)
+    private final int[][] syndromeTables; // [i][byte] = сума alpha^((2i+1) * b) за бітами b байта
+    private final int[] syndromeSteps;    // alpha^(8 * (2i+1))
+
+    private volatile Map<Integer, List<Integer>> relationships; // Будується при першому запиті
+
+    /**
+     * Повний (неукорочений) код довжини 2^m - 1.
+     *
+     * @param m Степінь поля (3..16).
+     * @param t Кількість помилок, що виправляються.
+     */
+    public BchCode(int m, int t) {
+        this(m, t, -1);
+    }
+
+    /**
+     * Код, укорочений до {@code k} інформаційних біт.
+     */
+    public BchCode(int m, int t, int k) {
+        if (m < MIN_M || m > MAX_M) {
+            throw new IllegalArgumentException("Степінь поля 'm' має бути в межах " + MIN_M + ".." + MAX_M + ".");
+        }
+        if (t <= 0) {
+            throw new IllegalArgumentException("Кількість помилок 't' має бути > 0");
+        }
+        this.field = new GaloisField(m);
+        this.m = m;
+        this.t = t;
+
+        BitSet generator = buildGenerator();
+        this.r = generator.length() - 1;
+        int fullK = field.order - r;
+        if (fullK <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Код БЧХ з m = %d не може виправляти %d помилок.", m, t));
+        }
+        if (k > fullK) {
+            throw new IllegalArgumentException(String.format(
+                    "Для m = %d, t = %d можна мати не більше %d інформаційних біт.", m, t, fullK));
+        }
+        this.k = (k <= 0) ? fullK : k;
+        this.n = this.k + r;
+
+        this.registerWords = BitWords.wordCount(r);
+        this.generatorLow = new long[registerWords];
+        for (int i = generator.nextSetBit(0); i >= 0 && i < r; i = generator.nextSetBit(i + 1)) {
+            BitWords.flipBit(generatorLow, i);
+        }
+        this.registerMask = new long[registerWords];
+        for (int w = 0; w < registerWords; w++) {
+            int bits = Math.min(Long.SIZE, r - w * Long.SIZE);
+            registerMask[w] = (bits == Long.SIZE) ? -1L : (1L << bits) - 1;
+        }
+        this.encoderTable = buildEncoderTable();
+        this.syndromeTables = new int[t][];
+        this.syndromeSteps = new int[t];
+        buildSyndromeTables();
+    }
+
+    /**
+     * Найкоротший код з не менш ніж {@code k} інформаційними бітами,
+     * що виправляє {@code t} помилок (укорочений до рівно {@code k} біт).
+     */
+    public static BchCode forDataLength(int k, int t) {
+        for (int m = MIN_M; m <= MAX_M; m++) {
+            GaloisField field = new GaloisField(m);
+            if (field.order - parityBits(field, t) >= k) {
+                return new BchCode(m, t, k);
+            }
+        }
+        throw new IllegalArgumentException(String.format(
+                "Немає коду БЧХ з k = %d та t = %d (макс. m = %d).", k, t, MAX_M));
+    }
+
+    /**
+     * Кількість контрольних біт - сума розмірів різних циклотомічних класів 1, 3, ..., 2t-1.
+     */
+    private static int parityBits(GaloisField field, int t) {
+        BitSet covered = new BitSet(field.order);
+        int bits = 0;
+        for (int i = 1; i <= 2 * t - 1 && i < field.order; i += 2) {
+            for (int c = i; !covered.get(c); c = (c * 2) % field.order) {
+                covered.set(c);
+                bits++;
+            }
+        }
+        return bits;
+    }
+
+    // --- Побудова ---
+
+    /**
+     * g(x) = НСК мінімальних поліномів alpha^1, alpha^3, ..., alpha^(2t-1).
+     * Біт j - коефіцієнт при x^j.
+     */
+    private BitSet buildGenerator() {
+        BitSet generator = new BitSet();
+        generator.set(0);
+        BitSet covered = new BitSet(field.order);
+        for (int i = 1; i <= 2 * t - 1 && i < field.order; i += 2) {
+            if (!covered.get(i)) {
+                generator = multiply(generator, minimalPolynomial(i, covered));
+            }
+        }
+        return generator;
+    }
+
+    /**
+     * Мінімальний поліном alpha^i: добуток (x - alpha^c) за циклотомічним класом c = i * 2^j.
+     * Коефіцієнти результату - 0 або 1.
+     */
+    private long minimalPolynomial(int i, BitSet covered) {
+        int[] polynomial = {1}; // Від молодшого коефіцієнта
+        for (int c = i; !covered.get(c); c = (c * 2) % field.order) {
+            covered.set(c);
+            int root = field.alphaPower(c);
+            int[] next = new int[polynomial.length + 1];
+            for (int j = 0; j < polynomial.length; j++) {
+                next[j + 1] ^= polynomial[j];
+                next[j] ^= field.multiply(polynomial[j], root);
+            }
+            polynomial = next;
+        }
+        long binary = 0;
+        for (int j = 0; j < polynomial.length; j++) {
+            if (polynomial[j] > 1) {
+                throw new IllegalStateException("Мінімальний поліном має недвійкові коефіцієнти.");
+            }
+            binary |= (long) polynomial[j] << j;
+        }
+        return binary;
+    }
+
+    private static BitSet multiply(BitSet a, long b) {
+        BitSet product = new BitSet();
+        for (int j = 0; j < Long.SIZE; j++) {
+            if (((b >>> j) & 1) != 0) {
+                for (int i = a.nextSetBit(0); i >= 0; i = a.nextSetBit(i + 1)) {
+                    product.flip(i + j);
+                }
+            }
+        }
+        return product;
+    }
+
+    /**
+     * Рядок таблиці для байта b - остача (b(x) * x^r) mod g(x), отримана побітовим LFSR.
+     */
+    private long[] buildEncoderTable() {
+        long[] table = new long[256 * registerWords];
+        long[] register = new long[registerWords];
+        for (int value = 0; value < 256; value++) {
+            Arrays.fill(register, 0);
+            for (int bit = CHUNK - 1; bit >= 0; bit--) {
+                shiftInBit(register, (value >>> bit) & 1);
+            }
+            System.arraycopy(register, 0, table, value * registerWords, registerWords);
+        }
+        return table;
+    }
+
+    private void buildSyndromeTables() {
+        for (int i = 0; i < t; i++) {
+            int power = 2 * i + 1;
+            int[] table = new int[256];
+            for (int value = 1; value < 256; value++) {
+                int lowest = Integer.numberOfTrailingZeros(value);
+                table[value] = table[value & (value - 1)] ^ field.alphaPower(power * lowest);
+            }
+            syndromeTables[i] = table;
+            syndromeSteps[i] = field.alphaPower(power * CHUNK);
+        }
+    }
+
+    // --- Властивості ---
+
+    @Override
+    public String getName() {
+        return String.format("БЧХ (%d, %d), t = %d", n, k, t);
+    }
+
+    @Override
+    public int getDataWordLength() {
+        return k;
+    }
+
+    @Override
+    public int getCodeWordLength() {
+        return n;
+    }
+
+    public int getCorrectableErrors() {
+        return t;
+    }
+
+    public int getFieldDegree() {
+        return m;
+    }
+
+    /**
+     * Групи контрольних біт: контрольний біт i залежить від біта даних j,
+     * якщо x^(r+j) mod g(x) містить x^i.
+     */
+    @Override
+    public Map<Integer, List<Integer>> getBitRelationships() {
+        Map<Integer, List<Integer>> rel = relationships;
+        if (rel == null) {
+            rel = buildRelationships();
+            relationships = rel;
+        }
+        return rel;
+    }
+
+    private Map<Integer, List<Integer>> buildRelationships() {
+        List<List<Integer>> groups = new ArrayList<>(r);
+        for (int i = 0; i < r; i++) {
+            List<Integer> group = new ArrayList<>();
+            group.add(i);
+            groups.add(group);
+        }
+        long[] column = generatorLow.clone(); // x^r mod g(x)
+        for (int j = 0; j < k; j++) {
+            for (int i = 0; i < r; i++) {
+                if (BitWords.getBit(column, i)) {
+                    groups.get(i).add(r + j);
+                }
+            }
+            multiplyByX(column);
+        }
+        Map<Integer, List<Integer>> rel = new HashMap<>();
+        for (int i = 0; i < r; i++) {
+            rel.put(i, List.copyOf(groups.get(i)));
+        }
+        return Map.copyOf(rel);
+    }
+
+    // --- LFSR ---
+
+    /**
+     * register = register * x mod g(x)
+     */
+    private void multiplyByX(long[] register) {
+        boolean overflow = BitWords.getBit(register, r - 1);
+        shiftLeft(register, 1);
+        if (overflow) {
+            xorInto(register, generatorLow, 0);
+        }
+    }
+
+    /**
+     * Побітовий крок LFSR: вхідний біт додається до старшого біта регістра.
+     */
+    private void shiftInBit(long[] register, int bit) {
+        boolean feedback = BitWords.getBit(register, r - 1) ^ (bit != 0);
+        shiftLeft(register, 1);
+        if (feedback) {
+            xorInto(register, generatorLow, 0);
+        }
+    }
+
+    private void shiftLeft(long[] register, int bits) {
+        for (int w = registerWords - 1; w > 0; w--) {
+            register[w] = (register[w] << bits) | (register[w - 1] >>> (Long.SIZE - bits));
+        }
+        register[0] <<= bits;
+        for (int w = 0; w < registerWords; w++) {
+            register[w] &= registerMask[w];
+        }
+    }
+
+    private void xorInto(long[] register, long[] source, int offset) {
+        for (int w = 0; w < registerWords; w++) {
+            register[w] ^= source[offset + w];
+        }
+    }
+
+    /**
+     * Остача d(x) * x^r mod g(x): спочатку "зайві" старші біти побітово,
+     * далі - по байту за крок через таблицю.
+     */
+    private void remainder(long[] dataWords, long[] register) {
+        Arrays.fill(register, 0);
+        int fullChunks = k / CHUNK;
+        for (int bit = k - 1; bit >= fullChunks * CHUNK; bit--) {
+            shiftInBit(register, BitWords.getBit(dataWords, bit) ? 1 : 0);
+        }
+        if (r < CHUNK) {
+            for (int bit = fullChunks * CHUNK - 1; bit >= 0; bit--) {
+                shiftInBit(register, BitWords.getBit(dataWords, bit) ? 1 : 0);
+            }
+            return;
+        }
+        if (registerWords == 1) {
+            // Регістр у локальній змінній: один зсув, один XOR на байт
+            long mask = registerMask[0];
+            int topShift = r - CHUNK;
+            long value = register[0];
+            for (int c = fullChunks - 1; c >= 0; c--) {
+                int index = (int) (((value >>> topShift) ^ (dataWords[c >>> 3] >>> ((c & 7) * CHUNK))) & 0xFF);
+                value = ((value << CHUNK) & mask) ^ encoderTable[index];
+            }
+            register[0] = value;
+            return;
+        }
+        for (int c = fullChunks - 1; c >= 0; c--) {
+            long data = dataWords[c >>> 3] >>> ((c & 7) * CHUNK);
+            int index = (int) ((BitWords.getBits(register, r - CHUNK, CHUNK) ^ data) & 0xFF);
+            shiftLeft(register, CHUNK);
+            xorInto(register, encoderTable, index * registerWords);
+        }
+    }
+
+    // --- API над масивами слів ---
+
+    @Override
+    public void encodeWords(long[] dataWords, long[] codeWords) {
+        long[] register = new long[registerWords];
+        remainder(dataWords, register);
+        BitWords.copyBits(register, 0, codeWords, 0, r);
+        BitWords.copyBits(dataWords, 0, codeWords, r, k);
+    }
+
+    /**
+     * Непарні синдроми, зсунуті циклічно й об'єднані через OR,
+     * тож значення ненульове тоді й лише тоді, коли слово пошкоджене.
+     */
+    @Override
+    public long syndromeWords(long[] codeWords) {
+        int[] syndromes = new int[2 * t];
+        computeSyndromes(codeWords, syndromes);
+        long folded = 0;
+        for (int i = 0; i < t; i++) {
+            folded |= Long.rotateLeft(syndromes[2 * i], i * m);
+        }
+        return folded;
+    }
+
+    /**
+     * @return Кількість виправлених біт або {@link #UNCORRECTABLE}.
+     */
+    @Override
+    public int correctWords(long[] codeWords) {
+        int[] syndromes = new int[2 * t];
+        if (!computeSyndromes(codeWords, syndromes)) {
+            return 0;
+        }
+        int[] locator = new int[2 * t + 1];
+        int errors = berlekampMassey(syndromes, locator);
+        if (errors > t) {
+            return UNCORRECTABLE;
+        }
+        int[] positions = new int[errors];
+        if (chienSearch(locator, errors, positions) != errors) {
+            return UNCORRECTABLE;
+        }
+        for (int position : positions) {
+            BitWords.flipBit(codeWords, position);
+        }
+        return errors;
+    }
+
+    @Override
+    public void extractDataWords(long[] codeWords, long[] dataWords) {
+        BitWords.copyBits(codeWords, r, dataWords, 0, k);
+    }
+
+    // --- Декодування ---
+
+    /**
+     * syndromes[i] = S_(i+1) = c(alpha^(i+1)).
+     *
+     * @return true, якщо хоча б один синдром ненульовий.
+     */
+    private boolean computeSyndromes(long[] codeWords, int[] syndromes) {
+        int topChunk = (n - 1) / CHUNK;
+        int topBits = n - topChunk * CHUNK;
+        int any = 0;
+        for (int i = 0; i < t; i++) {
+            int[] table = syndromeTables[i];
+            int stepLog = field.log[syndromeSteps[i]];
+            int s = table[(int) ((codeWords[topChunk >>> 3] >>> ((topChunk & 7) * CHUNK)) & ((1 << topBits) - 1))];
+            for (int c = topChunk - 1; c >= 0; c--) {
+                int value = (int) ((codeWords[c >>> 3] >>> ((c & 7) * CHUNK)) & 0xFF);
+                s = ((s == 0) ? 0 : field.exp[field.log[s] + stepLog]) ^ table[value];
+            }
+            syndromes[2 * i] = s;
+            any |= s;
+        }
+        for (int i = 1; 2 * i - 1 < 2 * t; i++) {
+            syndromes[2 * i - 1] = field.multiply(syndromes[i - 1], syndromes[i - 1]); // S_2i = S_i^2
+        }
+        return any != 0;
+    }
+
+    /**
+     * Алгоритм Берлекемпа-Мессі над GF(2^m).
+     *
+     * @return Кількість помилок (степінь полінома локаторів).
+     */
+    private int berlekampMassey(int[] syndromes, int[] locator) {
+        int size = locator.length;
+        int[] previous = new int[size];
+        int[] scratch = new int[size];
+        locator[0] = 1;
+        previous[0] = 1;
+        int length = 0;
+        int shift = 1;
+        int previousDiscrepancy = 1;
+
+        for (int step = 0; step < 2 * t; step++) {
+            int discrepancy = syndromes[step];
+            for (int i = 1; i <= length; i++) {
+                discrepancy ^= field.multiply(locator[i], syndromes[step - i]);
+            }
+            if (discrepancy == 0) {
+                shift++;
+                continue;
+            }
+            int factor = field.divide(discrepancy, previousDiscrepancy);
+            boolean lengthChanges = 2 * length <= step;
+            if (lengthChanges) {
+                System.arraycopy(locator, 0, scratch, 0, size);
+            }
+            for (int i = 0; i + shift < size; i++) {
+                locator[i + shift] ^= field.multiply(factor, previous[i]);
+            }
+            if (lengthChanges) {
+                length = step + 1 - length;
+                System.arraycopy(scratch, 0, previous, 0, size);
+                previousDiscrepancy = discrepancy;
+                shift = 1;
+            } else {
+                shift++;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Пошук Ченя: біт j пошкоджений, якщо locator(alpha^(-j)) = 0.
+     *
+     * @return Кількість знайдених коренів у межах слова (-1, якщо їх забагато).
+     */
+    private int chienSearch(int[] locator, int degree, int[] positions) {
+        int[] terms = Arrays.copyOf(locator, degree + 1);
+        int found = 0;
+        for (int position = 0; position < n; position++) {
+            int sum = 0;
+            for (int j = 0; j <= degree; j++) {
+                sum ^= terms[j];
+            }
+            if (sum == 0) {
+                if (found == degree) {
+                    return -1;
+                }
+                positions[found++] = position;
+            }
+            for (int j = 1; j <= degree; j++) {
+                int term = terms[j];
+                terms[j] = (term == 0) ? 0 : field.exp[field.log[term] + field.order - j]; // * alpha^(-j)
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,61 @@
+package org.stepaniuk.laboratorywork.algorithms.bch;
+
+/**
+ * Арифметика поля Галуа GF(2^m), 2 <= m <= 16, через таблиці
+ * логарифмів/антилогарифмів. Примітивний елемент alpha = x.
+ */
+final class GaloisField {
+
+    static final int MIN_M = 2;
+    static final int MAX_M = 16;
+
+    // Примітивні поліноми x^m + ... (індекс - m)
+    private static final int[] PRIMITIVE_POLYNOMIALS = {
+            0, 0, 0x7, 0xB, 0x13, 0x25, 0x43, 0x89, 0x11D,
+            0x211, 0x409, 0x805, 0x1053, 0x201B, 0x4443, 0x8003, 0x1100B
+    };
+
+    final int m;
+    final int order;  // 2^m - 1 (кількість ненульових елементів)
+    final int[] exp;  // alpha^i, подвоєна, щоб не брати модуль
+    final int[] log;  // log[0] не визначений
+
+    GaloisField(int m) {
+        if (m < MIN_M || m > MAX_M) {
+            throw new IllegalArgumentException("Степінь поля 'm' має бути в межах " + MIN_M + ".." + MAX_M + ".");
+        }
+        this.m = m;
+        this.order = (1 << m) - 1;
+        this.exp = new int[2 * order];
+        this.log = new int[order + 1];
+
+        int x = 1;
+        for (int i = 0; i < order; i++) {
+            exp[i] = x;
+            log[x] = i;
+            x <<= 1;
+            if ((x >>> m) != 0) {
+                x ^= PRIMITIVE_POLYNOMIALS[m];
+            }
+        }
+        System.arraycopy(exp, 0, exp, order, order);
+    }
+
+    int multiply(int a, int b) {
+        return (a == 0 || b == 0) ? 0 : exp[log[a] + log[b]];
+    }
+
+    int divide(int a, int b) {
+        if (b == 0) {
+            throw new ArithmeticException("Ділення на нуль у GF(2^" + m + ")");
+        }
+        return (a == 0) ? 0 : exp[log[a] + order - log[b]];
+    }
+
+    /**
+     * alpha^power для будь-якого цілого power.
+     */
+    int alphaPower(int power) {
+        return exp[Math.floorMod(power, order)];
+    }
+}
@@ -0,0 +1,252 @@
+package org.stepaniuk.laboratorywork.algorithms.codegen;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Мінімальний запис class-файлу: пул констант, методи з атрибутом Code.
+ * <p>
+ * Підтримує лише лінійний код без переходів - тоді атрибут StackMapTable
+ * не потрібен навіть для сучасних версій формату.
+ */
+final class ClassFileWriter {
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+
+    private static final int CLASS_FILE_VERSION = 65; // Java 21
+
+    private static final int TAG_UTF8 = 1;
+    private static final int TAG_LONG = 5;
+    private static final int TAG_CLASS = 7;
+    private static final int TAG_METHODREF = 10;
+    private static final int TAG_NAME_AND_TYPE = 12;
+
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+    private final Map<String, Integer> poolIndex = new HashMap<>();
+    private int poolCount = 1;
+    private final List<byte[]> methods = new ArrayList<>();
+    private final int codeAttributeName;
+
+    ClassFileWriter() {
+        this.codeAttributeName = utf8("Code");
+    }
+
+    // --- Пул констант ---
+
+    int utf8(String value) {
+        return constant("U" + value, 1, out -> {
+            out.writeByte(TAG_UTF8);
+            out.writeUTF(value);
+        });
+    }
+
+    int classRef(String internalName) {
+        int name = utf8(internalName);
+        return constant("C" + internalName, 1, out -> {
+            out.writeByte(TAG_CLASS);
+            out.writeShort(name);
+        });
+    }
+
+    int methodRef(String owner, String name, String descriptor) {
+        int ownerIndex = classRef(owner);
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        int nameAndType = constant("N" + name + descriptor, 1, out -> {
+            out.writeByte(TAG_NAME_AND_TYPE);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+        });
+        return constant("M" + owner + "." + name + descriptor, 1, out -> {
+            out.writeByte(TAG_METHODREF);
+            out.writeShort(ownerIndex);
+            out.writeShort(nameAndType);
+        });
+    }
+
+    int longConstant(long value) {
+        return constant("J" + value, 2, out -> { // Константа long займає два слоти пулу
+            out.writeByte(TAG_LONG);
+            out.writeLong(value);
+        });
+    }
+
+    private int constant(String key, int slots, PoolEntry entry) {
+        Integer existing = poolIndex.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            entry.write(pool);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int index = poolCount;
+        poolCount += slots;
+        poolIndex.put(key, index);
+        return index;
+    }
+
+    @FunctionalInterface
+    private interface PoolEntry {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    // --- Методи ---
+
+    Code newCode() {
+        return new Code();
+    }
+
+    void method(int access, String name, String descriptor, int maxStack, int maxLocals, Code code) {
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        byte[] bytecode = code.bytes.toByteArray();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeShort(access);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+            out.writeShort(1); // Атрибути: лише Code
+            out.writeShort(codeAttributeName);
+            out.writeInt(12 + bytecode.length);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(bytecode.length);
+            out.write(bytecode);
+            out.writeShort(0); // Таблиця винятків
+            out.writeShort(0); // Атрибути Code
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        methods.add(bytes.toByteArray());
+    }
+
+    byte[] toByteArray(int access, String thisClass, String superClass, String... interfaces) {
+        int thisIndex = classRef(thisClass);
+        int superIndex = classRef(superClass);
+        int[] interfaceIndexes = new int[interfaces.length];
+        for (int i = 0; i < interfaces.length; i++) {
+            interfaceIndexes[i] = classRef(interfaces[i]);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_FILE_VERSION);
+            out.writeShort(poolCount);
+            out.write(poolBytes.toByteArray());
+            out.writeShort(access);
+            out.writeShort(thisIndex);
+            out.writeShort(superIndex);
+            out.writeShort(interfaceIndexes.length);
+            for (int index : interfaceIndexes) {
+                out.writeShort(index);
+            }
+            out.writeShort(0); // Поля
+            out.writeShort(methods.size());
+            for (byte[] method : methods) {
+                out.write(method);
+            }
+            out.writeShort(0); // Атрибути класу
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Байт-код методу. Лише інструкції, потрібні генератору.
+     */
+    final class Code {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        Code aload0() {
+            return op(0x2A);
+        }
+
+        Code lload(int slot) {
+            bytes.write(0x16);
+            bytes.write(slot);
+            return this;
+        }
+
+        Code lstore(int slot) {
+            bytes.write(0x37);
+            bytes.write(slot);
+            return this;
+        }
+
+        /**
+         * Завантажує константу long найкоротшою інструкцією.
+         */
+        Code lconst(long value) {
+            if (value == 0 || value == 1) {
+                return op(0x09 + (int) value); // lconst_0, lconst_1
+            }
+            int index = longConstant(value);
+            bytes.write(0x14); // ldc2_w
+            bytes.write(index >>> 8);
+            bytes.write(index);
+            return this;
+        }
+
+        /**
+         * Завантажує int з діапазону байта (величини зсувів).
+         */
+        Code iconst(int value) {
+            if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Значення поза діапазоном bipush: " + value);
+            }
+            bytes.write(0x10); // bipush
+            bytes.write(value);
+            return this;
+        }
+
+        Code invokestatic(String owner, String name, String descriptor) {
+            return invoke(0xB8, owner, name, descriptor);
+        }
+
+        Code invokespecial(String owner, String name, String descriptor) {
+            return invoke(0xB7, owner, name, descriptor);
+        }
+
+        private Code invoke(int opcode, String owner, String name, String descriptor) {
+            int index = methodRef(owner, name, descriptor);
+            bytes.write(opcode);
+            bytes.write(index >>> 8);
+            bytes.write(index);
+            return this;
+        }
+
+        Code op(int opcode) {
+            bytes.write(opcode);
+            return this;
+        }
+    }
+
+    // Коди операцій без операндів
+    static final int ICONST_1 = 0x04;
+    static final int IAND = 0x7E;
+    static final int I2L = 0x85;
+    static final int L2I = 0x88;
+    static final int LAND = 0x7F;
+    static final int LOR = 0x81;
+    static final int LXOR = 0x83;
+    static final int LSHL = 0x79;
+    static final int LUSHR = 0x7D;
+    static final int LSUB = 0x65;
+    static final int LNEG = 0x75;
+    static final int LRETURN = 0xAD;
+    static final int RETURN = 0xB1;
+}
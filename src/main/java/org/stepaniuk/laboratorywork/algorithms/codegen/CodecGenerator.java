@@ -0,0 +1,301 @@
+package org.stepaniuk.laboratorywork.algorithms.codegen;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.stepaniuk.laboratorywork.algorithms.codegen.ClassFileWriter.*;
+
+/**
+ * Генератор спеціалізованих кодеків: для заданої перевірочної матриці H
+ * будується байт-код класу, у якому цикли по рядках матриці та відрізках даних
+ * розгорнуті, а маски й зсуви вписані як константи. Клас визначається
+ * як прихований ({@link MethodHandles.Lookup#defineHiddenClass}), тож JIT
+ * вбудовує його методи так само, як написаний вручну кодек (7, 4).
+ * <p>
+ * Рядок i матриці - маска біт, що входять до i-ї перевірки. Контрольний біт
+ * рядка - найменший стовпець, що входить лише до цього рядка; решта стовпців -
+ * дані у порядку зростання індексів. Синдром - біт i для i-го рядка.
+ * Якщо стовпець j матриці дорівнює j + 1 (як у коді Гемінга), виправлення -
+ * зсув одиниці на (синдром - 1); інакше синдром порівнюється з кожним стовпцем
+ * без розгалужень. Нульові та повторювані стовпці не виправляються.
+ * <p>
+ * Кодеки кешуються за матрицею, тож повторний запит не визначає новий клас.
+ */
+public final class CodecGenerator {
+
+    private static final String PACKAGE = "org/stepaniuk/laboratorywork/algorithms/codegen/";
+    private static final String CLASS_NAME = PACKAGE + "GeneratedCodecImpl";
+    private static final String INTERFACE_NAME = PACKAGE + "GeneratedCodec";
+
+    private static final Map<Matrix, GeneratedCodec> CACHE = new ConcurrentHashMap<>();
+
+    // Локальні змінні згенерованих методів (long займає два слоти)
+    private static final int ARGUMENT = 1;
+    private static final int ACCUMULATOR = 3;
+    private static final int FIX = 5;
+    private static final int MAX_STACK = 8;
+    private static final int MAX_LOCALS = 7;
+
+    private CodecGenerator() {
+    }
+
+    /**
+     * Повертає кодек для перевірочної матриці з рядками {@code checkRows} над n бітами.
+     *
+     * @throws IllegalArgumentException якщо n > 64 або в рядка немає власного контрольного біта.
+     */
+    public static GeneratedCodec forMatrix(int n, long[] checkRows) {
+        Matrix matrix = new Matrix(n, checkRows.clone());
+        GeneratedCodec codec = CACHE.get(matrix);
+        if (codec == null) {
+            codec = CACHE.computeIfAbsent(matrix, CodecGenerator::define);
+        }
+        return codec;
+    }
+
+    /**
+     * Кількість згенерованих класів.
+     */
+    public static int cachedCount() {
+        return CACHE.size();
+    }
+
+    private static GeneratedCodec define(Matrix matrix) {
+        byte[] bytes = generate(new Layout(matrix.n(), matrix.rows()));
+        try {
+            MethodHandles.Lookup hidden = MethodHandles.lookup().defineHiddenClass(bytes, true);
+            return (GeneratedCodec) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class))
+                    .invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Не вдалося визначити згенерований кодек.", e);
+        }
+    }
+
+    // --- Байт-код ---
+
+    static byte[] generate(Layout layout) {
+        ClassFileWriter writer = new ClassFileWriter();
+
+        ClassFileWriter.Code init = writer.newCode()
+                .aload0()
+                .invokespecial("java/lang/Object", "<init>", "()V")
+                .op(RETURN);
+        writer.method(ACC_PUBLIC, "<init>", "()V", 1, 1, init);
+
+        writer.method(ACC_PUBLIC, "encode", "(J)J", MAX_STACK, MAX_LOCALS, encode(writer, layout));
+        writer.method(ACC_PUBLIC, "syndrome", "(J)J", MAX_STACK, MAX_LOCALS,
+                syndrome(writer.newCode(), layout).lload(ACCUMULATOR).op(LRETURN));
+        writer.method(ACC_PUBLIC, "correct", "(J)J", MAX_STACK, MAX_LOCALS, correct(writer, layout));
+        writer.method(ACC_PUBLIC, "extract", "(J)J", MAX_STACK, MAX_LOCALS, extract(writer, layout));
+
+        return writer.toByteArray(ACC_PUBLIC | ACC_FINAL | ACC_SUPER, CLASS_NAME, "java/lang/Object", INTERFACE_NAME);
+    }
+
+    /**
+     * word = дані, розставлені відрізками; далі word |= parity(word & рядок_i) << контрольний_біт_i.
+     */
+    private static ClassFileWriter.Code encode(ClassFileWriter writer, Layout layout) {
+        ClassFileWriter.Code code = writer.newCode().lconst(0).lstore(ACCUMULATOR);
+        for (Run run : layout.runs) {
+            code.lload(ACCUMULATOR).lload(ARGUMENT);
+            shiftRight(code, run.dataShift);
+            code.lconst(run.mask()).op(LAND);
+            shiftLeft(code, run.codeShift);
+            code.op(LOR).lstore(ACCUMULATOR);
+        }
+        for (int i = 0; i < layout.rows.length; i++) {
+            code.lload(ACCUMULATOR);
+            parity(code, ACCUMULATOR, layout.rows[i]);
+            shiftLeft(code, layout.parityPositions[i]);
+            code.op(LOR).lstore(ACCUMULATOR);
+        }
+        return code.lload(ACCUMULATOR).op(LRETURN);
+    }
+
+    /**
+     * Синдром аргументу - у локальну змінну ACCUMULATOR.
+     */
+    private static ClassFileWriter.Code syndrome(ClassFileWriter.Code code, Layout layout) {
+        code.lconst(0).lstore(ACCUMULATOR);
+        for (int i = 0; i < layout.rows.length; i++) {
+            code.lload(ACCUMULATOR);
+            parity(code, ARGUMENT, layout.rows[i]);
+            shiftLeft(code, i);
+            code.op(LOR).lstore(ACCUMULATOR);
+        }
+        return code;
+    }
+
+    private static ClassFileWriter.Code correct(ClassFileWriter writer, Layout layout) {
+        ClassFileWriter.Code code = syndrome(writer.newCode(), layout);
+        if (layout.positional) {
+            // fix = (1 << (s - 1)) & -(((s - 1 - n) & -s) >>> 63): ненульовий лише для 1 <= s <= n
+            code.lconst(1)
+                    .lload(ACCUMULATOR).lconst(1).op(LSUB).op(L2I).op(LSHL)
+                    .lload(ACCUMULATOR).lconst(1).op(LSUB).lconst(layout.n).op(LSUB)
+                    .lload(ACCUMULATOR).op(LNEG).op(LAND)
+                    .iconst(63).op(LUSHR).op(LNEG).op(LAND);
+        } else {
+            // fix |= (((s ^ стовпець_j) - 1) >>> 63) << j: одиниця лише при збігу
+            code.lconst(0).lstore(FIX);
+            for (int j = 0; j < layout.n; j++) {
+                if (!layout.correctable[j]) {
+                    continue;
+                }
+                code.lload(FIX)
+                        .lload(ACCUMULATOR).lconst(layout.columns[j]).op(LXOR).lconst(1).op(LSUB)
+                        .iconst(63).op(LUSHR);
+                shiftLeft(code, j);
+                code.op(LOR).lstore(FIX);
+            }
+            code.lload(FIX);
+        }
+        return code.lload(ARGUMENT).op(LXOR).op(LRETURN);
+    }
+
+    private static ClassFileWriter.Code extract(ClassFileWriter writer, Layout layout) {
+        ClassFileWriter.Code code = writer.newCode().lconst(0).lstore(ACCUMULATOR);
+        for (Run run : layout.runs) {
+            code.lload(ACCUMULATOR).lload(ARGUMENT);
+            shiftRight(code, run.codeShift);
+            code.lconst(run.mask()).op(LAND);
+            shiftLeft(code, run.dataShift);
+            code.op(LOR).lstore(ACCUMULATOR);
+        }
+        return code.lload(ACCUMULATOR).op(LRETURN);
+    }
+
+    /**
+     * Кладе на стек (long) (Long.bitCount(local & mask) & 1).
+     */
+    private static void parity(ClassFileWriter.Code code, int local, long mask) {
+        code.lload(local).lconst(mask).op(LAND)
+                .invokestatic("java/lang/Long", "bitCount", "(J)I")
+                .op(ICONST_1).op(IAND).op(I2L);
+    }
+
+    private static void shiftLeft(ClassFileWriter.Code code, int shift) {
+        if (shift != 0) {
+            code.iconst(shift).op(LSHL);
+        }
+    }
+
+    private static void shiftRight(ClassFileWriter.Code code, int shift) {
+        if (shift != 0) {
+            code.iconst(shift).op(LUSHR);
+        }
+    }
+
+    // --- Розбір матриці ---
+
+    /**
+     * Ключ кешу: рядки порівнюються за вмістом.
+     */
+    private record Matrix(int n, long[] rows) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Matrix matrix && n == matrix.n && Arrays.equals(rows, matrix.rows);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * n + Arrays.hashCode(rows);
+        }
+    }
+
+    /**
+     * Суцільний відрізок даних: {@code length} біт з позиції dataShift даних
+     * на позицію codeShift кодового слова.
+     */
+    private record Run(int dataShift, int codeShift, int length) {
+
+        long mask() {
+            return (length == Long.SIZE) ? -1L : (1L << length) - 1;
+        }
+    }
+
+    static final class Layout {
+
+        final int n;
+        final long[] rows;
+        final int[] parityPositions;
+        final List<Run> runs = new ArrayList<>();
+        final long[] columns;        // Синдром одиночної помилки в кожній позиції
+        final boolean[] correctable; // Стовпець ненульовий і єдиний
+        final boolean positional;    // Стовпець j дорівнює j + 1
+
+        Layout(int n, long[] rows) {
+            if (n <= 0 || n > Long.SIZE) {
+                throw new IllegalArgumentException("Довжина кодового слова має бути від 1 до " + Long.SIZE + ".");
+            }
+            if (rows.length == 0 || rows.length >= n) {
+                throw new IllegalArgumentException("Кількість перевірок має бути від 1 до n - 1.");
+            }
+            this.n = n;
+            this.rows = rows;
+            this.columns = new long[n];
+            for (int i = 0; i < rows.length; i++) {
+                if (n < Long.SIZE && (rows[i] >>> n) != 0) {
+                    throw new IllegalArgumentException("Рядок " + i + " перевірочної матриці виходить за межі слова.");
+                }
+                for (int j = 0; j < n; j++) {
+                    columns[j] |= ((rows[i] >>> j) & 1) << i;
+                }
+            }
+
+            this.parityPositions = new int[rows.length];
+            long parityMask = 0;
+            for (int i = 0; i < rows.length; i++) {
+                int position = -1;
+                for (int j = 0; j < n && position < 0; j++) {
+                    if (columns[j] == (1L << i)) {
+                        position = j;
+                    }
+                }
+                if (position < 0) {
+                    throw new IllegalArgumentException(
+                            "Рядок " + i + " перевірочної матриці не має власного контрольного біта.");
+                }
+                parityPositions[i] = position;
+                parityMask |= 1L << position;
+            }
+
+            int dataBit = 0;
+            for (int j = 0; j < n; j++) {
+                if (((parityMask >>> j) & 1) != 0) {
+                    continue;
+                }
+                Run last = runs.isEmpty() ? null : runs.get(runs.size() - 1);
+                if (last != null && last.codeShift + last.length == j) {
+                    runs.set(runs.size() - 1, new Run(last.dataShift, last.codeShift, last.length + 1));
+                } else {
+                    runs.add(new Run(dataBit, j, 1));
+                }
+                dataBit++;
+            }
+
+            this.correctable = new boolean[n];
+            Set<Long> seen = new HashSet<>();
+            Set<Long> repeated = new HashSet<>();
+            for (long column : columns) {
+                if (!seen.add(column)) {
+                    repeated.add(column);
+                }
+            }
+            boolean allPositional = true;
+            for (int j = 0; j < n; j++) {
+                correctable[j] = columns[j] != 0 && !repeated.contains(columns[j]);
+                allPositional &= columns[j] == j + 1;
+            }
+            this.positional = allPositional;
+        }
+    }
+}
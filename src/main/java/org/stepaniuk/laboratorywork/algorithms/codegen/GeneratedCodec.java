@@ -0,0 +1,22 @@
+package org.stepaniuk.laboratorywork.algorithms.codegen;
+
+/**
+ * Кодек лінійного коду (n <= 64), згенерований під конкретну перевірочну матрицю.
+ * Семантика методів - як у бітово-упакованому API IErrorCorrectionCode.
+ * <p>
+ * Реалізації створює {@link CodecGenerator}: кожна - окремий прихований клас
+ * з лінійним кодом, у якому маски та зсуви є константами.
+ */
+public interface GeneratedCodec {
+
+    long encode(long dataBits);
+
+    long syndrome(long codeBits);
+
+    /**
+     * Інвертує біт, на який вказує синдром; слово з невиправним синдромом не змінюється.
+     */
+    long correct(long codeBits);
+
+    long extract(long codeBits);
+}
@@ -0,0 +1,214 @@
+package org.stepaniuk.laboratorywork.algorithms.convolutional;
+
+import org.stepaniuk.laboratorywork.algorithms.AbstractWordArrayCode;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Згортковий код у блоковому режимі: k інформаційних біт плюс K - 1 нульових
+ * біт завершення, тож кодове слово має N * (k + K - 1) біт і решітка починається
+ * й закінчується в нульовому стані. Символ кроку t займає біти [N*t, N*(t+1)).
+ * <p>
+ * Код не систематичний: виправлення - декодування Вітербі за максимальною
+ * правдоподібністю з повторним кодуванням. Декодер завжди обирає найближче
+ * кодове слово, тож невиправні помилки не виявляються, а дають інше слово.
+ * Для неперервних потоків див. {@link ConvolutionalEncoder} та {@link ViterbiDecoder}.
+ */
+public class ConvolutionalCode extends AbstractWordArrayCode {
+
+    /**
+     * Стандартний код K = 7 зі швидкістю 1/2 (твірні поліноми 171, 133 у вісімковій системі).
+     */
+    public static final int DEFAULT_CONSTRAINT_LENGTH = 7;
+    private static final int[] DEFAULT_GENERATORS = {0171, 0133};
+
+    private final Trellis trellis;
+    private final int k;
+    private final int steps;
+    private final int outputs;
+    private final int n;
+    private final Map<Integer, List<Integer>> relationships;
+
+    public ConvolutionalCode(int k) {
+        this(k, new Trellis(DEFAULT_CONSTRAINT_LENGTH, DEFAULT_GENERATORS));
+    }
+
+    public ConvolutionalCode(int k, Trellis trellis) {
+        int tail = trellis.getConstraintLength() - 1;
+        if (k <= 0 || (long) (k + tail) * trellis.getOutputsPerStep() > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Некоректна довжина інформаційного слова: " + k);
+        }
+        this.trellis = trellis;
+        this.k = k;
+        this.steps = k + tail;
+        this.outputs = trellis.getOutputsPerStep();
+        this.n = steps * outputs;
+        this.relationships = buildRelationships();
+    }
+
+    /**
+     * Група кроку t - біти кодового слова, на які впливає t-й вхідний біт
+     * (символи кроків t..t+K-1 з відповідними відводами); ключ - перший біт символу t.
+     */
+    private Map<Integer, List<Integer>> buildRelationships() {
+        int constraintLength = trellis.getConstraintLength();
+        int[] offsets = new int[constraintLength * outputs];
+        int size = 0;
+        for (int delay = 0; delay < constraintLength; delay++) {
+            for (int j = 0; j < outputs; j++) {
+                if (trellis.hasTap(j, delay)) {
+                    offsets[size++] = delay * outputs + j;
+                }
+            }
+        }
+        int[] pattern = Arrays.copyOf(offsets, size);
+        Map<Integer, List<Integer>> rel = new HashMap<>();
+        for (int t = 0; t < k; t++) {
+            rel.put(t * outputs, new InfluenceGroup(pattern, t * outputs));
+        }
+        return Collections.unmodifiableMap(rel);
+    }
+
+    @Override
+    public String getName() {
+        int[] generators = trellis.getGenerators();
+        StringBuilder polynomials = new StringBuilder();
+        for (int g : generators) {
+            polynomials.append((polynomials.length() == 0) ? "" : ", ").append(Integer.toOctalString(g));
+        }
+        return String.format("Згортковий код (%d, %d), K = %d [%s]", n, k, trellis.getConstraintLength(), polynomials);
+    }
+
+    @Override
+    public int getDataWordLength() {
+        return k;
+    }
+
+    @Override
+    public int getCodeWordLength() {
+        return n;
+    }
+
+    @Override
+    public Map<Integer, List<Integer>> getBitRelationships() {
+        return relationships;
+    }
+
+    public Trellis getTrellis() {
+        return trellis;
+    }
+
+    // --- API над масивами слів ---
+
+    @Override
+    public void encodeWords(long[] dataWords, long[] codeWords) {
+        ConvolutionalEncoder encoder = new ConvolutionalEncoder(trellis);
+        int written = encoder.encode(dataWords, 0, k, codeWords, 0);
+        encoder.terminate(codeWords, written);
+    }
+
+    /**
+     * Кількість біт, що не узгоджуються з решіткою, якщо вхід відновлювати
+     * за символами: 0 тоді й лише тоді, коли слово є кодовим.
+     */
+    @Override
+    public long syndromeWords(long[] codeWords) {
+        long[] data = new long[BitWords.wordCount(k)];
+        extractDataWords(codeWords, data);
+        long[] expected = new long[BitWords.wordCount(n)];
+        encodeWords(data, expected);
+        return distance(codeWords, expected);
+    }
+
+    /**
+     * Декодування Вітербі всього блоку з повторним кодуванням результату.
+     *
+     * @return Кількість біт, у яких отримане слово відрізняється від найближчого кодового.
+     */
+    @Override
+    public int correctWords(long[] codeWords) {
+        long[] data = new long[BitWords.wordCount(k)];
+        ViterbiDecoder decoder = ViterbiDecoder.forBlock(trellis, steps);
+        decoder.decode(codeWords, 0, steps, data, 0);
+        decoder.finish(true, data, 0);
+        long[] corrected = new long[BitWords.wordCount(n)];
+        encodeWords(data, corrected);
+        int distance = distance(codeWords, corrected);
+        System.arraycopy(corrected, 0, codeWords, 0, corrected.length);
+        return distance;
+    }
+
+    /**
+     * М'яке декодування Вітербі всього блоку.
+     *
+     * @return Кількість біт знайденого кодового слова, що відрізняються від жорсткого рішення.
+     */
+    @Override
+    public int decodeSoft(float[] llr, long[] codeWords) {
+        long[] data = new long[BitWords.wordCount(k)];
+        ViterbiDecoder decoder = ViterbiDecoder.forBlock(trellis, steps);
+        decoder.decodeSoft(llr, 0, steps, data, 0);
+        decoder.finish(true, data, 0);
+        encodeWords(data, codeWords);
+        return BitWords.countDisagreements(llr, n, codeWords);
+    }
+
+    /**
+     * Відновлює вхідні біти за поліномом з відводом від поточного входу.
+     * Для кодового слова це точна інверсія кодера.
+     */
+    @Override
+    public void extractDataWords(long[] codeWords, long[] dataWords) {
+        int state = 0;
+        for (int t = 0; t < k; t++) {
+            int symbol = (int) BitWords.getBits(codeWords, t * outputs, outputs);
+            int input = trellis.recoverInput(state, symbol);
+            BitWords.setBits(dataWords, t, 1, input);
+            state = trellis.nextState(state, input);
+        }
+    }
+
+    private int distance(long[] a, long[] b) {
+        int distance = 0;
+        int words = BitWords.wordCount(n);
+        for (int i = 0; i < words; i++) {
+            long diff = a[i] ^ b[i];
+            if (i == words - 1 && (n & 63) != 0) {
+                diff &= (1L << n) - 1;
+            }
+            distance += Long.bitCount(diff);
+        }
+        return distance;
+    }
+
+    /**
+     * Біти, на які впливає один вхідний біт: однаковий шаблон зсувів від початку символу.
+     */
+    private static final class InfluenceGroup extends AbstractList<Integer> implements RandomAccess {
+
+        private final int[] pattern;
+        private final int base;
+
+        InfluenceGroup(int[] pattern, int base) {
+            this.pattern = pattern;
+            this.base = base;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return base + pattern[index];
+        }
+
+        @Override
+        public int size() {
+            return pattern.length;
+        }
+    }
+}
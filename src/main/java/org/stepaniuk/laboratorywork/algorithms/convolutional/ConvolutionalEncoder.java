@@ -0,0 +1,57 @@
+package org.stepaniuk.laboratorywork.algorithms.convolutional;
+
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+
+/**
+ * Потоковий згортковий кодер: стан зберігається між викликами,
+ * тож потік можна подавати частинами довільної довжини.
+ */
+public final class ConvolutionalEncoder {
+
+    private final Trellis trellis;
+    private final int outputs;
+    private int state;
+
+    public ConvolutionalEncoder(Trellis trellis) {
+        this.trellis = trellis;
+        this.outputs = trellis.getOutputsPerStep();
+    }
+
+    /**
+     * Кодує {@code count} біт з {@code data}, починаючи з біта {@code fromBit}.
+     * Вихідні символи (по N біт) записуються в {@code out}, починаючи з біта {@code outPos}.
+     *
+     * @return Кількість записаних біт (count * N).
+     */
+    public int encode(long[] data, int fromBit, int count, long[] out, int outPos) {
+        int s = state;
+        for (int i = 0; i < count; i++) {
+            int input = BitWords.getBit(data, fromBit + i) ? 1 : 0;
+            BitWords.setBits(out, outPos + i * outputs, outputs, trellis.output(s, input));
+            s = trellis.nextState(s, input);
+        }
+        state = s;
+        return count * outputs;
+    }
+
+    /**
+     * Дописує K - 1 нульових вхідних біт, повертаючи кодер у нульовий стан
+     * (завершення решітки).
+     *
+     * @return Кількість записаних біт.
+     */
+    public int terminate(long[] out, int outPos) {
+        int tail = trellis.getConstraintLength() - 1;
+        int s = state;
+        for (int i = 0; i < tail; i++) {
+            BitWords.setBits(out, outPos + i * outputs, outputs, trellis.output(s, 0));
+            s = trellis.nextState(s, 0);
+        }
+        state = 0;
+        return tail * outputs;
+    }
+
+    public void reset() {
+        state = 0;
+    }
+}
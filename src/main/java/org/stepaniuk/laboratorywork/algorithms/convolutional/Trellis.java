@@ -0,0 +1,121 @@
+package org.stepaniuk.laboratorywork.algorithms.convolutional;
+
+/**
+ * Решітка згорткового коду зі швидкістю 1/N.
+ * <p>
+ * Регістр зсуву має довжину K (кодове обмеження): старший біт - поточний
+ * вхідний біт, молодші K - 1 біт - стан (попередні входи, найсвіжіший - біт K - 2).
+ * Вихідний біт j - парність {@code register & generators[j]}, тож твірні
+ * поліноми записуються у звичній вісімковій формі, напр. (171, 133) для K = 7.
+ */
+public final class Trellis {
+
+    public static final int MIN_CONSTRAINT_LENGTH = 2;
+    public static final int MAX_CONSTRAINT_LENGTH = 16;
+    public static final int MAX_OUTPUTS = 8;
+
+    private final int constraintLength;
+    private final int[] generators;
+    private final int stateCount;
+    private final int[] outputs; // Вихідний символ для кожного значення регістру
+    private final int dataGenerator;
+
+    /**
+     * @param constraintLength Кодове обмеження K.
+     * @param generators       Твірні поліноми (від 2 до {@value #MAX_OUTPUTS}), кожен менший за 2^K.
+     */
+    public Trellis(int constraintLength, int... generators) {
+        if (constraintLength < MIN_CONSTRAINT_LENGTH || constraintLength > MAX_CONSTRAINT_LENGTH) {
+            throw new IllegalArgumentException("Кодове обмеження має бути в межах "
+                    + MIN_CONSTRAINT_LENGTH + ".." + MAX_CONSTRAINT_LENGTH + ".");
+        }
+        if (generators.length < 2 || generators.length > MAX_OUTPUTS) {
+            throw new IllegalArgumentException("Потрібно від 2 до " + MAX_OUTPUTS + " твірних поліномів.");
+        }
+        int registerMask = (1 << constraintLength) - 1;
+        int inputTap = 1 << (constraintLength - 1);
+        int withInputTap = -1;
+        for (int j = 0; j < generators.length; j++) {
+            if (generators[j] <= 0 || (generators[j] & ~registerMask) != 0) {
+                throw new IllegalArgumentException("Твірний поліном " + Integer.toOctalString(generators[j])
+                        + " не відповідає кодовому обмеженню " + constraintLength + ".");
+            }
+            if (withInputTap < 0 && (generators[j] & inputTap) != 0) {
+                withInputTap = j;
+            }
+        }
+        if (withInputTap < 0) {
+            throw new IllegalArgumentException("Хоча б один твірний поліном має використовувати поточний вхідний біт.");
+        }
+        this.constraintLength = constraintLength;
+        this.generators = generators.clone();
+        this.stateCount = 1 << (constraintLength - 1);
+        this.dataGenerator = withInputTap;
+        this.outputs = new int[1 << constraintLength];
+        for (int register = 0; register < outputs.length; register++) {
+            int symbol = 0;
+            for (int j = 0; j < generators.length; j++) {
+                symbol |= (Integer.bitCount(register & generators[j]) & 1) << j;
+            }
+            outputs[register] = symbol;
+        }
+    }
+
+    public int getConstraintLength() {
+        return constraintLength;
+    }
+
+    /**
+     * Кількість вихідних біт на один вхідний (N).
+     */
+    public int getOutputsPerStep() {
+        return generators.length;
+    }
+
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    public int[] getGenerators() {
+        return generators.clone();
+    }
+
+    /**
+     * Вихідний символ (біт j - вихід j-го полінома) для вхідного біта {@code input} у стані {@code state}.
+     */
+    public int output(int state, int input) {
+        return outputs[register(state, input)];
+    }
+
+    /**
+     * Вихідні символи за повним значенням регістру (без копіювання; лише для читання).
+     */
+    int[] outputTable() {
+        return outputs;
+    }
+
+    public int nextState(int state, int input) {
+        return register(state, input) >>> 1;
+    }
+
+    private int register(int state, int input) {
+        return (input << (constraintLength - 1)) | state;
+    }
+
+    /**
+     * Відновлює вхідний біт за вихідним символом, знаючи попередній стан
+     * (через поліном, що використовує поточний вхід). Для символу, що не
+     * належить решітці, результат довільний.
+     */
+    int recoverInput(int state, int symbol) {
+        int expected = Integer.bitCount(state & generators[dataGenerator]) & 1;
+        return ((symbol >>> dataGenerator) & 1) ^ expected;
+    }
+
+    /**
+     * Чи впливає вхід, поданий {@code delay} кроків тому, на вихід {@code output}.
+     */
+    boolean hasTap(int output, int delay) {
+        return (generators[output] & (1 << (constraintLength - 1 - delay))) != 0;
+    }
+}
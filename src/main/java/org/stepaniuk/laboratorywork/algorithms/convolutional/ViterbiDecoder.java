@@ -0,0 +1,257 @@
+package org.stepaniuk.laboratorywork.algorithms.convolutional;
+
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+
+import java.util.Arrays;
+
+/**
+ * Потоковий декодер Вітербі з вікном зворотного проходу.
+ * <p>
+ * Метрики шляхів - масиви {@code int}, рішення кожного кроку (який із двох
+ * попередників вижив) - по одному біту на стан. Рішення зберігаються в кільцевому
+ * буфері на {@code depth + chunk} кроків: щойно буфер заповнено, зворотний прохід
+ * від найкращого стану проходить усі кроки, а найстаріші {@code chunk} бітів
+ * видаються як остаточні. Тож пам'ять обмежена, а потік може бути необмеженим.
+ * Глибина близько 5K зазвичай дає результат, як у декодування всього блоку.
+ */
+public final class ViterbiDecoder {
+
+    private static final int UNREACHABLE = Integer.MAX_VALUE / 4;
+    private static final int RENORMALIZE_THRESHOLD = 1 << 28;
+    private static final float SOFT_SCALE = 16f;  // Крок квантування |LLR| для цілочисельних метрик
+    private static final int SOFT_LIMIT = 1023;
+
+    private final Trellis trellis;
+    private final int memory;       // K - 1
+    private final int stateCount;
+    private final int half;
+    private final int outputs;
+    private final int depth;
+    private final int chunk;
+    private final int ringSteps;
+    private final int wordsPerStep;
+    private final long[] decisions;
+    private final int[] branchMetrics;
+    private final int[] outputTable;
+    private int[] metrics;
+    private int[] nextMetrics;
+    private int head;   // Слот для наступного кроку
+    private int stored; // Кроків у буфері
+
+    /**
+     * @param trellis Решітка коду.
+     * @param depth   Глибина зворотного проходу (кроків), напр. 5K.
+     */
+    public ViterbiDecoder(Trellis trellis, int depth) {
+        this(trellis, depth, depth);
+    }
+
+    private ViterbiDecoder(Trellis trellis, int depth, int chunk) {
+        if (depth <= 0 || chunk < 0) {
+            throw new IllegalArgumentException("Глибина зворотного проходу має бути > 0.");
+        }
+        this.trellis = trellis;
+        this.memory = trellis.getConstraintLength() - 1;
+        this.stateCount = trellis.getStateCount();
+        this.half = stateCount >>> 1;
+        this.outputs = trellis.getOutputsPerStep();
+        this.depth = depth;
+        this.chunk = chunk;
+        this.ringSteps = depth + chunk;
+        this.wordsPerStep = BitWords.wordCount(stateCount);
+        this.decisions = new long[ringSteps * wordsPerStep];
+        this.branchMetrics = new int[1 << outputs];
+        this.outputTable = trellis.outputTable();
+        this.metrics = new int[stateCount];
+        this.nextMetrics = new int[stateCount];
+        reset();
+    }
+
+    /**
+     * Декодер для завершеного блоку з {@code steps} кроків: зберігає рішення всього блоку.
+     */
+    static ViterbiDecoder forBlock(Trellis trellis, int steps) {
+        return new ViterbiDecoder(trellis, steps, 0);
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Найбільша кількість біт, яку може видати один виклик {@link #decode}
+     * для {@code symbols} символів (розмір вихідного буфера).
+     */
+    public int maxOutputBits(int symbols) {
+        return symbols + ringSteps;
+    }
+
+    /**
+     * Починає новий потік з нульового стану кодера.
+     */
+    public void reset() {
+        Arrays.fill(metrics, UNREACHABLE);
+        metrics[0] = 0;
+        head = 0;
+        stored = 0;
+    }
+
+    /**
+     * Жорстке декодування: обробляє {@code count} отриманих символів
+     * (по N біт, починаючи з біта {@code fromBit}) і дописує остаточні біти в {@code out}.
+     *
+     * @return Кількість бітів, записаних у {@code out} з позиції {@code outPos}.
+     */
+    public int decode(long[] received, int fromBit, int count, long[] out, int outPos) {
+        int written = 0;
+        for (int i = 0; i < count; i++) {
+            int symbol = (int) BitWords.getBits(received, fromBit + i * outputs, outputs);
+            for (int o = 0; o < branchMetrics.length; o++) {
+                branchMetrics[o] = Integer.bitCount(o ^ symbol);
+            }
+            step(branchMetrics);
+            written += releaseIfFull(out, outPos + written);
+        }
+        return written;
+    }
+
+    /**
+     * М'яке декодування: вартість гіпотези про символ - сума квантованих |LLR|
+     * біт, у яких вона не збігається з жорстким рішенням (для жорсткого входу
+     * це відстань Геммінга).
+     *
+     * @param llr  LLR отриманих біт (по N на символ, починаючи з індексу {@code from}).
+     * @return Кількість бітів, записаних у {@code out} з позиції {@code outPos}.
+     */
+    public int decodeSoft(float[] llr, int from, int count, long[] out, int outPos) {
+        int written = 0;
+        for (int i = 0; i < count; i++) {
+            Arrays.fill(branchMetrics, 0);
+            for (int j = 0; j < outputs; j++) {
+                float value = llr[from + i * outputs + j];
+                int cost = Math.min(SOFT_LIMIT, Math.round(Math.abs(value) * SOFT_SCALE));
+                int hardBit = (value < 0) ? 1 : 0;
+                for (int o = 0; o < branchMetrics.length; o++) {
+                    branchMetrics[o] += (((o >>> j) & 1) != hardBit) ? cost : 0;
+                }
+            }
+            step(branchMetrics);
+            written += releaseIfFull(out, outPos + written);
+        }
+        return written;
+    }
+
+    /**
+     * Видає всі біти, що залишилися в буфері, і починає новий потік.
+     *
+     * @param terminated Чи завершено потік K - 1 нульовими бітами: тоді зворотний прохід
+     *                   починається з нульового стану, а хвіст не видається.
+     * @return Кількість записаних бітів.
+     */
+    public int finish(boolean terminated, long[] out, int outPos) {
+        int written;
+        if (terminated) {
+            int tail = Math.min(memory, stored);
+            written = traceback(0, stored - tail, out, outPos);
+        } else {
+            written = traceback(bestState(), stored, out, outPos);
+        }
+        reset();
+        return written;
+    }
+
+    /**
+     * Метрика найкращого шляху в стан {@code state} (відстань до найближчої
+     * послідовності решітки при жорсткому декодуванні).
+     */
+    int metric(int state) {
+        return metrics[state];
+    }
+
+    /**
+     * Крок додавання-порівняння-вибору. Новий стан s має вхідний біт
+     * s >>> (K - 2) і двох попередників (2s mod 2^(K-1)) та (2s mod 2^(K-1)) + 1,
+     * тож стани обробляються «метеликами»: пара попередників дає стани j та j + 2^(K-2).
+     */
+    void step(int[] symbolMetrics) {
+        int[] pm = metrics;
+        int[] next = nextMetrics;
+        int[] out = outputTable;
+        int slot = head * wordsPerStep;
+        int upper = stateCount; // Вхідний біт 1 у регістрі: 2^(K-1)
+        int best = Integer.MAX_VALUE;
+        long lowDecisions = 0;  // Рішення станів j (вхід 0)
+        long highDecisions = 0; // Рішення станів j + half (вхід 1)
+        for (int j = 0; j < half; j++) {
+            int p0 = j << 1;
+            int m0 = pm[p0];
+            int m1 = pm[p0 | 1];
+            int a = m0 + symbolMetrics[out[p0]];
+            int b = m1 + symbolMetrics[out[p0 | 1]];
+            int c = m0 + symbolMetrics[out[upper | p0]];
+            int d = m1 + symbolMetrics[out[upper | p0 | 1]];
+            lowDecisions |= (b < a ? 1L : 0L) << j;
+            highDecisions |= (d < c ? 1L : 0L) << j;
+            a = Math.min(a, b);
+            c = Math.min(c, d);
+            next[j] = a;
+            next[j + half] = c;
+            best = Math.min(best, Math.min(a, c));
+            if ((j & 63) == 63) {
+                decisions[slot + (j >>> 6)] = lowDecisions;
+                decisions[slot + ((j + half) >>> 6)] = highDecisions;
+                lowDecisions = 0;
+                highDecisions = 0;
+            }
+        }
+        if (half < Long.SIZE) {
+            decisions[slot] = lowDecisions | (highDecisions << half);
+        }
+        if (best > RENORMALIZE_THRESHOLD) {
+            for (int s = 0; s < stateCount; s++) {
+                next[s] -= best;
+            }
+        }
+        nextMetrics = pm;
+        metrics = next;
+        head = (head + 1 == ringSteps) ? 0 : head + 1;
+        stored++;
+    }
+
+    /**
+     * Коли кільцевий буфер заповнено, видає найстарішу порцію бітів.
+     */
+    private int releaseIfFull(long[] out, int outPos) {
+        return (stored == ringSteps && chunk > 0) ? traceback(bestState(), chunk, out, outPos) : 0;
+    }
+
+    private int bestState() {
+        int best = 0;
+        for (int s = 1; s < stateCount; s++) {
+            if (metrics[s] < metrics[best]) {
+                best = s;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Зворотний прохід від стану {@code state} через усі збережені кроки;
+     * найстаріші {@code emit} бітів записуються в {@code out} і вилучаються з буфера.
+     */
+    private int traceback(int state, int emit, long[] out, int outPos) {
+        int s = state;
+        int slot = head;
+        for (int back = stored - 1; back >= 0; back--) {
+            slot = (slot == 0) ? ringSteps - 1 : slot - 1;
+            if (back < emit) {
+                int bit = s >>> (memory - 1);
+                BitWords.setBits(out, outPos + back, 1, bit);
+            }
+            int decision = (int) (decisions[slot * wordsPerStep + (s >>> 6)] >>> s) & 1;
+            s = ((s << 1) & (stateCount - 1)) | decision;
+        }
+        stored -= emit;
+        return emit;
+    }
+}
@@ -0,0 +1,255 @@
+package org.stepaniuk.laboratorywork.algorithms.crc;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * Циклічна контрольна сума (CRC) з відображеним (LSB-first) поліномом.
+ * <p>
+ * Обчислення - «slicing-by-8»: вісім таблиць по 256 значень дозволяють
+ * обробити 8 байт за ітерацію вісьмома незалежними звертаннями до таблиць
+ * замість восьми послідовних. Біти слова обробляються в порядку індексів
+ * (див. BitWords), тож {@code long} - це 8 байт у порядку little-endian.
+ * <p>
+ * Для CRC-32 та CRC-32C є варіант {@link #intrinsic()}, що делегує
+ * {@link CRC32}/{@link CRC32C} - їх JIT замінює апаратними інструкціями.
+ */
+public final class Crc {
+
+    /**
+     * CRC-32 (IEEE 802.3, zip), контрольне значення "123456789" - CBF43926.
+     */
+    public static final Crc CRC_32 = new Crc("CRC-32", 32, 0xEDB88320, 0xFFFFFFFF, 0xFFFFFFFF, CRC32::new);
+
+    /**
+     * CRC-32C (Castagnoli, iSCSI), контрольне значення E3069283.
+     */
+    public static final Crc CRC_32C = new Crc("CRC-32C", 32, 0x82F63B78, 0xFFFFFFFF, 0xFFFFFFFF, CRC32C::new);
+
+    /**
+     * CRC-16/ARC (поліном 8005), контрольне значення BB3D.
+     */
+    public static final Crc CRC_16 = new Crc("CRC-16", 16, 0xA001, 0, 0, null);
+
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final String name;
+    private final int width;
+    private final int polynomial; // Відображений
+    private final int init;
+    private final int xorOut;
+    private final int[] tables;   // 8 таблиць по 256: tables[j * 256 + b]
+    private final Supplier<Checksum> jdkChecksum;
+    private final boolean useIntrinsic;
+    private final ThreadLocal<Scratch> scratch; // Лише для варіанта intrinsic()
+
+    private Crc(String name, int width, int polynomial, int init, int xorOut, Supplier<Checksum> jdkChecksum) {
+        this(name, width, polynomial, init, xorOut, buildTables(polynomial), jdkChecksum, false);
+    }
+
+    private Crc(String name, int width, int polynomial, int init, int xorOut, int[] tables,
+                Supplier<Checksum> jdkChecksum, boolean useIntrinsic) {
+        this.name = name;
+        this.width = width;
+        this.polynomial = polynomial;
+        this.init = init;
+        this.xorOut = xorOut;
+        this.tables = tables;
+        this.jdkChecksum = jdkChecksum;
+        this.useIntrinsic = useIntrinsic;
+        this.scratch = useIntrinsic ? ThreadLocal.withInitial(() -> new Scratch(jdkChecksum.get())) : null;
+    }
+
+    /**
+     * Об'єкт Checksum з JDK і буфер байтів, що повторно використовуються в межах потоку.
+     */
+    private static final class Scratch {
+        final Checksum checksum;
+        byte[] bytes = new byte[0];
+
+        Scratch(Checksum checksum) {
+            this.checksum = checksum;
+        }
+
+        Checksum reset() {
+            checksum.reset();
+            return checksum;
+        }
+
+        byte[] bytes(int length) {
+            if (bytes.length < length) {
+                bytes = new byte[Math.max(length, bytes.length * 2)];
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * Таблиця j - внесок байта, за яким іде ще j нульових байт.
+     */
+    private static int[] buildTables(int polynomial) {
+        int[] tables = new int[8 * 256];
+        for (int b = 0; b < 256; b++) {
+            int crc = b;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc >>> 1) ^ (polynomial & -(crc & 1));
+            }
+            tables[b] = crc;
+        }
+        for (int j = 1; j < 8; j++) {
+            for (int b = 0; b < 256; b++) {
+                int previous = tables[(j - 1) * 256 + b];
+                tables[j * 256 + b] = (previous >>> 8) ^ tables[previous & 0xFF];
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Варіант, що обчислює суму через {@code java.util.zip} (апаратне прискорення).
+     *
+     * @throws UnsupportedOperationException якщо для цього алгоритму в JDK немає реалізації.
+     */
+    public Crc intrinsic() {
+        if (jdkChecksum == null) {
+            throw new UnsupportedOperationException("Для " + name + " немає реалізації в JDK.");
+        }
+        return new Crc(name, width, polynomial, init, xorOut, tables, jdkChecksum, true);
+    }
+
+    public boolean hasIntrinsic() {
+        return jdkChecksum != null;
+    }
+
+    public boolean isIntrinsic() {
+        return useIntrinsic;
+    }
+
+    public String getName() {
+        return useIntrinsic ? name + " (JDK)" : name;
+    }
+
+    /**
+     * Розрядність суми в бітах.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    // --- Байти ---
+
+    public long compute(byte[] data) {
+        return compute(data, 0, data.length);
+    }
+
+    public long compute(byte[] data, int offset, int length) {
+        if (useIntrinsic) {
+            Checksum checksum = scratch.get().reset();
+            checksum.update(data, offset, length);
+            return checksum.getValue();
+        }
+        return finish(updateBytes(init, data, offset, length));
+    }
+
+    private int updateBytes(int crc, byte[] data, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        for (; i + Long.BYTES <= end; i += Long.BYTES) {
+            crc = updateLong(crc, (long) LONG_LE.get(data, i));
+        }
+        for (; i < end; i++) {
+            crc = (crc >>> 8) ^ tables[(crc ^ data[i]) & 0xFF];
+        }
+        return crc;
+    }
+
+    // --- Бітові слова ---
+
+    /**
+     * Сума перших {@code bitLength} біт слова, упакованого в {@code long}.
+     */
+    public long compute(long bits, int bitLength) {
+        int crc = init;
+        if (bitLength == Long.SIZE) {
+            crc = updateLong(crc, bits);
+        } else {
+            crc = updateBits(crc, bits, bitLength);
+        }
+        return finish(crc);
+    }
+
+    /**
+     * Сума перших {@code bitLength} біт масиву слів (біт i - у words[i >>> 6]).
+     */
+    public long compute(long[] words, int bitLength) {
+        int fullWords = bitLength >>> 6;
+        int crc;
+        if (useIntrinsic) {
+            Scratch local = scratch.get();
+            byte[] bytes = local.bytes(fullWords * Long.BYTES);
+            for (int i = 0; i < fullWords; i++) {
+                LONG_LE.set(bytes, i * Long.BYTES, words[i]);
+            }
+            Checksum checksum = local.reset();
+            checksum.update(bytes, 0, fullWords * Long.BYTES);
+            crc = (int) checksum.getValue() ^ xorOut; // Повертаємось до стану регістра
+        } else {
+            crc = init;
+            for (int i = 0; i < fullWords; i++) {
+                crc = updateLong(crc, words[i]);
+            }
+        }
+        int tail = bitLength & 63;
+        if (tail != 0) {
+            crc = updateBits(crc, words[fullWords], tail);
+        }
+        return finish(crc);
+    }
+
+    /**
+     * Вісім байт за одну ітерацію: кожен байт - через свою таблицю.
+     */
+    private int updateLong(int crc, long value) {
+        int low = (int) value ^ crc;
+        int high = (int) (value >>> 32);
+        return tables[7 * 256 + (low & 0xFF)]
+                ^ tables[6 * 256 + ((low >>> 8) & 0xFF)]
+                ^ tables[5 * 256 + ((low >>> 16) & 0xFF)]
+                ^ tables[4 * 256 + (low >>> 24)]
+                ^ tables[3 * 256 + (high & 0xFF)]
+                ^ tables[2 * 256 + ((high >>> 8) & 0xFF)]
+                ^ tables[256 + ((high >>> 16) & 0xFF)]
+                ^ tables[high >>> 24];
+    }
+
+    /**
+     * Повні байти - через таблицю, залишок (менше 8 біт) - побітово.
+     */
+    private int updateBits(int crc, long bits, int bitLength) {
+        int i = 0;
+        for (; i + 8 <= bitLength; i += 8) {
+            crc = (crc >>> 8) ^ tables[(crc ^ (int) (bits >>> i)) & 0xFF];
+        }
+        for (; i < bitLength; i++) {
+            crc ^= (int) (bits >>> i) & 1;
+            crc = (crc >>> 1) ^ (polynomial & -(crc & 1));
+        }
+        return crc;
+    }
+
+    private long finish(int crc) {
+        long mask = (width == Integer.SIZE) ? 0xFFFFFFFFL : (1L << width) - 1;
+        return (crc ^ xorOut) & mask;
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
@@ -0,0 +1,201 @@
+package org.stepaniuk.laboratorywork.algorithms.crc;
+
+import org.stepaniuk.laboratorywork.algorithms.AbstractWordArrayCode;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Код з виправленням помилок, доповнений контрольною сумою CRC.
+ * <p>
+ * Інформаційне слово внутрішнього коду - дані (k біт) і CRC даних
+ * (біти [k, k + w)). При декодуванні спершу перевіряється CRC отриманого
+ * слова: якщо сума збігається, декодер не викликається зовсім (більшість кадрів
+ * надходить без помилок). Інакше слово виправляється внутрішнім кодом, а CRC
+ * перевіряється вдруге - так виявляються хибні виправлення (напр., коли код
+ * Гемінга «виправляє» подвійну помилку в третю).
+ * <p>
+ * Кадр з правильною CRC вважається чистим і синдромом: помилки лише
+ * в контрольних бітах внутрішнього коду не виправляються - дані при цьому вже правильні.
+ */
+public class CrcCheckedCode extends AbstractWordArrayCode {
+
+    private final IErrorCorrectionCode inner;
+    private final Crc crc;
+    private final int k;
+    private final int width;
+    private final int innerK;
+    private final int n;
+    private final ThreadLocal<Scratch> scratch;
+
+    public CrcCheckedCode(IErrorCorrectionCode inner, Crc crc) {
+        if (inner.getDataWordLength() <= crc.getWidth()) {
+            throw new IllegalArgumentException("Інформаційне слово коду '" + inner.getName()
+                    + "' має бути довшим за " + crc.getWidth() + " біт " + crc.getName() + ".");
+        }
+        this.inner = inner;
+        this.crc = crc;
+        this.width = crc.getWidth();
+        this.innerK = inner.getDataWordLength();
+        this.k = innerK - width;
+        this.n = inner.getCodeWordLength();
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(BitWords.wordCount(innerK), BitWords.wordCount(n)));
+    }
+
+    /**
+     * Буфери API над масивами слів: один набір на потік, щоб не виділяти пам'ять на кожне слово.
+     */
+    private static final class Scratch {
+        final long[] innerData;
+        final long[] received;
+
+        Scratch(int innerWords, int codeWords) {
+            this.innerData = new long[innerWords];
+            this.received = new long[codeWords];
+        }
+    }
+
+    @Override
+    public String getName() {
+        return inner.getName() + " + " + crc.getName();
+    }
+
+    @Override
+    public int getDataWordLength() {
+        return k;
+    }
+
+    @Override
+    public int getCodeWordLength() {
+        return n;
+    }
+
+    @Override
+    public Map<Integer, List<Integer>> getBitRelationships() {
+        return inner.getBitRelationships();
+    }
+
+    public IErrorCorrectionCode getInnerCode() {
+        return inner;
+    }
+
+    public Crc getCrc() {
+        return crc;
+    }
+
+    // --- Бітово-упакований API (n <= 64): без виділення пам'яті ---
+
+    @Override
+    public long encodeBits(long dataBits) {
+        if (n > Long.SIZE) {
+            return super.encodeBits(dataBits); // Кине UnsupportedOperationException
+        }
+        long data = dataBits & ((1L << k) - 1);
+        return inner.encodeBits(data | (crc.compute(data, k) << k));
+    }
+
+    /**
+     * Кадр вважається чистим, якщо збігається CRC (як і на швидкому шляху декодування);
+     * інакше - синдром внутрішнього коду або 1, якщо той нульовий.
+     */
+    @Override
+    public long syndromeBits(long codeBits) {
+        if (n > Long.SIZE) {
+            return super.syndromeBits(codeBits);
+        }
+        if (checksumMatches(inner.extractDataBits(codeBits))) {
+            return 0;
+        }
+        long syndrome = inner.syndromeBits(codeBits);
+        return (syndrome != 0) ? syndrome : 1;
+    }
+
+    /**
+     * Якщо після виправлення CRC не збігається, повертає отримане слово без змін.
+     */
+    @Override
+    public long correctBits(long codeBits) {
+        if (n > Long.SIZE) {
+            return super.correctBits(codeBits);
+        }
+        if (checksumMatches(inner.extractDataBits(codeBits))) {
+            return codeBits;
+        }
+        long corrected = inner.correctBits(codeBits);
+        return checksumMatches(inner.extractDataBits(corrected)) ? corrected : codeBits;
+    }
+
+    @Override
+    public long extractDataBits(long codeBits) {
+        if (n > Long.SIZE) {
+            return super.extractDataBits(codeBits);
+        }
+        return inner.extractDataBits(codeBits) & ((1L << k) - 1);
+    }
+
+    private boolean checksumMatches(long innerData) {
+        long data = innerData & ((1L << k) - 1);
+        return crc.compute(data, k) == (innerData >>> k);
+    }
+
+    // --- API над масивами слів ---
+
+    @Override
+    public void encodeWords(long[] dataWords, long[] codeWords) {
+        long[] innerData = scratch.get().innerData;
+        innerData[innerData.length - 1] = 0; // Біти за межами innerK - від попереднього виклику
+        BitWords.copyBits(dataWords, 0, innerData, 0, k);
+        BitWords.setBits(innerData, k, width, crc.compute(dataWords, k));
+        inner.encodeWords(innerData, codeWords);
+    }
+
+    @Override
+    public long syndromeWords(long[] codeWords) {
+        long[] innerData = scratch.get().innerData;
+        inner.extractDataWords(codeWords, innerData);
+        if (checksumMatches(innerData)) {
+            return 0;
+        }
+        long syndrome = inner.syndromeWords(codeWords);
+        return (syndrome != 0) ? syndrome : 1;
+    }
+
+    /**
+     * @return 0, якщо CRC отриманого слова збігається (декодер не викликається);
+     * кількість виправлених біт, якщо CRC збігається після виправлення;
+     * інакше {@link #UNCORRECTABLE}, а слово залишається таким, як отримане.
+     */
+    @Override
+    public int correctWords(long[] codeWords) {
+        Scratch local = scratch.get();
+        long[] innerData = local.innerData;
+        inner.extractDataWords(codeWords, innerData);
+        if (checksumMatches(innerData)) {
+            return 0;
+        }
+        long[] received = local.received;
+        System.arraycopy(codeWords, 0, received, 0, received.length);
+        int corrected = inner.correctWords(codeWords);
+        if (corrected != UNCORRECTABLE) {
+            inner.extractDataWords(codeWords, innerData);
+            if (checksumMatches(innerData)) {
+                return corrected;
+            }
+        }
+        System.arraycopy(received, 0, codeWords, 0, received.length);
+        return UNCORRECTABLE;
+    }
+
+    @Override
+    public void extractDataWords(long[] codeWords, long[] dataWords) {
+        long[] innerData = scratch.get().innerData;
+        inner.extractDataWords(codeWords, innerData);
+        BitWords.copyBits(innerData, 0, dataWords, 0, k);
+    }
+
+    private boolean checksumMatches(long[] innerData) {
+        return crc.compute(innerData, k) == BitWords.getBits(innerData, k, width);
+    }
+}
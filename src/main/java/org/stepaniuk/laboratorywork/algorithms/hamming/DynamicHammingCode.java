@@ -1,9 +1,12 @@
 package org.stepaniuk.laboratorywork.algorithms.hamming;
 
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.DecodeResult;
 import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.simd.BatchKernel;
+import org.stepaniuk.laboratorywork.algorithms.simd.SimdSupport;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,11 +17,22 @@ import java.util.Map;
  */
 public class DynamicHammingCode implements IErrorCorrectionCode {
 
+    public static final int MAX_K = 57; // Найбільше k, для якого n = k + r <= 63 вміщується в один long
+    public static final int CHASE_POSITIONS = 4; // Найменш надійних біт: 2^4 пробних слів
+
     private final int k; // Кількість інформаційних біт
     private final int r; // Кількість контрольних біт
     private final int n; // Загальна довжина (n = k + r)
     private final Map<Integer, List<Integer>> relationships;
 
+    // --- Скомпільована перевірочна матриця ---
+    private final long[] parityMasks;     // i-та маска - біти, які перевіряє i-й контрольний біт
+    private final long[] correctionMasks; // Синдром -> маска біта, який треба інвертувати
+    private final long[] segmentMasks;    // Відрізки даних між контрольними позиціями
+    private final int[] segmentDataShifts;
+    private final int[] segmentCodeShifts;
+    private final BatchKernel vectorKernel; // null - лише скалярні цикли
+
     /**
      * Конструктор, що ініціалізує та обчислює всі параметри.
      * @param k Кількість інформаційних біт.
@@ -27,14 +41,22 @@ public class DynamicHammingCode implements IErrorCorrectionCode {
         if (k <= 0) {
             throw new IllegalArgumentException("Кількість біт 'k' має бути > 0");
         }
-        if (k > 32) {
-            throw new IllegalArgumentException("Значення 'k' занадто велике (макс. 32).");
+        if (k > MAX_K) {
+            throw new IllegalArgumentException("Значення 'k' занадто велике (макс. " + MAX_K + ").");
         }
 
         this.k = k;
         this.r = calculateR(k);
         this.n = k + r;
         this.relationships = buildRelationships();
+
+        this.parityMasks = buildParityMasks();
+        this.correctionMasks = buildCorrectionMasks();
+        this.segmentMasks = new long[r];
+        this.segmentDataShifts = new int[r];
+        this.segmentCodeShifts = new int[r];
+        buildDataSegments();
+        this.vectorKernel = SimdSupport.hamming(n, parityMasks, segmentMasks, segmentDataShifts, segmentCodeShifts);
     }
 
     /**
@@ -49,7 +71,8 @@ public class DynamicHammingCode implements IErrorCorrectionCode {
     }
 
     /**
-     * Динамічно будує мапу зв'язків для getBitRelationships()
+     * Динамічно будує мапу зв'язків для getBitRelationships().
+     * Мапа незмінна, тож екземпляр можна безпечно ділити між потоками.
      */
     private Map<Integer, List<Integer>> buildRelationships() {
         Map<Integer, List<Integer>> rel = new HashMap<>();
@@ -64,9 +87,54 @@ public class DynamicHammingCode implements IErrorCorrectionCode {
                     group.add(j - 1); // Додаємо 0-індексовану позицію
                 }
             }
-            rel.put(parityIndex, group);
+            rel.put(parityIndex, List.copyOf(group));
+        }
+        return Map.copyOf(rel);
+    }
+
+    /**
+     * i-та маска містить усі позиції j (1..n), у яких i-й біт дорівнює 1.
+     */
+    private long[] buildParityMasks() {
+        long[] masks = new long[r];
+        for (int i = 0; i < r; i++) {
+            for (int j = 1; j <= n; j++) {
+                if (((j >> i) & 1) == 1) {
+                    masks[i] |= 1L << (j - 1);
+                }
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * Таблиця виправлення: синдром дорівнює позиції помилки,
+     * синдроми за межами слова нічого не виправляють.
+     */
+    private long[] buildCorrectionMasks() {
+        long[] masks = new long[1 << r];
+        for (int syndrome = 1; syndrome <= n; syndrome++) {
+            masks[syndrome] = 1L << (syndrome - 1);
+        }
+        return masks;
+    }
+
+    /**
+     * Біти даних займають суцільні відрізки між контрольними позиціями:
+     * i-й відрізок - індекси [2^i, 2^(i+1) - 2]. Так розстановка даних
+     * виконується за r зсувів замість циклу по кожному біту.
+     */
+    private void buildDataSegments() {
+        int dataOffset = 0;
+        for (int i = 1; i < r; i++) {
+            int start = 1 << i;
+            int end = Math.min((1 << (i + 1)) - 2, n - 1);
+            int length = end - start + 1;
+            segmentMasks[i] = (1L << length) - 1;
+            segmentDataShifts[i] = dataOffset;
+            segmentCodeShifts[i] = start;
+            dataOffset += length;
         }
-        return rel;
     }
 
     @Override
@@ -90,98 +158,176 @@ public class DynamicHammingCode implements IErrorCorrectionCode {
         if (dataWord.length() != k) {
             throw new IllegalArgumentException("Невірна довжина даних");
         }
+        return BitWords.format(encodeBits(BitWords.parse(dataWord)), n);
+    }
+
+    @Override
+    public CodeCheckResult checkAndCorrect(String potentiallyCorruptedWord) {
+        return checkAndCorrect(potentiallyCorruptedWord, new DecodeResult()).toCheckResult();
+    }
 
-        int[] codeWord = new int[n];
-        char[] data = dataWord.toCharArray();
-        int dataIdx = 0;
-        int parityIdx = 0;
+    @Override
+    public DecodeResult decode(long[] codeWords, DecodeResult result) {
+        return IErrorCorrectionCode.super.decode(codeWords, result).describeWith(HammingCode.POSITION_STATUS);
+    }
 
+    @Override
+    public long encodeBits(long dataBits) {
         // 1. Розставляємо біти даних, залишаючи '0' на контрольних позиціях
-        for (int i = 0; i < n; i++) {
-            if (i == ((1 << parityIdx) - 1)) {
-                codeWord[i] = 0; // Контрольний біт (поки 0)
-                parityIdx++;
-            } else {
-                codeWord[i] = data[dataIdx] - '0';
-                dataIdx++;
-            }
+        long word = 0;
+        for (int i = 1; i < r; i++) {
+            word |= ((dataBits >>> segmentDataShifts[i]) & segmentMasks[i]) << segmentCodeShifts[i];
         }
 
-        // 2. Обчислюємо контрольні біти
-        for (int pIndex : relationships.keySet()) {
-            int xorSum = 0;
-            for (int bitIndex : relationships.get(pIndex)) {
-                if (bitIndex != pIndex) { // Не враховуємо сам контрольний біт
-                    xorSum ^= codeWord[bitIndex];
-                }
-            }
-            codeWord[pIndex] = xorSum;
+        // 2. Обчислюємо контрольні біти (власні позиції поки нульові)
+        for (int i = 0; i < r; i++) {
+            word |= (long) (Long.bitCount(word & parityMasks[i]) & 1) << ((1 << i) - 1);
         }
+        return word;
+    }
 
-        StringBuilder sb = new StringBuilder(n);
-        for (int bit : codeWord) {
-            sb.append(bit);
+    @Override
+    public long syndromeBits(long codeBits) {
+        long syndrome = 0;
+        for (int i = 0; i < r; i++) {
+            syndrome |= (long) (Long.bitCount(codeBits & parityMasks[i]) & 1) << i;
         }
-        return sb.toString();
+        return syndrome;
     }
 
     @Override
-    public CodeCheckResult checkAndCorrect(String potentiallyCorruptedWord) {
-        int[] bits = potentiallyCorruptedWord.chars().map(c -> c - '0').toArray();
-        int syndrome = 0;
-
-        // Обчислюємо синдром
-        List<Integer> pIndices = new ArrayList<>(relationships.keySet());
-        Collections.sort(pIndices); // Важливо: 0, 1, 3, 7...
-
-        int pBitPower = 0;
-        for (int pIndex : pIndices) {
-            int xorSum = 0;
-            for (int bitIndex : relationships.get(pIndex)) {
-                xorSum ^= bits[bitIndex];
+    public long correctBits(long codeBits) {
+        return codeBits ^ correctionMasks[(int) syndromeBits(codeBits)];
+    }
+
+    /**
+     * Рядки перевірочної матриці: i-й рядок - маска біт i-ї перевірки.
+     */
+    long[] parityCheckRows() {
+        return parityMasks.clone();
+    }
+
+    /**
+     * Маска біта, який виправляє заданий синдром (0, якщо виправлення неможливе).
+     */
+    long correctionMask(long syndrome) {
+        return correctionMasks[(int) syndrome];
+    }
+
+    /**
+     * Динамічно витягує інформаційні біти з виправленого слова.
+     */
+    @Override
+    public long extractDataBits(long codeBits) {
+        long data = 0;
+        for (int i = 1; i < r; i++) {
+            data |= ((codeBits >>> segmentCodeShifts[i]) & segmentMasks[i]) << segmentDataShifts[i];
+        }
+        return data;
+    }
+
+    // --- М'яке декодування ---
+
+    /**
+     * Алгоритм Чейза II: перебираються всі комбінації інверсій
+     * {@value #CHASE_POSITIONS} найменш надійних біт жорсткого рішення, кожне
+     * пробне слово виправляється алгебраїчно, а з отриманих кодових слів
+     * обирається те, що має найменшу сумарну надійність змінених біт.
+     */
+    @Override
+    public int decodeSoft(float[] llr, long[] codeWords) {
+        long hard = 0;
+        for (int i = 0; i < n; i++) {
+            if (llr[i] < 0) {
+                hard |= 1L << i;
+            }
+        }
+        int[] weakest = leastReliablePositions(llr, Math.min(CHASE_POSITIONS, n));
+        long best = hard;
+        float bestMetric = Float.POSITIVE_INFINITY;
+        for (int pattern = 0; pattern < (1 << weakest.length); pattern++) {
+            long test = hard;
+            for (int j = 0; j < weakest.length; j++) {
+                test ^= (long) ((pattern >>> j) & 1) << weakest[j];
             }
-            if (xorSum != 0) {
-                syndrome += (1 << pBitPower);
+            long candidate = correctBits(test);
+            if (syndromeBits(candidate) != 0) {
+                continue; // Синдром за межами скороченого коду
             }
-            pBitPower++;
-        }
-
-        int errorPosition = syndrome;
-        String status;
-        String correctedWordStr;
-        char[] correctedChars = potentiallyCorruptedWord.toCharArray();
-
-        if (errorPosition == 0) {
-            status = "Помилок немає";
-            correctedWordStr = potentiallyCorruptedWord;
-        } else {
-            status = "Помилка на позиції " + errorPosition;
-            int errorIndex = errorPosition - 1;
-            if (errorIndex < correctedChars.length) {
-                correctedChars[errorIndex] = (correctedChars[errorIndex] == '0' ? '1' : '0');
+            float metric = 0;
+            for (long diff = candidate ^ hard; diff != 0; diff &= diff - 1) {
+                metric += Math.abs(llr[Long.numberOfTrailingZeros(diff)]);
+            }
+            if (metric < bestMetric) {
+                bestMetric = metric;
+                best = candidate;
             }
-            correctedWordStr = new String(correctedChars);
         }
-
-        // Витягуємо виправлені дані
-        String extractedData = extractData(correctedWordStr);
-        return new IErrorCorrectionCode.CodeCheckResult(status, correctedWordStr, extractedData);
+        codeWords[0] = best;
+        return (bestMetric == Float.POSITIVE_INFINITY) ? UNCORRECTABLE : Long.bitCount(best ^ hard);
     }
 
     /**
-     * Динамічно витягує інформаційні біти з виправленого слова.
+     * Індекси {@code count} біт з найменшим |LLR| (вставка в короткий відсортований масив).
      */
-    private String extractData(String correctedWord) {
-        StringBuilder extracted = new StringBuilder(k);
-        char[] bits = correctedWord.toCharArray();
-        int parityIdx = 0;
+    private int[] leastReliablePositions(float[] llr, int count) {
+        int[] positions = new int[count];
+        float[] reliabilities = new float[count];
+        int size = 0;
         for (int i = 0; i < n; i++) {
-            if (i == ((1 << parityIdx) - 1)) {
-                parityIdx++; // Це контрольний біт, ігноруємо
-            } else {
-                extracted.append(bits[i]); // Це біт даних
+            float reliability = Math.abs(llr[i]);
+            if (size == count && reliability >= reliabilities[size - 1]) {
+                continue;
+            }
+            int j = (size < count) ? size++ : size - 1;
+            while (j > 0 && reliabilities[j - 1] > reliability) {
+                reliabilities[j] = reliabilities[j - 1];
+                positions[j] = positions[j - 1];
+                j--;
+            }
+            reliabilities[j] = reliability;
+            positions[j] = i;
+        }
+        return positions;
+    }
+
+    // --- Пакетний API: повні вектори обробляє векторне ядро (якщо доступне), залишок - скалярний цикл ---
+
+    @Override
+    public void encodeBatch(long[] dataWords, int dataOffset, long[] codeWords, int codeOffset, int count) {
+        int vectorized = 0;
+        if (vectorKernel != null) {
+            vectorized = count - count % vectorKernel.lanes();
+            vectorKernel.encode(dataWords, dataOffset, codeWords, codeOffset, vectorized);
+        }
+        for (int i = vectorized; i < count; i++) {
+            codeWords[codeOffset + i] = encodeBits(dataWords[dataOffset + i]);
+        }
+    }
+
+    @Override
+    public int decodeBatch(long[] codeWords, int codeOffset, long[] dataWords, long[] errorMasks,
+                           int[] results, int outOffset, int count) {
+        int correctedWords = 0;
+        int vectorized = 0;
+        if (vectorKernel != null) {
+            vectorized = count - count % vectorKernel.lanes();
+            correctedWords = vectorKernel.decode(codeWords, codeOffset, dataWords, errorMasks, results,
+                    outOffset, vectorized);
+        }
+        for (int i = vectorized; i < count; i++) {
+            long word = codeWords[codeOffset + i];
+            long corrected = correctBits(word);
+            dataWords[outOffset + i] = extractDataBits(corrected);
+            if (errorMasks != null) {
+                errorMasks[outOffset + i] = word ^ corrected;
+            }
+            if (results != null) {
+                // Синдром за межами скороченого коду слово не змінює
+                results[outOffset + i] = (word != corrected) ? 1 : (syndromeBits(word) != 0) ? UNCORRECTABLE : 0;
             }
+            correctedWords += (word != corrected) ? 1 : 0;
         }
-        return extracted.toString();
+        return correctedWords;
     }
 }
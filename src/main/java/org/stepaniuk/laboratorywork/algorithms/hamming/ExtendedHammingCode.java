@@ -0,0 +1,149 @@
+package org.stepaniuk.laboratorywork.algorithms.hamming;
+
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.DecodeResult;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Розширений код Гемінга (SECDED): код Гемінга з додатковим бітом
+ * загальної парності в кінці слова. Виправляє одиночні помилки
+ * та надійно виявляє подвійні, замість "виправлення" не того біта.
+ * <p>
+ * Синдром обчислюється через скомпільовані маски {@link DynamicHammingCode},
+ * тож додаткове виявлення коштує лише один popcount.
+ */
+public class ExtendedHammingCode implements IErrorCorrectionCode {
+
+    /** Внутрішній код Гемінга упакований в один long, тож k обмежене так само. */
+    public static final int MAX_K = DynamicHammingCode.MAX_K;
+
+    /** Біт синдрому, що відповідає порушенню загальної парності. */
+    public static final long OVERALL_PARITY_FLAG = 1L << 32;
+
+    /**
+     * Без порушення загальної парності ненульовий синдром означає подвійну помилку.
+     * Якщо парність порушена, а синдром вказує за межі скороченого слова, помилка
+     * кратна (три й більше біт), і її позиція невідома.
+     */
+    private static final DecodeResult.StatusFormatter SECDED_STATUS = result -> switch (result.getOutcome()) {
+        case CLEAN -> "Помилок немає";
+        case CORRECTED -> {
+            int position = result.nextErrorPosition(0) + 1;
+            yield (position == result.getCodeWordLength())
+                    ? "Помилка на позиції " + position + " (біт загальної парності)"
+                    : "Помилка на позиції " + position;
+        }
+        case DETECTED_UNCORRECTABLE -> ((result.getSyndrome() & OVERALL_PARITY_FLAG) == 0)
+                ? "Виявлено подвійну помилку (виправлення неможливе)"
+                : "Виявлено кратну помилку (виправлення неможливе)";
+    };
+
+    private final DynamicHammingCode hamming;
+    private final int k; // Кількість інформаційних біт
+    private final int n; // Загальна довжина (n = k + r + 1)
+    private final int overallIndex; // Індекс біта загальної парності (n - 1)
+    private final long hammingMask; // Біти внутрішнього коду Гемінга
+    private final Map<Integer, List<Integer>> relationships;
+
+    /**
+     * @param k Кількість інформаційних біт.
+     */
+    public ExtendedHammingCode(int k) {
+        this.hamming = new DynamicHammingCode(k);
+        this.k = k;
+        this.overallIndex = hamming.getCodeWordLength();
+        this.n = overallIndex + 1;
+        this.hammingMask = (1L << overallIndex) - 1;
+        this.relationships = buildRelationships();
+    }
+
+    /**
+     * Групи внутрішнього коду Гемінга плюс група загальної парності, що охоплює всі біти.
+     */
+    private Map<Integer, List<Integer>> buildRelationships() {
+        Map<Integer, List<Integer>> rel = new HashMap<>(hamming.getBitRelationships());
+        List<Integer> all = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            all.add(i);
+        }
+        rel.put(overallIndex, all);
+        return Collections.unmodifiableMap(rel);
+    }
+
+    @Override
+    public String getName() {
+        return String.format("Розширений Гемінг (%d, %d)", n, k);
+    }
+
+    @Override
+    public int getDataWordLength() { return k; }
+
+    @Override
+    public int getCodeWordLength() { return n; }
+
+    @Override
+    public Map<Integer, List<Integer>> getBitRelationships() {
+        return relationships;
+    }
+
+    @Override
+    public String encode(String dataWord) {
+        if (dataWord.length() != k) {
+            throw new IllegalArgumentException("Невірна довжина даних");
+        }
+        return BitWords.format(encodeBits(BitWords.parse(dataWord)), n);
+    }
+
+    @Override
+    public CodeCheckResult checkAndCorrect(String potentiallyCorruptedWord) {
+        return checkAndCorrect(potentiallyCorruptedWord, new DecodeResult()).toCheckResult();
+    }
+
+    @Override
+    public DecodeResult decode(long[] codeWords, DecodeResult result) {
+        return IErrorCorrectionCode.super.decode(codeWords, result).describeWith(SECDED_STATUS);
+    }
+
+    @Override
+    public long encodeBits(long dataBits) {
+        long word = hamming.encodeBits(dataBits);
+        return word | (long) (Long.bitCount(word) & 1) << overallIndex;
+    }
+
+    /**
+     * Молодші біти - синдром внутрішнього коду Гемінга,
+     * {@link #OVERALL_PARITY_FLAG} - порушення загальної парності.
+     */
+    @Override
+    public long syndromeBits(long codeBits) {
+        long syndrome = hamming.syndromeBits(codeBits & hammingMask);
+        return ((Long.bitCount(codeBits) & 1) != 0) ? syndrome | OVERALL_PARITY_FLAG : syndrome;
+    }
+
+    /**
+     * Подвійна помилка (синдром ненульовий, парність збережена)
+     * повертає слово без змін.
+     */
+    @Override
+    public long correctBits(long codeBits) {
+        if ((Long.bitCount(codeBits) & 1) == 0) {
+            return codeBits; // Помилок немає або подвійна помилка
+        }
+        long syndrome = hamming.syndromeBits(codeBits & hammingMask);
+        if (syndrome == 0) {
+            return codeBits ^ (1L << overallIndex); // Помилка у біті загальної парності
+        }
+        return codeBits ^ hamming.correctionMask(syndrome);
+    }
+
+    @Override
+    public long extractDataBits(long codeBits) {
+        return hamming.extractDataBits(codeBits & hammingMask);
+    }
+}
@@ -0,0 +1,45 @@
+package org.stepaniuk.laboratorywork.algorithms.hamming;
+
+import org.stepaniuk.laboratorywork.algorithms.codegen.CodecGenerator;
+import org.stepaniuk.laboratorywork.algorithms.codegen.GeneratedCodec;
+
+/**
+ * Код Гемінга, бітово-упакований API якого виконує згенерований кодек
+ * (див. {@link CodecGenerator}): замість циклів по масках - лінійний байт-код
+ * з константами, як у {@link HammingCode}, але для будь-якого 'k'.
+ * <p>
+ * Решта поведінки (м'яке декодування, векторні ядра пакетного API, зв'язки біт)
+ * успадковується від {@link DynamicHammingCode}.
+ */
+public class GeneratedHammingCode extends DynamicHammingCode {
+
+    private final GeneratedCodec codec;
+
+    /**
+     * @param k Кількість інформаційних біт (до {@value DynamicHammingCode#MAX_K}).
+     */
+    public GeneratedHammingCode(int k) {
+        super(k);
+        this.codec = CodecGenerator.forMatrix(getCodeWordLength(), parityCheckRows());
+    }
+
+    @Override
+    public long encodeBits(long dataBits) {
+        return codec.encode(dataBits);
+    }
+
+    @Override
+    public long syndromeBits(long codeBits) {
+        return codec.syndrome(codeBits);
+    }
+
+    @Override
+    public long correctBits(long codeBits) {
+        return codec.correct(codeBits);
+    }
+
+    @Override
+    public long extractDataBits(long codeBits) {
+        return codec.extract(codeBits);
+    }
+}
@@ -1,17 +1,32 @@
 package org.stepaniuk.laboratorywork.algorithms.hamming;
 
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.DecodeResult;
 import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Реалізація коду Гемінга.
  */
 public class HammingCode implements IErrorCorrectionCode {
 
+    // Маски груп перевірки у бітово-упакованому слові (біт i = позиція i + 1)
+    private static final long S1_MASK = 0b1010101; // індекси 0, 2, 4, 6
+    private static final long S2_MASK = 0b1100110; // індекси 1, 2, 5, 6
+    private static final long S3_MASK = 0b1111000; // індекси 3, 4, 5, 6
+
+    /**
+     * Статус кодів Гемінга: синдром - номер позиції помилки (з 1), навіть якщо
+     * для скороченого коду він вказує за межі слова.
+     */
+    static final DecodeResult.StatusFormatter POSITION_STATUS = result -> switch (result.getOutcome()) {
+        case CLEAN -> "Помилок немає";
+        case CORRECTED -> "Помилка на позиції " + (result.nextErrorPosition(0) + 1);
+        case DETECTED_UNCORRECTABLE -> "Помилка на позиції " + result.getSyndrome();
+    };
+
     @Override
     public String getName() {
         return "Код Гемінга";
@@ -29,55 +44,54 @@ public class HammingCode implements IErrorCorrectionCode {
 
     @Override
     public String encode(String dataWord) {
-        if (dataWord == null || dataWord.length() != getDataWordLength() || !dataWord.matches("[01]+")) {
+        if (dataWord == null || dataWord.length() != getDataWordLength() || !BitWords.isBinary(dataWord)) {
             throw new IllegalArgumentException("Інформаційне слово повинно складатися з 4 бітів.");
         }
+        return BitWords.format(encodeBits(BitWords.parse(dataWord)), getCodeWordLength());
+    }
 
-        int[] dataBits = dataWord.chars().map(c -> c - '0').toArray();
-        int d1 = dataBits[0]; // Позиція 3
-        int d2 = dataBits[1]; // Позиція 5
-        int d3 = dataBits[2]; // Позиція 6
-        int d4 = dataBits[3]; // Позиція 7
+    @Override
+    public CodeCheckResult checkAndCorrect(String potentiallyCorruptedWord) {
+        return checkAndCorrect(potentiallyCorruptedWord, new DecodeResult()).toCheckResult();
+    }
 
-        int p1 = (d1 + d2 + d4) % 2; // 1, 3, 5, 7
-        int p2 = (d1 + d3 + d4) % 2; // 2, 3, 6, 7
-        int p3 = (d2 + d3 + d4) % 2; // 4, 5, 6, 7
+    @Override
+    public DecodeResult decode(long[] codeWords, DecodeResult result) {
+        return IErrorCorrectionCode.super.decode(codeWords, result).describeWith(POSITION_STATUS);
+    }
 
-        int[] codeWord = {p1, p2, d1, p3, d2, d3, d4};
-        return IntStream.of(codeWord)
-                .mapToObj(String::valueOf)
-                .collect(Collectors.joining());
+    @Override
+    public long encodeBits(long dataBits) {
+        long d1 = dataBits & 1;         // Позиція 3
+        long d2 = (dataBits >>> 1) & 1; // Позиція 5
+        long d3 = (dataBits >>> 2) & 1; // Позиція 6
+        long d4 = (dataBits >>> 3) & 1; // Позиція 7
+
+        long p1 = d1 ^ d2 ^ d4; // 1, 3, 5, 7
+        long p2 = d1 ^ d3 ^ d4; // 2, 3, 6, 7
+        long p3 = d2 ^ d3 ^ d4; // 4, 5, 6, 7
+
+        return p1 | (p2 << 1) | (d1 << 2) | (p3 << 3) | (d2 << 4) | (d3 << 5) | (d4 << 6);
     }
 
     @Override
-    public CodeCheckResult checkAndCorrect(String potentiallyCorruptedWord) {
-        int[] bits = potentiallyCorruptedWord.chars().map(c -> c - '0').toArray();
-        int p1 = bits[0], p2 = bits[1], d1 = bits[2], p3 = bits[3], d2 = bits[4], d3 = bits[5], d4 = bits[6];
-
-        int s1 = (p1 + d1 + d2 + d4) % 2;
-        int s2 = (p2 + d1 + d3 + d4) % 2;
-        int s3 = (p3 + d2 + d3 + d4) % 2;
-
-        int errorPosition = s3 * 4 + s2 * 2 + s1;
-        String status;
-        String correctedWordStr;
-
-        if (errorPosition == 0) {
-            status = "Помилок немає";
-            correctedWordStr = potentiallyCorruptedWord;
-        } else {
-            status = "Помилка на позиції " + errorPosition;
-            char[] correctedChars = potentiallyCorruptedWord.toCharArray();
-            int errorIndex = errorPosition - 1;
-            correctedChars[errorIndex] = (correctedChars[errorIndex] == '0' ? '1' : '0');
-            correctedWordStr = new String(correctedChars);
-        }
+    public long syndromeBits(long codeBits) {
+        long s1 = Long.bitCount(codeBits & S1_MASK) & 1;
+        long s2 = Long.bitCount(codeBits & S2_MASK) & 1;
+        long s3 = Long.bitCount(codeBits & S3_MASK) & 1;
+        return (s3 << 2) | (s2 << 1) | s1;
+    }
 
-        // Витягуємо виправлені дані
-        char[] finalBits = correctedWordStr.toCharArray();
-        String extractedData = "" + finalBits[2] + finalBits[4] + finalBits[5] + finalBits[6];
+    @Override
+    public long correctBits(long codeBits) {
+        // (1 << s) >>> 1 дає маску біта s - 1, а для s = 0 - нуль, без розгалуження
+        return codeBits ^ ((1L << syndromeBits(codeBits)) >>> 1);
+    }
 
-        return new CodeCheckResult(status, correctedWordStr, extractedData);
+    @Override
+    public long extractDataBits(long codeBits) {
+        // d1 - індекс 2, d2..d4 - індекси 4..6
+        return ((codeBits >>> 2) & 0b1) | ((codeBits >>> 3) & 0b1110);
     }
 
     /**
@@ -31,6 +31,18 @@ public class HammingGeneratorPlaceholder implements IErrorCorrectionCode {
         return new CodeCheckResult("N/A", "", "");
     }
 
+    @Override
+    public long encodeBits(long dataBits) { return 0; }
+
+    @Override
+    public long syndromeBits(long codeBits) { return 0; }
+
+    @Override
+    public long correctBits(long codeBits) { return 0; }
+
+    @Override
+    public long extractDataBits(long codeBits) { return 0; }
+
     @Override
     public Map<Integer, List<Integer>> getBitRelationships() {
         return Collections.emptyMap();
@@ -0,0 +1,223 @@
+package org.stepaniuk.laboratorywork.algorithms.hamming;
+
+import org.stepaniuk.laboratorywork.algorithms.AbstractWordArrayCode;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.DecodeResult;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Код Гемінга для довгих кодових слів (k до тисяч біт, напр. Гемінг (4095, 4083)).
+ * <p>
+ * Перевірочна матриця зберігається як r рядків {@code long[]}, тому кодування
+ * та декодування коштують O(r * n / 64) операцій над машинними словами.
+ */
+public class WideHammingCode extends AbstractWordArrayCode {
+
+    public static final int MAX_R = 16;
+    public static final int MAX_K = (1 << MAX_R) - 1 - MAX_R;
+
+    private final int k; // Кількість інформаційних біт
+    private final int r; // Кількість контрольних біт
+    private final int n; // Загальна довжина (n = k + r)
+    private final int codeWordCount; // Кількість слів long у кодовому слові
+    private final long[][] parityRows; // i-й рядок - біти, які перевіряє i-й контрольний біт
+
+    // Відрізки даних між контрольними позиціями (індекс - номер відрізка)
+    private final int[] segmentDataStarts;
+    private final int[] segmentCodeStarts;
+    private final int[] segmentLengths;
+
+    private final Map<Integer, List<Integer>> relationships;
+
+    /**
+     * @param k Кількість інформаційних біт.
+     */
+    public WideHammingCode(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Кількість біт 'k' має бути > 0");
+        }
+        if (k > MAX_K) {
+            throw new IllegalArgumentException("Значення 'k' занадто велике (макс. " + MAX_K + ").");
+        }
+
+        this.k = k;
+        this.r = calculateR(k);
+        this.n = k + r;
+        this.codeWordCount = BitWords.wordCount(n);
+        this.parityRows = buildParityRows();
+
+        this.segmentDataStarts = new int[r];
+        this.segmentCodeStarts = new int[r];
+        this.segmentLengths = new int[r];
+        buildDataSegments();
+
+        this.relationships = buildRelationships();
+    }
+
+    /**
+     * Обчислює 'r' за формулою 2^r >= k + r + 1
+     */
+    private int calculateR(int k) {
+        int r = 0;
+        while ((1 << r) < (k + r + 1)) {
+            r++;
+        }
+        return r;
+    }
+
+    private long[][] buildParityRows() {
+        long[][] rows = new long[r][codeWordCount];
+        for (int i = 0; i < r; i++) {
+            for (int j = 1; j <= n; j++) {
+                if (((j >> i) & 1) == 1) {
+                    BitWords.flipBit(rows[i], j - 1);
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * i-й відрізок даних - індекси [2^i, 2^(i+1) - 2] кодового слова.
+     */
+    private void buildDataSegments() {
+        int dataOffset = 0;
+        for (int i = 1; i < r; i++) {
+            int start = 1 << i;
+            int end = Math.min((1 << (i + 1)) - 2, n - 1);
+            segmentDataStarts[i] = dataOffset;
+            segmentCodeStarts[i] = start;
+            segmentLengths[i] = end - start + 1;
+            dataOffset += segmentLengths[i];
+        }
+    }
+
+    /**
+     * Групи зберігаються як обчислювані представлення, а не як списки
+     * з тисяч Integer, тож мапа займає O(r) пам'яті.
+     */
+    private Map<Integer, List<Integer>> buildRelationships() {
+        Map<Integer, List<Integer>> rel = new HashMap<>();
+        for (int i = 0; i < r; i++) {
+            rel.put((1 << i) - 1, new ParityGroup(i, n));
+        }
+        return Collections.unmodifiableMap(rel);
+    }
+
+    @Override
+    public String getName() {
+        return String.format("Гемінг (%d, %d)", n, k);
+    }
+
+    @Override
+    public int getDataWordLength() { return k; }
+
+    @Override
+    public int getCodeWordLength() { return n; }
+
+    @Override
+    public Map<Integer, List<Integer>> getBitRelationships() {
+        return relationships;
+    }
+
+    @Override
+    public DecodeResult decode(long[] codeWords, DecodeResult result) {
+        return super.decode(codeWords, result).describeWith(HammingCode.POSITION_STATUS);
+    }
+
+    @Override
+    public void encodeWords(long[] dataWords, long[] codeWords) {
+        // 1. Розставляємо відрізки даних, залишаючи '0' на контрольних позиціях
+        Arrays.fill(codeWords, 0, codeWordCount, 0L);
+        for (int i = 1; i < r; i++) {
+            BitWords.copyBits(dataWords, segmentDataStarts[i], codeWords, segmentCodeStarts[i], segmentLengths[i]);
+        }
+
+        // 2. Обчислюємо контрольні біти
+        for (int i = 0; i < r; i++) {
+            if (rowParity(codeWords, parityRows[i]) != 0) {
+                BitWords.flipBit(codeWords, (1 << i) - 1);
+            }
+        }
+    }
+
+    @Override
+    public long syndromeWords(long[] codeWords) {
+        long syndrome = 0;
+        for (int i = 0; i < r; i++) {
+            syndrome |= (long) rowParity(codeWords, parityRows[i]) << i;
+        }
+        return syndrome;
+    }
+
+    @Override
+    public int correctWords(long[] codeWords) {
+        long errorPosition = syndromeWords(codeWords);
+        if (errorPosition == 0) {
+            return 0;
+        }
+        if (errorPosition > n) {
+            return UNCORRECTABLE; // Синдром вказує за межі слова
+        }
+        BitWords.flipBit(codeWords, (int) errorPosition - 1);
+        return 1;
+    }
+
+    @Override
+    public void extractDataWords(long[] codeWords, long[] dataWords) {
+        Arrays.fill(dataWords, 0, BitWords.wordCount(k), 0L);
+        for (int i = 1; i < r; i++) {
+            BitWords.copyBits(codeWords, segmentCodeStarts[i], dataWords, segmentDataStarts[i], segmentLengths[i]);
+        }
+    }
+
+    /**
+     * Парність кодового слова під маскою рядка: спочатку XOR слів, потім один popcount.
+     */
+    private int rowParity(long[] codeWords, long[] row) {
+        long acc = 0;
+        for (int w = 0; w < codeWordCount; w++) {
+            acc ^= codeWords[w] & row[w];
+        }
+        return Long.bitCount(acc) & 1;
+    }
+
+    /**
+     * Група i-го контрольного біта: 0-індексовані позиції j - 1, де j (1..n)
+     * має '1' в i-му біті. Елементи обчислюються за індексом без зберігання.
+     */
+    private static final class ParityGroup extends AbstractList<Integer> implements RandomAccess {
+
+        private final int blockSize;
+        private final int size;
+
+        ParityGroup(int parityBit, int n) {
+            this.blockSize = 1 << parityBit;
+            int period = blockSize << 1;
+            int full = (n + 1) / period * blockSize;
+            this.size = full + Math.max(0, (n + 1) % period - blockSize);
+        }
+
+        @Override
+        public Integer get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            int block = index / blockSize;
+            int position = (2 * block + 1) * blockSize + index % blockSize;
+            return position - 1;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
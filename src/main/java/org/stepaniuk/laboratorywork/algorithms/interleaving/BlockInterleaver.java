@@ -0,0 +1,247 @@
+package org.stepaniuk.laboratorywork.algorithms.interleaving;
+
+import org.stepaniuk.laboratorywork.algorithms.AbstractWordArrayCode;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Блочне перемежування поверх будь-якого коду з n <= 64.
+ * <p>
+ * Блок складається з {@code depth} кодових слів внутрішнього коду, які
+ * записуються рядками матриці, а передаються стовпцями: j-й біт i-го слова
+ * потрапляє на позицію {@code j * depth + i}. Пакет з {@code depth} послідовних
+ * помилок у каналі зачіпає кожне внутрішнє слово щонайбільше один раз,
+ * тож навіть код з виправленням однієї помилки його виправляє.
+ * <p>
+ * Перестановка виконується транспонуванням бітової матриці 64x64
+ * (log2(64) = 6 проходів обміну блоків), а не обчисленням індексу кожного біта.
+ */
+public class BlockInterleaver extends AbstractWordArrayCode {
+
+    public static final int MAX_DEPTH = Long.SIZE;
+
+    private final IErrorCorrectionCode inner;
+    private final int depth;
+    private final int innerK;
+    private final int innerN;
+    private final Map<Integer, List<Integer>> relationships;
+
+    /**
+     * @param inner Внутрішній код (кодове слово не довше за 64 біти).
+     * @param depth Кількість кодових слів у блоці (глибина перемежування, 1..64).
+     */
+    public BlockInterleaver(IErrorCorrectionCode inner, int depth) {
+        if (inner.getCodeWordLength() > Long.SIZE) {
+            throw new IllegalArgumentException("Внутрішній код має вміщуватися в 64 біти.");
+        }
+        if (depth <= 0 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Глибина перемежування має бути в межах 1.." + MAX_DEPTH + ".");
+        }
+        this.inner = inner;
+        this.depth = depth;
+        this.innerK = inner.getDataWordLength();
+        this.innerN = inner.getCodeWordLength();
+        this.relationships = buildRelationships();
+    }
+
+    /**
+     * Групи внутрішнього коду, перенесені на позиції кожного слова блоку.
+     */
+    private Map<Integer, List<Integer>> buildRelationships() {
+        Map<Integer, List<Integer>> rel = new HashMap<>();
+        inner.getBitRelationships().forEach((key, group) -> {
+            for (int i = 0; i < depth; i++) {
+                rel.put(key * depth + i, new InterleavedGroup(group, depth, i));
+            }
+        });
+        return Collections.unmodifiableMap(rel);
+    }
+
+    @Override
+    public String getName() {
+        return String.format("%s з перемежуванням x%d", inner.getName(), depth);
+    }
+
+    @Override
+    public int getDataWordLength() {
+        return innerK * depth;
+    }
+
+    @Override
+    public int getCodeWordLength() {
+        return innerN * depth;
+    }
+
+    @Override
+    public Map<Integer, List<Integer>> getBitRelationships() {
+        return relationships;
+    }
+
+    public IErrorCorrectionCode getInnerCode() {
+        return inner;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    // --- Перемежування ---
+
+    /**
+     * Перемежовує {@code depth} кодових слів внутрішнього коду.
+     *
+     * @param innerCodeWords Слова блоку, по одному на {@code long}.
+     * @param codeWords      Вихідний бітовий потік довжиною {@code depth * n} біт.
+     */
+    public void interleave(long[] innerCodeWords, long[] codeWords) {
+        long[] matrix = new long[Long.SIZE];
+        System.arraycopy(innerCodeWords, 0, matrix, 0, depth);
+        transpose(matrix);
+        writeRows(matrix, codeWords);
+    }
+
+    /**
+     * Обернена операція до {@link #interleave(long[], long[])}.
+     */
+    public void deinterleave(long[] codeWords, long[] innerCodeWords) {
+        long[] matrix = readRows(codeWords);
+        transpose(matrix);
+        System.arraycopy(matrix, 0, innerCodeWords, 0, depth);
+    }
+
+    /**
+     * Після транспонування j-й рядок - j-ті біти всіх слів блоку, тобто j-та порція потоку.
+     */
+    private void writeRows(long[] matrix, long[] codeWords) {
+        if (depth == Long.SIZE) {
+            System.arraycopy(matrix, 0, codeWords, 0, innerN);
+            return;
+        }
+        for (int j = 0; j < innerN; j++) {
+            BitWords.setBits(codeWords, j * depth, depth, matrix[j]);
+        }
+    }
+
+    private long[] readRows(long[] codeWords) {
+        long[] matrix = new long[Long.SIZE];
+        if (depth == Long.SIZE) {
+            System.arraycopy(codeWords, 0, matrix, 0, innerN);
+            return matrix;
+        }
+        for (int j = 0; j < innerN; j++) {
+            matrix[j] = BitWords.getBits(codeWords, j * depth, depth);
+        }
+        return matrix;
+    }
+
+    /**
+     * Транспонування бітової матриці 64x64 на місці: біт c рядка r
+     * переходить у біт r рядка c. На кожному проході міняються місцями
+     * протилежні позадіагональні блоки розміру j x j.
+     */
+    static void transpose(long[] matrix) {
+        long mask = 0x00000000FFFFFFFFL;
+        for (int j = 32; j != 0; j >>>= 1, mask ^= mask << j) {
+            for (int row = 0; row < Long.SIZE; row = ((row | j) + 1) & ~j) {
+                long swap = ((matrix[row] >>> j) ^ matrix[row | j]) & mask;
+                matrix[row | j] ^= swap;
+                matrix[row] ^= swap << j;
+            }
+        }
+    }
+
+    // --- API над масивами слів ---
+
+    @Override
+    public void encodeWords(long[] dataWords, long[] codeWords) {
+        long[] matrix = new long[Long.SIZE];
+        for (int i = 0; i < depth; i++) {
+            matrix[i] = inner.encodeBits(BitWords.getBits(dataWords, i * innerK, innerK));
+        }
+        transpose(matrix);
+        writeRows(matrix, codeWords);
+    }
+
+    /**
+     * Синдром - маска слів блоку з ненульовим синдромом внутрішнього коду.
+     */
+    @Override
+    public long syndromeWords(long[] codeWords) {
+        long[] matrix = readRows(codeWords);
+        transpose(matrix);
+        long syndrome = 0;
+        for (int i = 0; i < depth; i++) {
+            if (inner.syndromeBits(matrix[i]) != 0) {
+                syndrome |= 1L << i;
+            }
+        }
+        return syndrome;
+    }
+
+    /**
+     * Виправляє кожне слово блоку. Слово невиправне, якщо синдром виправленого
+     * слова ненульовий; тоді весь блок невиправний і залишається без змін.
+     */
+    @Override
+    public int correctWords(long[] codeWords) {
+        long[] matrix = readRows(codeWords);
+        transpose(matrix);
+        int corrected = 0;
+        for (int i = 0; i < depth; i++) {
+            long word = matrix[i];
+            long fixed = inner.correctBits(word);
+            if (inner.syndromeBits(fixed) != 0) {
+                return UNCORRECTABLE;
+            }
+            corrected += Long.bitCount(word ^ fixed);
+            matrix[i] = fixed;
+        }
+        if (corrected != 0) {
+            transpose(matrix);
+            writeRows(matrix, codeWords);
+        }
+        return corrected;
+    }
+
+    @Override
+    public void extractDataWords(long[] codeWords, long[] dataWords) {
+        long[] matrix = readRows(codeWords);
+        transpose(matrix);
+        for (int i = 0; i < depth; i++) {
+            BitWords.setBits(dataWords, i * innerK, innerK, inner.extractDataBits(matrix[i]));
+        }
+    }
+
+    /**
+     * Позиції групи внутрішнього коду в i-му слові блоку.
+     */
+    private static final class InterleavedGroup extends AbstractList<Integer> implements RandomAccess {
+
+        private final List<Integer> group;
+        private final int depth;
+        private final int row;
+
+        InterleavedGroup(List<Integer> group, int depth, int row) {
+            this.group = group;
+            this.depth = depth;
+            this.row = row;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return group.get(index) * depth + row;
+        }
+
+        @Override
+        public int size() {
+            return group.size();
+        }
+    }
+}
@@ -0,0 +1,441 @@
+package org.stepaniuk.laboratorywork.algorithms.ldpc;
+
+import org.stepaniuk.laboratorywork.algorithms.AbstractWordArrayCode;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Код LDPC з розрідженою перевірочною матрицею H = [H_d | H_p].
+ * <p>
+ * H_d (m x k) - псевдовипадкова матриця зі сталою вагою стовпців і без
+ * циклів довжини 4; H_p (m x m) - подвійна діагональ, тож контрольні біти
+ * обчислюються за лінійний час: p_i = p_(i-1) + (H_d * d)_i. Біти [0, k) - дані,
+ * біт k + i - контрольний біт i-ї перевірки.
+ * <p>
+ * Матриця зберігається у стиснутому рядковому форматі (CSR): для кожної
+ * перевірки - суцільний відрізок масиву індексів біт. Декодер - пошарова
+ * нормалізована min-sum над float LLR (додатне значення - біт 0) із виходом,
+ * щойно всі перевірки виконано. Слова незалежні, тож їх можна декодувати паралельно.
+ */
+public class LdpcCode extends AbstractWordArrayCode {
+
+    public static final int DEFAULT_COLUMN_WEIGHT = 3;
+    public static final long DEFAULT_SEED = 0x4C445043L; // Фіксований, щоб код був відтворюваним
+    public static final int MAX_ITERATIONS = 50;
+
+    private static final float NORMALIZATION = 0.75f;
+    private static final float HARD_LLR = 1.0f;
+    private static final int MAX_PLACEMENT_ATTEMPTS = 100;
+    private static final int PARALLEL_CHUNK_WORDS = 16;
+
+    private final int k; // Інформаційні біти
+    private final int m; // Перевірки (= контрольні біти)
+    private final int n;
+    private final int[] checkOffsets; // CSR: біти перевірки c - checkColumns[checkOffsets[c] .. checkOffsets[c+1])
+    private final int[] checkColumns;
+    private final int maxCheckDegree;
+    private final Map<Integer, List<Integer>> relationships;
+
+    /**
+     * Код зі швидкістю k / (k + m), вагою стовпців 3 та фіксованим seed.
+     */
+    public LdpcCode(int k, int m) {
+        this(k, m, DEFAULT_COLUMN_WEIGHT, DEFAULT_SEED);
+    }
+
+    /**
+     * @param k            Кількість інформаційних біт.
+     * @param m            Кількість перевірок (контрольних біт).
+     * @param columnWeight Кількість перевірок, у яких бере участь кожен інформаційний біт.
+     * @param seed         Початкове значення генератора структури матриці.
+     */
+    public LdpcCode(int k, int m, int columnWeight, long seed) {
+        if (k <= 0 || m <= 1) {
+            throw new IllegalArgumentException("Потрібно k > 0 та m > 1.");
+        }
+        if (columnWeight < 1 || columnWeight > m) {
+            throw new IllegalArgumentException("Вага стовпця має бути в межах 1..m.");
+        }
+        if ((long) k + m > Integer.MAX_VALUE / columnWeight) {
+            throw new IllegalArgumentException("Кодове слово занадто довге.");
+        }
+        this.k = k;
+        this.m = m;
+        this.n = k + m;
+
+        List<int[]> rows = buildInformationRows(columnWeight, new SplittableRandom(seed));
+        this.checkOffsets = new int[m + 1];
+        int edges = 0;
+        for (int c = 0; c < m; c++) {
+            checkOffsets[c] = edges;
+            edges += rows.get(c).length + ((c == 0) ? 1 : 2);
+        }
+        checkOffsets[m] = edges;
+        this.checkColumns = new int[edges];
+        int maxDegree = 0;
+        for (int c = 0; c < m; c++) {
+            int[] row = rows.get(c);
+            int at = checkOffsets[c];
+            System.arraycopy(row, 0, checkColumns, at, row.length);
+            at += row.length;
+            if (c > 0) {
+                checkColumns[at++] = k + c - 1; // Подвійна діагональ H_p
+            }
+            checkColumns[at] = k + c;
+            maxDegree = Math.max(maxDegree, checkOffsets[c + 1] - checkOffsets[c]);
+        }
+        this.maxCheckDegree = maxDegree;
+        this.relationships = buildRelationships();
+    }
+
+    /**
+     * Розставляє одиниці H_d по стовпцях, уникаючи циклів довжини 4:
+     * дві перевірки не можуть мати двох спільних біт (зокрема сусідні перевірки
+     * вже мають спільний контрольний біт).
+     */
+    private List<int[]> buildInformationRows(int columnWeight, SplittableRandom random) {
+        List<List<Integer>> rows = new ArrayList<>(m);
+        for (int c = 0; c < m; c++) {
+            rows.add(new ArrayList<>());
+        }
+        int[] chosen = new int[columnWeight];
+        for (int column = 0; column < k; column++) {
+            for (int attempt = 0; ; attempt++) {
+                pickDistinctRows(random, chosen);
+                if (attempt >= MAX_PLACEMENT_ATTEMPTS || !createsShortCycle(rows, chosen)) {
+                    break;
+                }
+            }
+            for (int row : chosen) {
+                rows.get(row).add(column);
+            }
+        }
+        List<int[]> result = new ArrayList<>(m);
+        for (List<Integer> row : rows) {
+            result.add(row.stream().mapToInt(Integer::intValue).toArray());
+        }
+        return result;
+    }
+
+    private void pickDistinctRows(SplittableRandom random, int[] chosen) {
+        for (int i = 0; i < chosen.length; i++) {
+            int row;
+            boolean duplicate;
+            do {
+                row = random.nextInt(m);
+                duplicate = false;
+                for (int j = 0; j < i; j++) {
+                    duplicate |= chosen[j] == row;
+                }
+            } while (duplicate);
+            chosen[i] = row;
+        }
+    }
+
+    private static boolean createsShortCycle(List<List<Integer>> rows, int[] chosen) {
+        for (int i = 0; i < chosen.length; i++) {
+            for (int j = i + 1; j < chosen.length; j++) {
+                if (Math.abs(chosen[i] - chosen[j]) == 1) {
+                    return true; // Спільний контрольний біт подвійної діагоналі
+                }
+                List<Integer> a = rows.get(chosen[i]);
+                List<Integer> b = rows.get(chosen[j]);
+                if (!Collections.disjoint(a, b)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Групи - перевірки; ключем виступає контрольний біт перевірки (k + i).
+     * Значення - представлення відрізків CSR, без копіювання.
+     */
+    private Map<Integer, List<Integer>> buildRelationships() {
+        Map<Integer, List<Integer>> rel = new HashMap<>();
+        for (int c = 0; c < m; c++) {
+            rel.put(k + c, new CheckGroup(checkColumns, checkOffsets[c], checkOffsets[c + 1]));
+        }
+        return Collections.unmodifiableMap(rel);
+    }
+
+    @Override
+    public String getName() {
+        return String.format("LDPC (%d, %d)", n, k);
+    }
+
+    @Override
+    public int getDataWordLength() {
+        return k;
+    }
+
+    @Override
+    public int getCodeWordLength() {
+        return n;
+    }
+
+    @Override
+    public Map<Integer, List<Integer>> getBitRelationships() {
+        return relationships;
+    }
+
+    /**
+     * Кількість одиниць у перевірочній матриці.
+     */
+    public int getEdgeCount() {
+        return checkColumns.length;
+    }
+
+    // --- API над масивами слів ---
+
+    @Override
+    public void encodeWords(long[] dataWords, long[] codeWords) {
+        Arrays.fill(codeWords, 0, BitWords.wordCount(n), 0);
+        BitWords.copyBits(dataWords, 0, codeWords, 0, k);
+        boolean parity = false;
+        for (int c = 0; c < m; c++) {
+            int end = checkOffsets[c + 1] - ((c == 0) ? 1 : 2); // Без контрольних біт
+            for (int e = checkOffsets[c]; e < end; e++) {
+                parity ^= BitWords.getBit(codeWords, checkColumns[e]);
+            }
+            if (parity) {
+                BitWords.flipBit(codeWords, k + c);
+            }
+        }
+    }
+
+    /**
+     * Маска невиконаних перевірок, згорнута за модулем 64
+     * (ненульова тоді й лише тоді, коли слово не є кодовим).
+     */
+    @Override
+    public long syndromeWords(long[] codeWords) {
+        long syndrome = 0;
+        for (int c = 0; c < m; c++) {
+            if (checkFails(codeWords, c)) {
+                syndrome |= 1L << c;
+            }
+        }
+        return syndrome;
+    }
+
+    private boolean checkFails(long[] codeWords, int check) {
+        boolean parity = false;
+        for (int e = checkOffsets[check], end = checkOffsets[check + 1]; e < end; e++) {
+            parity ^= BitWords.getBit(codeWords, checkColumns[e]);
+        }
+        return parity;
+    }
+
+    /**
+     * Жорстке декодування: біти перетворюються на LLR однакової надійності.
+     * Якщо декодер не зійшовся, слово залишається без змін.
+     *
+     * @return Кількість виправлених біт або {@link #UNCORRECTABLE}.
+     */
+    @Override
+    public int correctWords(long[] codeWords) {
+        return new Decoder().decodeHard(codeWords);
+    }
+
+    @Override
+    public void extractDataWords(long[] codeWords, long[] dataWords) {
+        BitWords.copyBits(codeWords, 0, dataWords, 0, k);
+    }
+
+    // --- М'яке декодування ---
+
+    /**
+     * Декодування min-sum безпосередньо за LLR каналу.
+     *
+     * @return Кількість біт, що відрізняються від жорсткого рішення за знаком LLR,
+     * або {@link #UNCORRECTABLE}, якщо за {@link #MAX_ITERATIONS} ітерацій
+     * не всі перевірки виконано (у {@code codeWords} - останнє рішення).
+     */
+    @Override
+    public int decodeSoft(float[] llr, long[] codeWords) {
+        return new Decoder().decode(llr, codeWords);
+    }
+
+    /**
+     * Паралельне м'яке декодування багатьох слів.
+     *
+     * @param results Для кожного слова - результат як у {@link #decodeSoft(float[], long[])}.
+     */
+    public void decodeSoftParallel(float[][] llrs, long[][] codeWords, int[] results) {
+        forEachChunk(llrs.length, (decoder, i) -> results[i] = decoder.decode(llrs[i], codeWords[i]));
+    }
+
+    /**
+     * Паралельне жорстке декодування багатьох слів на місці.
+     *
+     * @param results Для кожного слова - результат як у {@link #correctWords(long[])}.
+     */
+    public void correctWordsParallel(long[][] codeWords, int[] results) {
+        forEachChunk(codeWords.length, (decoder, i) -> results[i] = decoder.decodeHard(codeWords[i]));
+    }
+
+    private void forEachChunk(int count, WordTask task) {
+        int chunks = (count + PARALLEL_CHUNK_WORDS - 1) / PARALLEL_CHUNK_WORDS;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            Decoder decoder = new Decoder(); // Робочі масиви - свої для кожної порції
+            int end = Math.min(count, (chunk + 1) * PARALLEL_CHUNK_WORDS);
+            for (int i = chunk * PARALLEL_CHUNK_WORDS; i < end; i++) {
+                task.run(decoder, i);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface WordTask {
+        void run(Decoder decoder, int index);
+    }
+
+    /**
+     * Робочі масиви декодера; один екземпляр на потік.
+     */
+    private final class Decoder {
+
+        final float[] checkMessages = new float[checkColumns.length]; // Повідомлення перевірка -> біт
+        final float[] posterior = new float[n];
+        final float[] incoming = new float[maxCheckDegree];           // Повідомлення біт -> перевірка
+        float[] hardLlr;
+
+        int decodeHard(long[] codeWords) {
+            if (hardLlr == null) {
+                hardLlr = new float[n];
+            }
+            for (int i = 0; i < n; i++) {
+                hardLlr[i] = BitWords.getBit(codeWords, i) ? -HARD_LLR : HARD_LLR;
+            }
+            return decode(hardLlr, codeWords, true);
+        }
+
+        int decode(float[] llr, long[] codeWords) {
+            return decode(llr, codeWords, false);
+        }
+
+        /**
+         * @param keepOnFailure Не записувати останнє рішення, якщо декодер не зійшовся
+         *                      (у {@code codeWords} тоді залишається отримане слово).
+         */
+        private int decode(float[] llr, long[] codeWords, boolean keepOnFailure) {
+            System.arraycopy(llr, 0, posterior, 0, n);
+            Arrays.fill(checkMessages, 0f);
+            boolean converged = allChecksSatisfied();
+            for (int iteration = 0; iteration < MAX_ITERATIONS && !converged; iteration++) {
+                for (int c = 0; c < m; c++) {
+                    updateCheck(c);
+                }
+                converged = allChecksSatisfied();
+            }
+            if (!converged && keepOnFailure) {
+                return UNCORRECTABLE;
+            }
+            return writeDecisions(llr, codeWords, converged);
+        }
+
+        /**
+         * Пошаровий крок min-sum для однієї перевірки: апостеріорні LLR її біт
+         * оновлюються одразу, тож наступні перевірки бачать свіжі значення.
+         */
+        private void updateCheck(int check) {
+            int start = checkOffsets[check];
+            int end = checkOffsets[check + 1];
+            float min1 = Float.MAX_VALUE;
+            float min2 = Float.MAX_VALUE;
+            int minIndex = -1;
+            boolean negative = false;
+            for (int e = start; e < end; e++) {
+                float message = posterior[checkColumns[e]] - checkMessages[e];
+                incoming[e - start] = message;
+                float magnitude = Math.abs(message);
+                negative ^= message < 0;
+                if (magnitude < min1) {
+                    min2 = min1;
+                    min1 = magnitude;
+                    minIndex = e;
+                } else if (magnitude < min2) {
+                    min2 = magnitude;
+                }
+            }
+            min1 *= NORMALIZATION;
+            min2 *= NORMALIZATION;
+            for (int e = start; e < end; e++) {
+                float message = incoming[e - start];
+                float magnitude = (e == minIndex) ? min2 : min1;
+                // Знак результату - добуток знаків решти повідомлень
+                boolean resultNegative = negative ^ (message < 0);
+                float outgoing = resultNegative ? -magnitude : magnitude;
+                checkMessages[e] = outgoing;
+                posterior[checkColumns[e]] = message + outgoing;
+            }
+        }
+
+        private boolean allChecksSatisfied() {
+            for (int c = 0; c < m; c++) {
+                boolean parity = false;
+                for (int e = checkOffsets[c], end = checkOffsets[c + 1]; e < end; e++) {
+                    parity ^= posterior[checkColumns[e]] < 0;
+                }
+                if (parity) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int writeDecisions(float[] llr, long[] codeWords, boolean converged) {
+            Arrays.fill(codeWords, 0, BitWords.wordCount(n), 0);
+            int flipped = 0;
+            for (int i = 0; i < n; i++) {
+                boolean one = posterior[i] < 0;
+                if (one) {
+                    BitWords.flipBit(codeWords, i);
+                }
+                flipped += (one != (llr[i] < 0)) ? 1 : 0;
+            }
+            return converged ? flipped : UNCORRECTABLE;
+        }
+    }
+
+    /**
+     * Біти однієї перевірки - відрізок масиву CSR.
+     */
+    private static final class CheckGroup extends AbstractList<Integer> implements RandomAccess {
+
+        private final int[] columns;
+        private final int from;
+        private final int to;
+
+        CheckGroup(int[] columns, int from, int to) {
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Integer get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return columns[from + index];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.stepaniuk.laboratorywork.algorithms.reedsolomon;
+
+/**
+ * Арифметика поля Галуа GF(2^8) з примітивним поліномом
+ * x^8 + x^4 + x^3 + x^2 + 1 (0x11D) та генератором alpha = 2.
+ * <p>
+ * Множення виконується через таблиці логарифмів/антилогарифмів;
+ * для множення на константу у внутрішніх циклах є повна таблиця 256x256.
+ */
+public final class GF256 {
+
+    public static final int ORDER = 256;
+    public static final int PRIMITIVE_POLYNOMIAL = 0x11D;
+
+    static final int[] EXP = new int[2 * ORDER]; // alpha^i, подвоєна, щоб не брати модуль 255
+    static final int[] LOG = new int[ORDER];     // LOG[0] не визначений
+    static final byte[] MUL = new byte[ORDER * ORDER]; // MUL[(a << 8) | b] = a * b
+
+    static {
+        int x = 1;
+        for (int i = 0; i < ORDER - 1; i++) {
+            EXP[i] = x;
+            LOG[x] = i;
+            x <<= 1;
+            if ((x & ORDER) != 0) {
+                x ^= PRIMITIVE_POLYNOMIAL;
+            }
+        }
+        for (int i = ORDER - 1; i < EXP.length; i++) {
+            EXP[i] = EXP[i - (ORDER - 1)];
+        }
+        for (int a = 1; a < ORDER; a++) {
+            for (int b = 1; b < ORDER; b++) {
+                MUL[(a << 8) | b] = (byte) EXP[LOG[a] + LOG[b]];
+            }
+        }
+    }
+
+    private GF256() {
+    }
+
+    public static int multiply(int a, int b) {
+        return (a == 0 || b == 0) ? 0 : EXP[LOG[a] + LOG[b]];
+    }
+
+    public static int divide(int a, int b) {
+        if (b == 0) {
+            throw new ArithmeticException("Ділення на нуль у GF(256)");
+        }
+        return (a == 0) ? 0 : EXP[LOG[a] + (ORDER - 1) - LOG[b]];
+    }
+
+    public static int inverse(int a) {
+        return divide(1, a);
+    }
+
+    /**
+     * alpha^power для будь-якого цілого power (зокрема від'ємного).
+     */
+    public static int alphaPower(int power) {
+        return EXP[Math.floorMod(power, ORDER - 1)];
+    }
+}
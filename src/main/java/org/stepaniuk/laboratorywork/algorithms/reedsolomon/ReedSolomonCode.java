@@ -0,0 +1,565 @@
+package org.stepaniuk.laboratorywork.algorithms.reedsolomon;
+
+import org.stepaniuk.laboratorywork.algorithms.AbstractWordArrayCode;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * Систематичний код Ріда-Соломона RS(n, k) над GF(256).
+ * <p>
+ * Блок з n байт (символів) містить k байт даних, за якими йдуть n - k
+ * контрольних байт; код виправляє до (n - k) / 2 пошкоджених байт у блоці
+ * незалежно від кількості пошкоджених біт у кожному. Корені породжуючого
+ * полінома - alpha^0 .. alpha^(n-k-1).
+ * <p>
+ * Кодування та перевірка виконуються одним LFSR, чий регістр упаковано
+ * в {@code long} (8 символів на слово): крок на кожен байт - кілька XOR
+ * з рядком таблиці. Чистий блок розпізнається за нульовою остачею без
+ * обчислення синдромів; інакше синдроми рахуються з остачі (nsym байт замість n).
+ * Далі - Берлекемп-Мессі для полінома локаторів, пошук Ченя для позицій
+ * та алгоритм Форні для значень помилок. Для потоків є байтовий блоковий API,
+ * зокрема паралельний (блоки незалежні, тож діляться між потоками порціями).
+ * <p>
+ * Бітове представлення для {@link org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode}:
+ * біт 8i + b - це b-й біт i-го байта.
+ */
+public class ReedSolomonCode extends AbstractWordArrayCode {
+
+    public static final int MAX_N = GF256.ORDER - 1;
+
+    private static final int PARALLEL_CHUNK_BLOCKS = 256;
+    private static final int FAST_REGISTER_WORDS = 4;
+
+    private final int n;    // Довжина блоку в байтах
+    private final int k;    // Байт даних у блоці
+    private final int nsym; // Контрольних байт
+    private final int registerWords;      // Довжина регістра LFSR у long
+    private final long[] encoderTable;    // [feedback * registerWords + w] - упаковані feedback * g[j + 1]
+    private final int[] syndromeRoots;    // alpha^j
+    private final int[] chienSteps;       // alpha^(-j)
+    private final Map<Integer, List<Integer>> relationships;
+
+    /**
+     * @param n Довжина блоку в байтах (до 255).
+     * @param k Кількість байт даних (n - k - кількість контрольних байт).
+     */
+    public ReedSolomonCode(int n, int k) {
+        if (n <= 0 || n > MAX_N) {
+            throw new IllegalArgumentException("Довжина блоку 'n' має бути в межах 1.." + MAX_N + ".");
+        }
+        if (k <= 0 || k >= n) {
+            throw new IllegalArgumentException("Кількість байт даних 'k' має бути в межах 1..n-1.");
+        }
+        this.n = n;
+        this.k = k;
+        this.nsym = n - k;
+        // До 32 контрольних байт регістр - рівно 4 слова (зайві - нульові), див. remainder
+        this.registerWords = Math.max(FAST_REGISTER_WORDS, (nsym + 7) / 8);
+        this.encoderTable = buildEncoderTable(buildGenerator());
+        this.syndromeRoots = new int[nsym];
+        this.chienSteps = new int[nsym + 1];
+        for (int j = 0; j < nsym; j++) {
+            syndromeRoots[j] = GF256.alphaPower(j);
+        }
+        for (int j = 0; j <= nsym; j++) {
+            chienSteps[j] = GF256.alphaPower(-j);
+        }
+        this.relationships = buildRelationships();
+    }
+
+    /**
+     * g(x) = (x - alpha^0)(x - alpha^1)...(x - alpha^(nsym-1)), коефіцієнти від старшого.
+     */
+    private int[] buildGenerator() {
+        int[] g = new int[nsym + 1];
+        g[0] = 1;
+        for (int j = 0; j < nsym; j++) {
+            int root = GF256.alphaPower(j);
+            for (int i = j + 1; i > 0; i--) {
+                g[i] ^= GF256.multiply(g[i - 1], root);
+            }
+        }
+        return g;
+    }
+
+    /**
+     * Для кожного значення зворотного зв'язку LFSR - одразу весь вектор,
+     * що додається до регістра, тож крок кодування - кілька XOR слів.
+     * Символ j регістра (коефіцієнт при x^(nsym-1-j)) лежить у слові j / 8,
+     * старшим байтом уперед, тож зсув регістра на символ - зсув слів на 8 біт.
+     */
+    private long[] buildEncoderTable(int[] generator) {
+        long[] table = new long[GF256.ORDER * registerWords];
+        for (int feedback = 1; feedback < GF256.ORDER; feedback++) {
+            for (int j = 0; j < nsym; j++) {
+                long symbol = GF256.multiply(feedback, generator[j + 1]);
+                table[feedback * registerWords + (j >>> 3)] |= symbol << registerShift(j);
+            }
+        }
+        return table;
+    }
+
+    private static int registerShift(int symbol) {
+        return (7 - (symbol & 7)) * Byte.SIZE;
+    }
+
+    /**
+     * Обчислює в {@code register} остачу d(x) * x^nsym mod g(x) для k байт даних.
+     */
+    private void remainder(byte[] data, int offset, long[] register) {
+        if (registerWords == FAST_REGISTER_WORDS) {
+            remainderFast(data, offset, register);
+            return;
+        }
+        Arrays.fill(register, 0);
+        int last = registerWords - 1;
+        for (int i = 0; i < k; i++) {
+            int feedback = (int) ((data[offset + i] ^ (register[0] >>> 56)) & 0xFF);
+            for (int w = 0; w < last; w++) {
+                register[w] = (register[w] << 8) | (register[w + 1] >>> 56);
+            }
+            register[last] <<= 8;
+            if (feedback != 0) {
+                int row = feedback * registerWords;
+                for (int w = 0; w <= last; w++) {
+                    register[w] ^= encoderTable[row + w];
+                }
+            }
+        }
+    }
+
+    /**
+     * Те саме для регістра з 4 слів, що тримається в локальних змінних.
+     */
+    private void remainderFast(byte[] data, int offset, long[] register) {
+        long[] table = encoderTable;
+        long r0 = 0, r1 = 0, r2 = 0, r3 = 0;
+        for (int i = offset, end = offset + k; i < end; i++) {
+            int row = (int) ((data[i] ^ (r0 >>> 56)) & 0xFF) << 2;
+            r0 = ((r0 << 8) | (r1 >>> 56)) ^ table[row];
+            r1 = ((r1 << 8) | (r2 >>> 56)) ^ table[row + 1];
+            r2 = ((r2 << 8) | (r3 >>> 56)) ^ table[row + 2];
+            r3 = (r3 << 8) ^ table[row + 3];
+        }
+        register[0] = r0;
+        register[1] = r1;
+        register[2] = r2;
+        register[3] = r3;
+    }
+
+    /**
+     * "Групи" - біти одного байта (символу). Ключем виступає перший біт байта.
+     */
+    private Map<Integer, List<Integer>> buildRelationships() {
+        Map<Integer, List<Integer>> rel = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            rel.put(i * Byte.SIZE, new SymbolGroup(i * Byte.SIZE));
+        }
+        return Collections.unmodifiableMap(rel);
+    }
+
+    @Override
+    public String getName() {
+        return String.format("Ріда-Соломона (%d, %d)", n, k);
+    }
+
+    @Override
+    public int getDataWordLength() {
+        return k * Byte.SIZE;
+    }
+
+    @Override
+    public int getCodeWordLength() {
+        return n * Byte.SIZE;
+    }
+
+    @Override
+    public Map<Integer, List<Integer>> getBitRelationships() {
+        return relationships;
+    }
+
+    public int getBlockLength() {
+        return n;
+    }
+
+    public int getDataLength() {
+        return k;
+    }
+
+    /**
+     * Максимальна кількість байт, що виправляється в одному блоці.
+     */
+    public int getCorrectableSymbols() {
+        return nsym / 2;
+    }
+
+    // --- Байтовий блоковий API ---
+
+    /**
+     * Кодує k байт з {@code data} у блок з n байт у {@code block}.
+     * Масиви можуть збігатися, якщо дані вже лежать на місці блоку.
+     */
+    public void encodeBlock(byte[] data, int dataOffset, byte[] block, int blockOffset) {
+        encodeBlock(data, dataOffset, block, blockOffset, new long[registerWords]);
+    }
+
+    private void encodeBlock(byte[] data, int dataOffset, byte[] block, int blockOffset, long[] register) {
+        remainder(data, dataOffset, register);
+        System.arraycopy(data, dataOffset, block, blockOffset, k);
+        int parity = blockOffset + k;
+        for (int j = 0; j < nsym; j++) {
+            block[parity + j] = (byte) (register[j >>> 3] >>> registerShift(j));
+        }
+    }
+
+    /**
+     * Перевіряє та виправляє блок на місці.
+     *
+     * @return Кількість виправлених байт або {@link #UNCORRECTABLE}.
+     */
+    public int decodeBlock(byte[] block, int offset) {
+        return new Decoder().decode(block, offset);
+    }
+
+    /**
+     * Кодує {@code blocks} послідовних блоків.
+     */
+    public void encodeBlocks(byte[] data, int dataOffset, byte[] blocks, int blockOffset, int count) {
+        long[] register = new long[registerWords];
+        for (int b = 0; b < count; b++) {
+            encodeBlock(data, dataOffset + b * k, blocks, blockOffset + b * n, register);
+        }
+    }
+
+    /**
+     * Декодує {@code count} послідовних блоків на місці.
+     */
+    public DecodeReport decodeBlocks(byte[] blocks, int offset, int count) {
+        Decoder decoder = new Decoder();
+        long correctedSymbols = 0;
+        long uncorrectable = 0;
+        for (int b = 0; b < count; b++) {
+            int corrected = decoder.decode(blocks, offset + b * n);
+            if (corrected == UNCORRECTABLE) {
+                uncorrectable++;
+            } else {
+                correctedSymbols += corrected;
+            }
+        }
+        return new DecodeReport(count, correctedSymbols, uncorrectable);
+    }
+
+    /**
+     * Те саме, що {@link #encodeBlocks}, але порції блоків кодуються паралельно.
+     */
+    public void encodeBlocksParallel(byte[] data, int dataOffset, byte[] blocks, int blockOffset, int count) {
+        IntStream.range(0, chunkCount(count)).parallel().forEach(c -> {
+            int first = c * PARALLEL_CHUNK_BLOCKS;
+            encodeBlocks(data, dataOffset + first * k, blocks, blockOffset + first * n,
+                    Math.min(PARALLEL_CHUNK_BLOCKS, count - first));
+        });
+    }
+
+    /**
+     * Те саме, що {@link #decodeBlocks}, але порції блоків декодуються паралельно.
+     */
+    public DecodeReport decodeBlocksParallel(byte[] blocks, int offset, int count) {
+        return IntStream.range(0, chunkCount(count)).parallel()
+                .mapToObj(c -> {
+                    int first = c * PARALLEL_CHUNK_BLOCKS;
+                    return decodeBlocks(blocks, offset + first * n, Math.min(PARALLEL_CHUNK_BLOCKS, count - first));
+                })
+                .reduce(new DecodeReport(0, 0, 0), DecodeReport::merge);
+    }
+
+    private static int chunkCount(int blocks) {
+        return (blocks + PARALLEL_CHUNK_BLOCKS - 1) / PARALLEL_CHUNK_BLOCKS;
+    }
+
+    /**
+     * Підсумок декодування послідовності блоків.
+     */
+    public record DecodeReport(long blocks, long correctedSymbols, long uncorrectableBlocks) {
+
+        DecodeReport merge(DecodeReport other) {
+            return new DecodeReport(blocks + other.blocks, correctedSymbols + other.correctedSymbols,
+                    uncorrectableBlocks + other.uncorrectableBlocks);
+        }
+    }
+
+    // --- API над масивами слів ---
+
+    @Override
+    public void encodeWords(long[] dataWords, long[] codeWords) {
+        byte[] block = new byte[n];
+        unpackBytes(dataWords, block, k);
+        encodeBlock(block, 0, block, 0);
+        packBytes(block, codeWords, n);
+    }
+
+    /**
+     * Синдроми (по байту) об'єднуються через OR у 64-бітне значення,
+     * тож воно ненульове тоді й лише тоді, коли блок пошкоджений.
+     */
+    @Override
+    public long syndromeWords(long[] codeWords) {
+        byte[] block = new byte[n];
+        unpackBytes(codeWords, block, n);
+        Decoder decoder = new Decoder();
+        decoder.computeSyndromes(block, 0);
+        long syndrome = 0;
+        for (int j = 0; j < nsym; j++) {
+            syndrome |= (long) decoder.syndromes[j] << ((j & 7) * Byte.SIZE);
+        }
+        return syndrome;
+    }
+
+    /**
+     * @return Кількість виправлених біт або {@link #UNCORRECTABLE}.
+     */
+    @Override
+    public int correctWords(long[] codeWords) {
+        byte[] block = new byte[n];
+        unpackBytes(codeWords, block, n);
+        byte[] original = block.clone();
+        if (decodeBlock(block, 0) == UNCORRECTABLE) {
+            return UNCORRECTABLE;
+        }
+        int correctedBits = 0;
+        for (int i = 0; i < n; i++) {
+            correctedBits += Integer.bitCount((block[i] ^ original[i]) & 0xFF);
+        }
+        packBytes(block, codeWords, n);
+        return correctedBits;
+    }
+
+    @Override
+    public void extractDataWords(long[] codeWords, long[] dataWords) {
+        int dataWordCount = BitWords.wordCount(k * Byte.SIZE);
+        for (int w = 0; w < dataWordCount; w++) {
+            dataWords[w] = codeWords[w];
+        }
+        int tailBits = (k * Byte.SIZE) & 63;
+        if (tailBits != 0) {
+            dataWords[dataWordCount - 1] &= (1L << tailBits) - 1;
+        }
+    }
+
+    private static void unpackBytes(long[] words, byte[] bytes, int count) {
+        for (int i = 0; i < count; i++) {
+            bytes[i] = (byte) (words[i >>> 3] >>> ((i & 7) * Byte.SIZE));
+        }
+    }
+
+    private static void packBytes(byte[] bytes, long[] words, int count) {
+        int wordCount = BitWords.wordCount(count * Byte.SIZE);
+        for (int w = 0; w < wordCount; w++) {
+            words[w] = 0;
+        }
+        for (int i = 0; i < count; i++) {
+            words[i >>> 3] |= (bytes[i] & 0xFFL) << ((i & 7) * Byte.SIZE);
+        }
+    }
+
+    // --- Декодер ---
+
+    /**
+     * Робочі масиви декодування; один екземпляр на потік.
+     */
+    private final class Decoder {
+
+        final long[] register = new long[registerWords];
+        final int[] residue = new int[nsym];
+        final int[] syndromes = new int[nsym];
+        final int[] locator = new int[nsym + 1]; // Поліном локаторів, від молодшого коефіцієнта
+        final int[] previous = new int[nsym + 1];
+        final int[] scratch = new int[nsym + 1];
+        final int[] terms = new int[nsym + 1];
+        final int[] positions = new int[nsym];
+
+        /**
+         * Остача r(x) = c(x) mod g(x) - це різниця між перерахованими та отриманими
+         * контрольними байтами. Оскільки g(alpha^j) = 0, синдроми S_j = c(alpha^j) = r(alpha^j)
+         * обчислюються за Горнером лише по nsym байтах остачі.
+         *
+         * @return true, якщо блок чистий (остача нульова).
+         */
+        boolean computeSyndromes(byte[] block, int offset) {
+            remainder(block, offset, register);
+            int parity = offset + k;
+            long any = 0;
+            for (int j = 0; j < nsym; j++) {
+                int symbol = (int) ((register[j >>> 3] >>> registerShift(j)) ^ block[parity + j]) & 0xFF;
+                residue[j] = symbol;
+                any |= symbol;
+            }
+            if (any == 0) {
+                return true;
+            }
+            for (int j = 0; j < nsym; j++) {
+                int root = syndromeRoots[j];
+                int s = 0;
+                for (int i = 0; i < nsym; i++) {
+                    s = (GF256.MUL[(s << 8) | root] & 0xFF) ^ residue[i];
+                }
+                syndromes[j] = s;
+            }
+            return false;
+        }
+
+        int decode(byte[] block, int offset) {
+            if (computeSyndromes(block, offset)) {
+                return 0;
+            }
+            int errors = berlekampMassey();
+            if (errors > nsym / 2 || chienSearch(errors) != errors) {
+                return UNCORRECTABLE;
+            }
+            return forney(block, offset, errors) ? errors : UNCORRECTABLE;
+        }
+
+        /**
+         * Алгоритм Берлекемпа-Мессі: найкоротший LFSR, що породжує синдроми.
+         *
+         * @return Степінь полінома локаторів (кількість помилок).
+         */
+        private int berlekampMassey() {
+            Arrays.fill(locator, 0);
+            Arrays.fill(previous, 0);
+            locator[0] = 1;
+            previous[0] = 1;
+            int length = 0;
+            int shift = 1;
+            int previousDiscrepancy = 1;
+
+            for (int r = 0; r < nsym; r++) {
+                int discrepancy = syndromes[r];
+                for (int i = 1; i <= length; i++) {
+                    discrepancy ^= GF256.multiply(locator[i], syndromes[r - i]);
+                }
+                if (discrepancy == 0) {
+                    shift++;
+                    continue;
+                }
+                int factor = GF256.divide(discrepancy, previousDiscrepancy);
+                if (2 * length <= r) {
+                    System.arraycopy(locator, 0, scratch, 0, nsym + 1);
+                    subtractShifted(factor, shift);
+                    length = r + 1 - length;
+                    System.arraycopy(scratch, 0, previous, 0, nsym + 1);
+                    previousDiscrepancy = discrepancy;
+                    shift = 1;
+                } else {
+                    subtractShifted(factor, shift);
+                    shift++;
+                }
+            }
+            return length;
+        }
+
+        /**
+         * locator -= factor * x^shift * previous
+         */
+        private void subtractShifted(int factor, int shift) {
+            for (int i = 0; i + shift <= nsym; i++) {
+                locator[i + shift] ^= GF256.multiply(factor, previous[i]);
+            }
+        }
+
+        /**
+         * Пошук Ченя: перебирає степені p = 0..n-1 і шукає корені
+         * locator(alpha^(-p)). Доданки оновлюються множенням на alpha^(-j),
+         * тож кожна позиція коштує лише degree множень.
+         *
+         * @return Кількість знайдених коренів.
+         */
+        private int chienSearch(int degree) {
+            System.arraycopy(locator, 0, terms, 0, degree + 1);
+            int found = 0;
+            for (int power = 0; power < n; power++) {
+                int sum = 0;
+                for (int j = 0; j <= degree; j++) {
+                    sum ^= terms[j];
+                }
+                if (sum == 0) {
+                    if (found == degree) {
+                        return -1; // Коренів більше, ніж степінь - пошкодження поза можливостями коду
+                    }
+                    positions[found++] = power;
+                }
+                for (int j = 1; j <= degree; j++) {
+                    terms[j] = GF256.MUL[(terms[j] << 8) | chienSteps[j]] & 0xFF;
+                }
+            }
+            return found;
+        }
+
+        /**
+         * Алгоритм Форні: e = X * omega(X^-1) / locator'(X^-1), де
+         * omega(x) = S(x) * locator(x) mod x^nsym (перший корінь - alpha^0).
+         */
+        private boolean forney(byte[] block, int offset, int errors) {
+            for (int i = 0; i < errors; i++) { // deg omega < кількості помилок
+                int coefficient = 0;
+                for (int j = 0; j <= i; j++) {
+                    coefficient ^= GF256.multiply(syndromes[j], locator[i - j]);
+                }
+                scratch[i] = coefficient;
+            }
+
+            for (int e = 0; e < errors; e++) {
+                int power = positions[e];
+                int xInverse = GF256.alphaPower(-power);
+
+                int omega = 0;
+                for (int i = errors - 1; i >= 0; i--) {
+                    omega = GF256.multiply(omega, xInverse) ^ scratch[i];
+                }
+                int derivative = 0; // Формальна похідна: лише непарні степені
+                int xInverseSquared = GF256.multiply(xInverse, xInverse);
+                for (int j = errors - (1 - errors % 2); j >= 1; j -= 2) {
+                    derivative = GF256.multiply(derivative, xInverseSquared) ^ locator[j];
+                }
+                if (derivative == 0) {
+                    return false;
+                }
+                int magnitude = GF256.multiply(GF256.alphaPower(power), GF256.divide(omega, derivative));
+                block[offset + n - 1 - power] ^= (byte) magnitude;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Біти одного байта кодового слова.
+     */
+    private static final class SymbolGroup extends AbstractList<Integer> implements RandomAccess {
+
+        private final int first;
+
+        SymbolGroup(int first) {
+            this.first = first;
+        }
+
+        @Override
+        public Integer get(int index) {
+            if (index < 0 || index >= Byte.SIZE) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return first + index;
+        }
+
+        @Override
+        public int size() {
+            return Byte.SIZE;
+        }
+    }
+}
@@ -1,88 +1,402 @@
 package org.stepaniuk.laboratorywork.algorithms.repetition;
 
-import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.AbstractWordArrayCode;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.simd.BatchKernel;
+import org.stepaniuk.laboratorywork.algorithms.simd.SimdSupport;
 
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 
-public class RepetitionCode implements IErrorCorrectionCode {
+/**
+ * Код з повторенням: кожне k-бітне інформаційне слово передається t разів
+ * (t - непарне), тож виправляється до (t - 1) / 2 помилок у кожній позиції.
+ * <p>
+ * Копії розміщені послідовно: j-та копія займає біти [j*k, (j+1)*k).
+ * Завдяки цьому однакові позиції всіх копій лежать у відповідних бітах
+ * слів, і мажоритарне голосування виконується побітово-паралельно
+ * для 64 позицій одразу: голоси складаються у бітово-розшаровому лічильнику,
+ * а переповнення лічильника і є результатом голосування.
+ * <p>
+ * Класичний код (12, 4) зберігає розміщення, у якому кожен біт повторено
+ * t разів поспіль ({@code 1010 -> 111000111000}): слово перед голосуванням
+ * переставляється у послідовні копії, а результат - назад.
+ */
+public class RepetitionCode extends AbstractWordArrayCode {
+
+    public static final int MAX_REPETITIONS = 127; // Лічильник голосів має 6 розрядів
+
+    private static final int COUNTER_PLANES = 6;
+
+    private final int k; // Кількість інформаційних біт
+    private final int t; // Кількість копій
+    private final int n; // n = k * t
+    private final long dataMask;
+    private final long counterStart; // 2^6 - поріг: лічильник переповнюється, коли голосів "1" більшість
+    private final Map<Integer, List<Integer>> relationships;
+    private final boolean grouped; // Копії біта i - на позиціях [i*t, (i+1)*t)
+    private final BatchKernel vectorKernel; // null - лише скалярні цикли (або n > 64)
+
+    /**
+     * Класичний код (12, 4) з потрійним повторенням: кожен біт повторено тричі поспіль.
+     */
+    public RepetitionCode() {
+        this(4, 3, true);
+    }
+
+    /**
+     * @param k Кількість інформаційних біт.
+     * @param t Кількість повторень (непарне число).
+     */
+    public RepetitionCode(int k, int t) {
+        this(k, t, false);
+    }
+
+    private RepetitionCode(int k, int t, boolean grouped) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Кількість біт 'k' має бути > 0");
+        }
+        if (t <= 0 || t % 2 == 0 || t > MAX_REPETITIONS) {
+            throw new IllegalArgumentException(
+                    "Кількість повторень має бути непарним числом від 1 до " + MAX_REPETITIONS + ".");
+        }
+        if ((long) k * t > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Кодове слово занадто довге.");
+        }
+        this.k = k;
+        this.t = t;
+        this.n = k * t;
+        this.dataMask = (k >= Long.SIZE) ? -1L : (1L << k) - 1;
+        this.counterStart = (1L << COUNTER_PLANES) - (t + 1) / 2;
+        this.grouped = grouped;
+        this.relationships = buildRelationships();
+        // Векторне ядро працює з послідовними копіями
+        this.vectorKernel = (n <= Long.SIZE && !grouped) ? SimdSupport.repetition(k, t) : null;
+    }
+
+    /**
+     * Тут "групи" - це копії одного біта. Ключем виступає позиція першої копії.
+     * Групи обчислюються на льоту, тож мапа займає O(k) пам'яті.
+     */
+    private Map<Integer, List<Integer>> buildRelationships() {
+        Map<Integer, List<Integer>> rel = new HashMap<>();
+        for (int i = 0; i < k; i++) {
+            rel.put(position(i, 0), new CopyGroup(position(i, 0), position(0, 1), t));
+        }
+        return Collections.unmodifiableMap(rel);
+    }
+
+    /**
+     * Позиція j-ї копії i-го біта в кодовому слові.
+     */
+    private int position(int bit, int copy) {
+        return grouped ? bit * t + copy : copy * k + bit;
+    }
+
+    /**
+     * Переставляє біти слова з розміщення "кожен біт поспіль" у послідовні копії (n <= 64).
+     */
+    private long toCopies(long codeBits) {
+        long copies = 0;
+        for (int i = 0; i < k; i++) {
+            for (int j = 0; j < t; j++) {
+                copies |= ((codeBits >>> (i * t + j)) & 1) << (j * k + i);
+            }
+        }
+        return copies;
+    }
+
+    /**
+     * Обернена до {@link #toCopies(long)} перестановка.
+     */
+    private long fromCopies(long copies) {
+        long codeBits = 0;
+        for (int i = 0; i < k; i++) {
+            for (int j = 0; j < t; j++) {
+                codeBits |= ((copies >>> (j * k + i)) & 1) << (i * t + j);
+            }
+        }
+        return codeBits;
+    }
 
     @Override
     public String getName() {
-        return "Код з потрійним повторенням";
+        if (grouped) {
+            return "Код з потрійним повторенням";
+        }
+        return String.format("Код з повторенням (%d, %d)", n, k);
     }
 
     @Override
     public int getDataWordLength() {
-        return 4;
+        return k;
     }
 
     @Override
     public int getCodeWordLength() {
-        return 12;
+        return n;
     }
 
+    public int getRepetitions() {
+        return t;
+    }
+
+    @Override
+    public Map<Integer, List<Integer>> getBitRelationships() {
+        return relationships;
+    }
+
+    // --- Бітово-упакований API (n <= 64): лише зсуви, без виділення пам'яті ---
+
     @Override
-    public String encode(String dataWord) {
-        if (dataWord == null || dataWord.length() != getDataWordLength() || !dataWord.matches("[01]+")) {
-            throw new IllegalArgumentException("Інформаційне слово повинно складатися з 4 бітів.");
+    public long encodeBits(long dataBits) {
+        if (n > Long.SIZE) {
+            return super.encodeBits(dataBits); // Кине UnsupportedOperationException
         }
-        StringBuilder sb = new StringBuilder();
-        for (char c : dataWord.toCharArray()) {
-            sb.append(c).append(c).append(c); // Повторюємо кожен біт тричі
+        long data = dataBits & dataMask;
+        long word = 0;
+        for (int j = 0; j < t; j++) {
+            word |= data << (j * k);
         }
-        return sb.toString();
+        return grouped ? fromCopies(word) : word;
     }
 
+    /**
+     * Синдром - маска позицій, у яких хоча б одна копія не збігається з першою.
+     */
     @Override
-    public CodeCheckResult checkAndCorrect(String potentiallyCorruptedWord) {
-        StringBuilder correctedData = new StringBuilder();
-        StringBuilder correctedWord = new StringBuilder();
-        int errorsFound = 0;
-
-        // Аналізуємо слово блоками по 3 біти
-        for (int i = 0; i < getCodeWordLength(); i += 3) {
-            String block = potentiallyCorruptedWord.substring(i, i + 3);
-
-            // "Мажоритарне голосування"
-            int ones = 0;
-            for(char c : block.toCharArray()) {
-                if(c == '1') ones++;
-            }
+    public long syndromeBits(long codeBits) {
+        if (n > Long.SIZE) {
+            return super.syndromeBits(codeBits);
+        }
+        long copies = grouped ? toCopies(codeBits) : codeBits;
+        long first = copies & dataMask;
+        long syndrome = 0;
+        for (int j = 1; j < t; j++) {
+            syndrome |= ((copies >>> (j * k)) & dataMask) ^ first;
+        }
+        return syndrome;
+    }
 
-            char correctedBit = (ones >= 2) ? '1' : '0';
-            correctedData.append(correctedBit);
-            correctedWord.append(correctedBit).append(correctedBit).append(correctedBit);
+    @Override
+    public long correctBits(long codeBits) {
+        return encodeBits(extractDataBits(codeBits));
+    }
 
-            // Підрахунок помилок для статусу
-            for(char c : block.toCharArray()){
-                if(c != correctedBit) errorsFound++;
+    /**
+     * Мажоритарне голосування по всіх копіях одразу для всіх k позицій.
+     */
+    @Override
+    public long extractDataBits(long codeBits) {
+        if (n > Long.SIZE) {
+            return super.extractDataBits(codeBits);
+        }
+        long copies = grouped ? toCopies(codeBits) : codeBits;
+        if (t == 3) {
+            long a = copies & dataMask;
+            long b = (copies >>> k) & dataMask;
+            long c = (copies >>> (2 * k)) & dataMask;
+            return (a & b) | (c & (a | b));
+        }
+        long p0 = plane(0), p1 = plane(1), p2 = plane(2), p3 = plane(3), p4 = plane(4), p5 = plane(5);
+        long majority = 0;
+        for (int j = 0; j < t; j++) {
+            long carry = (copies >>> (j * k)) & dataMask;
+            long sum;
+            sum = p0 ^ carry; carry &= p0; p0 = sum;
+            sum = p1 ^ carry; carry &= p1; p1 = sum;
+            sum = p2 ^ carry; carry &= p2; p2 = sum;
+            sum = p3 ^ carry; carry &= p3; p3 = sum;
+            sum = p4 ^ carry; carry &= p4; p4 = sum;
+            sum = p5 ^ carry; carry &= p5; p5 = sum;
+            majority |= carry;
+        }
+        return majority;
+    }
+
+    // --- API над масивами слів: довільна довжина, голосування порціями по 64 позиції ---
+    // Код з розміщенням "кожен біт поспіль" має n <= 64 і використовує бітово-упакований API.
+
+    @Override
+    public void encodeWords(long[] dataWords, long[] codeWords) {
+        if (grouped) {
+            codeWords[0] = encodeBits(dataWords[0]);
+            return;
+        }
+        for (int j = 0; j < t; j++) {
+            BitWords.copyBits(dataWords, 0, codeWords, j * k, k);
+        }
+    }
+
+    /**
+     * Для k > 64 маски порцій об'єднуються через OR, тож синдром ненульовий
+     * тоді й лише тоді, коли копії не збігаються.
+     */
+    @Override
+    public long syndromeWords(long[] codeWords) {
+        if (grouped) {
+            return syndromeBits(codeWords[0]);
+        }
+        long syndrome = 0;
+        for (int offset = 0; offset < k; offset += Long.SIZE) {
+            int length = Math.min(Long.SIZE, k - offset);
+            long first = BitWords.getBits(codeWords, offset, length);
+            for (int j = 1; j < t; j++) {
+                syndrome |= BitWords.getBits(codeWords, j * k + offset, length) ^ first;
             }
         }
+        return syndrome;
+    }
 
-        String status;
-        if (errorsFound == 0) {
-            status = "Помилок немає";
-        } else if (errorsFound == 1) {
-            status = "Виявлено та виправлено 1 помилку";
-        } else {
-            status = String.format("Виявлено та виправлено %d помилок", errorsFound);
+    @Override
+    public int correctWords(long[] codeWords) {
+        if (grouped) {
+            long word = codeWords[0];
+            codeWords[0] = correctBits(word);
+            return Long.bitCount(word ^ codeWords[0]);
         }
+        int corrected = 0;
+        for (int offset = 0; offset < k; offset += Long.SIZE) {
+            int length = Math.min(Long.SIZE, k - offset);
+            long majority = vote(codeWords, offset, length);
+            for (int j = 0; j < t; j++) {
+                int from = j * k + offset;
+                corrected += Long.bitCount(BitWords.getBits(codeWords, from, length) ^ majority);
+                BitWords.setBits(codeWords, from, length, majority);
+            }
+        }
+        return corrected;
+    }
 
-        return new CodeCheckResult(status, correctedWord.toString(), correctedData.toString());
+    @Override
+    public void extractDataWords(long[] codeWords, long[] dataWords) {
+        if (grouped) {
+            dataWords[0] = extractDataBits(codeWords[0]);
+            return;
+        }
+        for (int offset = 0; offset < k; offset += Long.SIZE) {
+            int length = Math.min(Long.SIZE, k - offset);
+            BitWords.setBits(dataWords, offset, length, vote(codeWords, offset, length));
+        }
     }
 
     /**
-     * Тут "групи" - це просто трійки бітів.
-     * Ключем виступає індекс першого біта в групі.
+     * М'яке голосування: LLR усіх копій біта підсумовуються, рішення - за знаком суми.
+     * Так одна надійна копія переважає кілька ненадійних, чого мажоритарне голосування не враховує.
      */
     @Override
-    public Map<Integer, List<Integer>> getBitRelationships() {
-        return Map.of(
-                0, List.of(0, 1, 2),    // 1-й блок
-                3, List.of(3, 4, 5),    // 2-й блок
-                6, List.of(6, 7, 8),    // 3-й блок
-                9, List.of(9, 10, 11)   // 4-й блок
-        );
+    public int decodeSoft(float[] llr, long[] codeWords) {
+        long[] data = new long[BitWords.wordCount(k)];
+        for (int i = 0; i < k; i++) {
+            float sum = 0;
+            for (int j = 0; j < t; j++) {
+                sum += llr[position(i, j)];
+            }
+            if (sum < 0) {
+                BitWords.flipBit(data, i);
+            }
+        }
+        encodeWords(data, codeWords);
+        return BitWords.countDisagreements(llr, n, codeWords);
+    }
+
+    /**
+     * Голосування для позицій [offset, offset + length) усіх копій.
+     */
+    private long vote(long[] codeWords, int offset, int length) {
+        long p0 = plane(0), p1 = plane(1), p2 = plane(2), p3 = plane(3), p4 = plane(4), p5 = plane(5);
+        long majority = 0;
+        for (int j = 0; j < t; j++) {
+            long carry = BitWords.getBits(codeWords, j * k + offset, length);
+            long sum;
+            sum = p0 ^ carry; carry &= p0; p0 = sum;
+            sum = p1 ^ carry; carry &= p1; p1 = sum;
+            sum = p2 ^ carry; carry &= p2; p2 = sum;
+            sum = p3 ^ carry; carry &= p3; p3 = sum;
+            sum = p4 ^ carry; carry &= p4; p4 = sum;
+            sum = p5 ^ carry; carry &= p5; p5 = sum;
+            majority |= carry;
+        }
+        return majority;
+    }
+
+    /**
+     * Початкове значення розряду лічильника: усі 64 позиції стартують з 2^6 - поріг.
+     */
+    private long plane(int bit) {
+        return ((counterStart >>> bit) & 1) != 0 ? -1L : 0L;
+    }
+
+    // --- Пакетний API: повні вектори обробляє векторне ядро (якщо доступне), залишок - скалярний цикл ---
+
+    @Override
+    public void encodeBatch(long[] dataWords, int dataOffset, long[] codeWords, int codeOffset, int count) {
+        int vectorized = 0;
+        if (vectorKernel != null) {
+            vectorized = count - count % vectorKernel.lanes();
+            vectorKernel.encode(dataWords, dataOffset, codeWords, codeOffset, vectorized);
+        }
+        for (int i = vectorized; i < count; i++) {
+            codeWords[codeOffset + i] = encodeBits(dataWords[dataOffset + i]);
+        }
+    }
+
+    @Override
+    public int decodeBatch(long[] codeWords, int codeOffset, long[] dataWords, long[] errorMasks,
+                           int[] results, int outOffset, int count) {
+        int correctedWords = 0;
+        int vectorized = 0;
+        if (vectorKernel != null) {
+            vectorized = count - count % vectorKernel.lanes();
+            correctedWords = vectorKernel.decode(codeWords, codeOffset, dataWords, errorMasks, results,
+                    outOffset, vectorized);
+        }
+        for (int i = vectorized; i < count; i++) {
+            long word = codeWords[codeOffset + i];
+            long data = extractDataBits(word);
+            long corrected = encodeBits(data);
+            dataWords[outOffset + i] = data;
+            if (errorMasks != null) {
+                errorMasks[outOffset + i] = word ^ corrected;
+            }
+            if (results != null) {
+                results[outOffset + i] = Long.bitCount(word ^ corrected); // Більшість вирішує завжди
+            }
+            correctedWords += (word != corrected) ? 1 : 0;
+        }
+        return correctedWords;
+    }
+
+    /**
+     * Позиції first, first + stride, ... - копії одного біта.
+     */
+    private static final class CopyGroup extends AbstractList<Integer> implements RandomAccess {
+
+        private final int first;
+        private final int stride;
+        private final int size;
+
+        CopyGroup(int first, int stride, int size) {
+            this.first = first;
+            this.stride = stride;
+            this.size = size;
+        }
+
+        @Override
+        public Integer get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return first + index * stride;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
     }
 }
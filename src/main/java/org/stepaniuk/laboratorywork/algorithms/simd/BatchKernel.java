@@ -0,0 +1,28 @@
+package org.stepaniuk.laboratorywork.algorithms.simd;
+
+/**
+ * Векторне ядро пакетного кодування/декодування слів з n <= 64.
+ * <p>
+ * Ядро обробляє лише повні вектори: {@code count - count % lanes()} слів.
+ * Залишок код обробляє власним скалярним циклом.
+ */
+public interface BatchKernel {
+
+    /**
+     * Кількість слів в одному векторі.
+     */
+    int lanes();
+
+    /**
+     * Див. {@code IErrorCorrectionCode.encodeBatch}; обробляє повні вектори.
+     */
+    void encode(long[] dataWords, int dataOffset, long[] codeWords, int codeOffset, int count);
+
+    /**
+     * Див. {@code IErrorCorrectionCode.decodeBatch}; обробляє повні вектори.
+     *
+     * @return Кількість слів, у яких було виправлено помилки.
+     */
+    int decode(long[] codeWords, int codeOffset, long[] dataWords, long[] errorMasks, int[] results,
+               int outOffset, int count);
+}
@@ -0,0 +1,75 @@
+package org.stepaniuk.laboratorywork.algorithms.simd;
+
+/**
+ * Вибір векторного ядра під час виконання.
+ * <p>
+ * Векторні ядра використовують інкубаторний модуль {@code jdk.incubator.vector},
+ * який підключається лише явно: {@code --add-modules jdk.incubator.vector}.
+ * Якщо модуля немає, вектор не ширший за одне слово або властивість
+ * {@value #PROPERTY} дорівнює {@code false}, фабрики повертають {@code null},
+ * і коди працюють скалярними циклами. Класи модуля завантажуються лише
+ * після перевірки, тож без нього нічого не ламається.
+ * <p>
+ * До компіляції C2 векторний код виконується в рази повільніше за скалярний,
+ * тож виграш (близько 6x для Гемінга (31, 26) з AVX-512) дають лише тривалі
+ * пакетні задачі: захист файлів, моделювання BER, перевірка пам'яті.
+ */
+public final class SimdSupport {
+
+    public static final String PROPERTY = "laboratorywork.simd";
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private static final boolean AVAILABLE = detect();
+
+    private SimdSupport() {
+    }
+
+    private static boolean detect() {
+        if ("false".equalsIgnoreCase(System.getProperty(PROPERTY))) {
+            return false;
+        }
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorKernels.preferredLanes() > 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Чи використовуються векторні ядра.
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Короткий опис бекенду для журналів і звітів.
+     */
+    public static String describe() {
+        return AVAILABLE ? "Vector API, " + VectorKernels.preferredLanes() + " x 64 біт" : "скалярний";
+    }
+
+    /**
+     * Ядро коду Гемінга з позиціями контрольних біт 2^i - 1 (див. DynamicHammingCode).
+     *
+     * @return Ядро або {@code null}, якщо векторні обчислення недоступні.
+     */
+    public static BatchKernel hamming(int n, long[] parityMasks, long[] segmentMasks,
+                                      int[] segmentDataShifts, int[] segmentCodeShifts) {
+        return AVAILABLE
+                ? VectorKernels.hamming(n, parityMasks, segmentMasks, segmentDataShifts, segmentCodeShifts)
+                : null;
+    }
+
+    /**
+     * Ядро коду з повторенням (t копій по k біт, n = k * t <= 64).
+     *
+     * @return Ядро або {@code null}, якщо векторні обчислення недоступні.
+     */
+    public static BatchKernel repetition(int k, int t) {
+        return AVAILABLE ? VectorKernels.repetition(k, t) : null;
+    }
+}
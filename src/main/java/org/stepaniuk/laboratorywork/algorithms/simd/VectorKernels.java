@@ -0,0 +1,231 @@
+package org.stepaniuk.laboratorywork.algorithms.simd;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+
+/**
+ * Векторні ядра на {@code jdk.incubator.vector}. Кожна лінія вектора - окреме
+ * кодове слово, тож одна інструкція AND/XOR/POPCNT обробляє
+ * {@link #preferredLanes()} слів одночасно.
+ * <p>
+ * Клас завантажується лише через {@link SimdSupport} після перевірки наявності модуля.
+ */
+final class VectorKernels {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private VectorKernels() {
+    }
+
+    static int preferredLanes() {
+        return SPECIES.length();
+    }
+
+    static BatchKernel hamming(int n, long[] parityMasks, long[] segmentMasks,
+                               int[] segmentDataShifts, int[] segmentCodeShifts) {
+        return new HammingKernel(n, parityMasks, segmentMasks, segmentDataShifts, segmentCodeShifts);
+    }
+
+    static BatchKernel repetition(int k, int t) {
+        return new RepetitionKernel(k, t);
+    }
+
+    /**
+     * Результати слів вектора (по long на лінію) у буфер результатів пакета.
+     */
+    private static void copyResults(long[] laneResults, int[] results, int offset) {
+        for (int j = 0; j < laneResults.length; j++) {
+            results[offset + j] = (int) laneResults[j];
+        }
+    }
+
+    /**
+     * Код Гемінга: біт парності i - popcount(слово & маска_i) & 1 у кожній лінії;
+     * виправлення - зсув одиниці на (синдром - 1) без таблиці.
+     */
+    private static final class HammingKernel implements BatchKernel {
+
+        private final int n;
+        private final long[] parityMasks;
+        private final long[] segmentMasks;
+        private final int[] segmentDataShifts;
+        private final int[] segmentCodeShifts;
+
+        HammingKernel(int n, long[] parityMasks, long[] segmentMasks,
+                      int[] segmentDataShifts, int[] segmentCodeShifts) {
+            this.n = n;
+            this.parityMasks = parityMasks;
+            this.segmentMasks = segmentMasks;
+            this.segmentDataShifts = segmentDataShifts;
+            this.segmentCodeShifts = segmentCodeShifts;
+        }
+
+        @Override
+        public int lanes() {
+            return SPECIES.length();
+        }
+
+        @Override
+        public void encode(long[] dataWords, int dataOffset, long[] codeWords, int codeOffset, int count) {
+            int bound = SPECIES.loopBound(count);
+            for (int i = 0; i < bound; i += SPECIES.length()) {
+                LongVector data = LongVector.fromArray(SPECIES, dataWords, dataOffset + i);
+                LongVector word = LongVector.zero(SPECIES);
+                for (int s = 1; s < segmentMasks.length; s++) {
+                    word = word.or(data.lanewise(VectorOperators.LSHR, segmentDataShifts[s])
+                            .and(segmentMasks[s])
+                            .lanewise(VectorOperators.LSHL, segmentCodeShifts[s]));
+                }
+                for (int p = 0; p < parityMasks.length; p++) {
+                    LongVector parity = word.and(parityMasks[p]).lanewise(VectorOperators.BIT_COUNT).and(1L);
+                    word = word.or(parity.lanewise(VectorOperators.LSHL, (1 << p) - 1));
+                }
+                word.intoArray(codeWords, codeOffset + i);
+            }
+        }
+
+        @Override
+        public int decode(long[] codeWords, int codeOffset, long[] dataWords, long[] errorMasks, int[] results,
+                          int outOffset, int count) {
+            int bound = SPECIES.loopBound(count);
+            int correctedWords = 0;
+            LongVector one = LongVector.broadcast(SPECIES, 1L);
+            LongVector zero = LongVector.zero(SPECIES);
+            LongVector uncorrectable = LongVector.broadcast(SPECIES, IErrorCorrectionCode.UNCORRECTABLE);
+            long[] laneResults = (results != null) ? new long[SPECIES.length()] : null;
+            for (int i = 0; i < bound; i += SPECIES.length()) {
+                LongVector word = LongVector.fromArray(SPECIES, codeWords, codeOffset + i);
+                LongVector syndrome = zero;
+                for (int p = 0; p < parityMasks.length; p++) {
+                    LongVector parity = word.and(parityMasks[p]).lanewise(VectorOperators.BIT_COUNT).and(1L);
+                    syndrome = syndrome.or(parity.lanewise(VectorOperators.LSHL, p));
+                }
+                // Синдроми за межами скороченого коду нічого не виправляють
+                VectorMask<Long> correctable = syndrome.compare(VectorOperators.NE, 0L)
+                        .and(syndrome.compare(VectorOperators.LE, n));
+                LongVector fix = zero.blend(one.lanewise(VectorOperators.LSHL, syndrome.sub(1L)), correctable);
+                LongVector corrected = word.lanewise(VectorOperators.XOR, fix);
+
+                LongVector data = zero;
+                for (int s = 1; s < segmentMasks.length; s++) {
+                    data = data.or(corrected.lanewise(VectorOperators.LSHR, segmentCodeShifts[s])
+                            .and(segmentMasks[s])
+                            .lanewise(VectorOperators.LSHL, segmentDataShifts[s]));
+                }
+                data.intoArray(dataWords, outOffset + i);
+                if (errorMasks != null) {
+                    fix.intoArray(errorMasks, outOffset + i);
+                }
+                if (results != null) {
+                    // Ненульовий синдром без виправлення - невиправне слово
+                    zero.blend(uncorrectable, syndrome.compare(VectorOperators.NE, 0L))
+                            .blend(one, correctable)
+                            .intoArray(laneResults, 0);
+                    copyResults(laneResults, results, outOffset + i);
+                }
+                correctedWords += correctable.trueCount();
+            }
+            return correctedWords;
+        }
+    }
+
+    /**
+     * Код з повторенням: мажоритарне голосування бітовими зрізами
+     * (шість векторів-розрядів лічильника), як і в скалярній реалізації.
+     */
+    private static final class RepetitionKernel implements BatchKernel {
+
+        private static final int COUNTER_PLANES = 6;
+
+        private final int k;
+        private final int t;
+        private final long dataMask;
+        private final long counterStart;
+
+        RepetitionKernel(int k, int t) {
+            this.k = k;
+            this.t = t;
+            this.dataMask = (k >= Long.SIZE) ? -1L : (1L << k) - 1;
+            this.counterStart = (1L << COUNTER_PLANES) - (t + 1) / 2;
+        }
+
+        @Override
+        public int lanes() {
+            return SPECIES.length();
+        }
+
+        @Override
+        public void encode(long[] dataWords, int dataOffset, long[] codeWords, int codeOffset, int count) {
+            int bound = SPECIES.loopBound(count);
+            for (int i = 0; i < bound; i += SPECIES.length()) {
+                LongVector data = LongVector.fromArray(SPECIES, dataWords, dataOffset + i).and(dataMask);
+                replicate(data).intoArray(codeWords, codeOffset + i);
+            }
+        }
+
+        @Override
+        public int decode(long[] codeWords, int codeOffset, long[] dataWords, long[] errorMasks, int[] results,
+                          int outOffset, int count) {
+            int bound = SPECIES.loopBound(count);
+            int correctedWords = 0;
+            long[] laneResults = (results != null) ? new long[SPECIES.length()] : null;
+            for (int i = 0; i < bound; i += SPECIES.length()) {
+                LongVector word = LongVector.fromArray(SPECIES, codeWords, codeOffset + i);
+                LongVector majority = vote(word);
+                LongVector difference = word.lanewise(VectorOperators.XOR, replicate(majority));
+                majority.intoArray(dataWords, outOffset + i);
+                if (errorMasks != null) {
+                    difference.intoArray(errorMasks, outOffset + i);
+                }
+                if (results != null) {
+                    difference.lanewise(VectorOperators.BIT_COUNT).intoArray(laneResults, 0);
+                    copyResults(laneResults, results, outOffset + i);
+                }
+                correctedWords += difference.compare(VectorOperators.NE, 0L).trueCount();
+            }
+            return correctedWords;
+        }
+
+        private LongVector replicate(LongVector data) {
+            LongVector word = data;
+            for (int j = 1; j < t; j++) {
+                word = word.or(data.lanewise(VectorOperators.LSHL, j * k));
+            }
+            return word;
+        }
+
+        private LongVector vote(LongVector word) {
+            LongVector a = word.and(dataMask);
+            if (t == 1) {
+                return a;
+            }
+            if (t == 3) {
+                LongVector b = word.lanewise(VectorOperators.LSHR, k).and(dataMask);
+                LongVector c = word.lanewise(VectorOperators.LSHR, 2 * k).and(dataMask);
+                return a.and(b).or(c.and(a.or(b)));
+            }
+            // Розряди лічильника - окремі локальні змінні: масив векторів JIT не розкладає на регістри
+            LongVector p0 = plane(0), p1 = plane(1), p2 = plane(2), p3 = plane(3), p4 = plane(4), p5 = plane(5);
+            LongVector majority = LongVector.zero(SPECIES);
+            for (int j = 0; j < t; j++) {
+                LongVector carry = word.lanewise(VectorOperators.LSHR, j * k).and(dataMask);
+                LongVector sum;
+                sum = p0.lanewise(VectorOperators.XOR, carry); carry = carry.and(p0); p0 = sum;
+                sum = p1.lanewise(VectorOperators.XOR, carry); carry = carry.and(p1); p1 = sum;
+                sum = p2.lanewise(VectorOperators.XOR, carry); carry = carry.and(p2); p2 = sum;
+                sum = p3.lanewise(VectorOperators.XOR, carry); carry = carry.and(p3); p3 = sum;
+                sum = p4.lanewise(VectorOperators.XOR, carry); carry = carry.and(p4); p4 = sum;
+                sum = p5.lanewise(VectorOperators.XOR, carry); carry = carry.and(p5); p5 = sum;
+                majority = majority.or(carry);
+            }
+            return majority;
+        }
+
+        private LongVector plane(int bit) {
+            return LongVector.broadcast(SPECIES, ((counterStart >>> bit) & 1) != 0 ? -1L : 0L);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package org.stepaniuk.laboratorywork.cli;
+
+import org.stepaniuk.laboratorywork.algorithms.CodecRegistry;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.convolutional.ConvolutionalCode;
+import org.stepaniuk.laboratorywork.algorithms.convolutional.Trellis;
+import org.stepaniuk.laboratorywork.algorithms.crc.Crc;
+import org.stepaniuk.laboratorywork.algorithms.crc.CrcCheckedCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.HammingCode;
+import org.stepaniuk.laboratorywork.algorithms.interleaving.BlockInterleaver;
+import org.stepaniuk.laboratorywork.algorithms.ldpc.LdpcCode;
+import org.stepaniuk.laboratorywork.algorithms.reedsolomon.ReedSolomonCode;
+import org.stepaniuk.laboratorywork.algorithms.repetition.RepetitionCode;
+
+/**
+ * Розбирає текстовий опис коду з командного рядка.
+ * <p>
+ * Формат: {@code сімейство[-k]}, напр. {@code hamming}, {@code hamming-26},
+ * {@code hamming-4083}, {@code secded-16}, {@code repetition}, {@code repetition-8x5},
+ * {@code bch-64x3}, {@code rs-255x223}, {@code ldpc-1024}, {@code ldpc-1024x512},
+ * {@code conv-1024}, {@code conv-1024:7,5},
+ * {@code interleave-64:hamming}, {@code crc-32c:hamming-64}, {@code crc-32c-jdk:ldpc-1056}.
+ */
+final class CodeSpecs {
+
+    static final String USAGE = "hamming | hamming-<k> | secded-<k> | repetition | repetition-<k>x<t>"
+            + " | bch-<k>x<t> | rs-<n>x<k> | ldpc-<k>[x<m>] | conv-<k>[:<g1>,<g2>...]"
+            + " | interleave-<глибина>:<код> | crc-<16|32|32c>[-jdk]:<код>";
+
+    private static final String INTERLEAVE_PREFIX = "interleave-";
+    private static final String CRC_PREFIX = "crc-";
+    private static final String INTRINSIC_SUFFIX = "-jdk";
+
+    private CodeSpecs() {
+    }
+
+    static IErrorCorrectionCode parse(String spec) {
+        if (spec.startsWith(INTERLEAVE_PREFIX)) {
+            return parseInterleaved(spec);
+        }
+        if (spec.startsWith(CRC_PREFIX)) {
+            return parseCrcChecked(spec);
+        }
+        int dash = spec.indexOf('-');
+        String family = (dash < 0) ? spec : spec.substring(0, dash);
+        if (family.equals("repetition") && dash >= 0) {
+            return parseRepetition(spec.substring(dash + 1));
+        }
+        if (family.equals(CodecRegistry.BCH)) {
+            return parseBch((dash < 0) ? "" : spec.substring(dash + 1));
+        }
+        if (family.equals("rs")) {
+            return parseReedSolomon((dash < 0) ? "" : spec.substring(dash + 1));
+        }
+        if (family.equals("conv")) {
+            return parseConvolutional((dash < 0) ? "" : spec.substring(dash + 1));
+        }
+        if (family.equals("ldpc")) {
+            return parseLdpc((dash < 0) ? "" : spec.substring(dash + 1));
+        }
+        Integer k = (dash < 0) ? null : parseK(spec.substring(dash + 1));
+
+        return switch (family) {
+            case CodecRegistry.HAMMING -> (k == null) ? new HammingCode() : CodecRegistry.shared().get(family, k);
+            case CodecRegistry.SECDED -> CodecRegistry.shared().get(family, requireK(k, spec));
+            case "repetition" -> new RepetitionCode();
+            default -> throw new IllegalArgumentException("Невідомий код '" + spec + "'. Доступні: " + USAGE);
+        };
+    }
+
+    /**
+     * {@code interleave-<глибина>:<код>}, напр. {@code interleave-64:hamming}.
+     */
+    private static IErrorCorrectionCode parseInterleaved(String spec) {
+        int colon = spec.indexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Очікується формат interleave-<глибина>:<код>, отримано '" + spec + "'.");
+        }
+        int depth = parseNumber(spec.substring(INTERLEAVE_PREFIX.length(), colon), "глибина");
+        return new BlockInterleaver(parse(spec.substring(colon + 1)), depth);
+    }
+
+    /**
+     * {@code crc-<алгоритм>[-jdk]:<код>}, напр. {@code crc-32c:hamming-64};
+     * суфікс {@code -jdk} обирає реалізацію з {@code java.util.zip}.
+     */
+    private static IErrorCorrectionCode parseCrcChecked(String spec) {
+        int colon = spec.indexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Очікується формат crc-<16|32|32c>[-jdk]:<код>, отримано '" + spec + "'.");
+        }
+        String algorithm = spec.substring(CRC_PREFIX.length(), colon);
+        boolean intrinsic = algorithm.endsWith(INTRINSIC_SUFFIX);
+        if (intrinsic) {
+            algorithm = algorithm.substring(0, algorithm.length() - INTRINSIC_SUFFIX.length());
+        }
+        Crc crc = switch (algorithm) {
+            case "16" -> Crc.CRC_16;
+            case "32" -> Crc.CRC_32;
+            case "32c" -> Crc.CRC_32C;
+            default -> throw new IllegalArgumentException("Невідомий алгоритм CRC '" + algorithm + "'. Доступні: 16, 32, 32c.");
+        };
+        return new CrcCheckedCode(parse(spec.substring(colon + 1)), intrinsic ? crc.intrinsic() : crc);
+    }
+
+    /**
+     * {@code <k>x<t>} - k інформаційних біт, t повторень; без {@code x<t>} t = 3.
+     */
+    private static IErrorCorrectionCode parseRepetition(String parameters) {
+        int x = parameters.indexOf('x');
+        int k = parseK((x < 0) ? parameters : parameters.substring(0, x));
+        int t = (x < 0) ? 3 : parseNumber(parameters.substring(x + 1), "t");
+        return new RepetitionCode(k, t);
+    }
+
+    /**
+     * {@code <k>x<t>} - найкоротший код БЧХ з k інформаційними бітами, що виправляє t помилок.
+     */
+    private static IErrorCorrectionCode parseBch(String parameters) {
+        int x = parameters.indexOf('x');
+        if (x < 0) {
+            throw new IllegalArgumentException("Очікується формат bch-<k>x<t>, напр. bch-64x3.");
+        }
+        return CodecRegistry.shared().get(CodecRegistry.BCH,
+                parseK(parameters.substring(0, x)), parseNumber(parameters.substring(x + 1), "t"));
+    }
+
+    /**
+     * {@code <n>x<k>} - довжина блоку та кількість байт даних, напр. {@code rs-255x223}.
+     */
+    private static IErrorCorrectionCode parseReedSolomon(String parameters) {
+        int x = parameters.indexOf('x');
+        if (x < 0) {
+            throw new IllegalArgumentException("Очікується формат rs-<n>x<k>, напр. rs-255x223.");
+        }
+        return new ReedSolomonCode(parseNumber(parameters.substring(0, x), "n"), parseK(parameters.substring(x + 1)));
+    }
+
+    /**
+     * {@code <k>x<m>} - k інформаційних біт і m перевірок; без {@code x<m>} m = k (швидкість 1/2).
+     */
+    private static IErrorCorrectionCode parseLdpc(String parameters) {
+        if (parameters.isEmpty()) {
+            throw new IllegalArgumentException("Очікується формат ldpc-<k>[x<m>], напр. ldpc-1024.");
+        }
+        int x = parameters.indexOf('x');
+        int k = parseK((x < 0) ? parameters : parameters.substring(0, x));
+        int m = (x < 0) ? k : parseNumber(parameters.substring(x + 1), "m");
+        return new LdpcCode(k, m);
+    }
+
+    /**
+     * {@code <k>[:<g1>,<g2>...]} - k інформаційних біт і твірні поліноми у вісімковій системі;
+     * кодове обмеження - найбільша довжина полінома. Без поліномів - K = 7 (171, 133).
+     */
+    private static IErrorCorrectionCode parseConvolutional(String parameters) {
+        if (parameters.isEmpty()) {
+            throw new IllegalArgumentException("Очікується формат conv-<k>[:<g1>,<g2>...], напр. conv-1024:7,5.");
+        }
+        int colon = parameters.indexOf(':');
+        int k = parseK((colon < 0) ? parameters : parameters.substring(0, colon));
+        if (colon < 0) {
+            return new ConvolutionalCode(k);
+        }
+        String[] values = parameters.substring(colon + 1).split(",");
+        int[] generators = new int[values.length];
+        int constraintLength = 0;
+        for (int i = 0; i < values.length; i++) {
+            try {
+                generators[i] = Integer.parseInt(values[i], 8);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Некоректний твірний поліном: " + values[i]);
+            }
+            constraintLength = Math.max(constraintLength, Integer.SIZE - Integer.numberOfLeadingZeros(generators[i]));
+        }
+        return new ConvolutionalCode(k, new Trellis(constraintLength, generators));
+    }
+
+    private static int parseK(String value) {
+        return parseNumber(value, "k");
+    }
+
+    private static int parseNumber(String value, String name) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некоректне значення '" + name + "': " + value);
+        }
+    }
+
+    private static int requireK(Integer k, String spec) {
+        if (k == null) {
+            throw new IllegalArgumentException("Для коду '" + spec + "' потрібно вказати 'k', напр. " + spec + "-16");
+        }
+        return k;
+    }
+}
@@ -0,0 +1,292 @@
+package org.stepaniuk.laboratorywork.cli;
+
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.DecodeResult;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.simd.SimdSupport;
+import org.stepaniuk.laboratorywork.metrics.MetricsExporter;
+import org.stepaniuk.laboratorywork.metrics.MetricsRegistry;
+import org.stepaniuk.laboratorywork.metrics.MetricsServer;
+import org.stepaniuk.laboratorywork.pipeline.FileProtectionPipeline;
+import org.stepaniuk.laboratorywork.pipeline.PipelineReport;
+import org.stepaniuk.laboratorywork.simulation.BerPoint;
+import org.stepaniuk.laboratorywork.simulation.BerSimulator;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Консольний режим без JavaFX: кодування, декодування, захист файлів,
+ * симуляція та швидкий бенчмарк.
+ * <p>
+ * Клас не посилається на жоден клас JavaFX, а модулі JavaFX у module-info
+ * підключені як {@code requires static}, тож і з classpath
+ * ({@code java -cp target/classes org.stepaniuk.laboratorywork.cli.CommandLineApp ...}),
+ * і з module path ({@code java -p target/classes -m org.stepaniuk.laboratorywork/...}) вони
+ * не завантажуються зовсім.
+ */
+public final class CommandLineApp {
+
+    private static final Set<String> COMMANDS =
+            Set.of("encode", "decode", "protect", "recover", "simulate", "benchmark", "help");
+
+    private static final String METRICS_FILE_OPTION = "--metrics=";
+    private static final String METRICS_PORT_OPTION = "--metrics-port=";
+
+    private static final int EXIT_USAGE = 2;
+    private static final int EXIT_IO = 1;
+
+    private final PrintWriter out;
+
+    private CommandLineApp(PrintWriter out) {
+        this.out = out;
+    }
+
+    /**
+     * Чи є перший аргумент командою консольного режиму.
+     */
+    public static boolean isCommand(String[] args) {
+        return args.length > 0 && COMMANDS.contains(args[0]);
+    }
+
+    public static void main(String[] args) {
+        PrintWriter out = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16));
+        int exitCode = 0;
+        try {
+            new CommandLineApp(out).run(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Помилка: " + e.getMessage());
+            exitCode = EXIT_USAGE;
+        } catch (IOException e) {
+            System.err.println("Помилка вводу-виводу: " + e.getMessage());
+            exitCode = EXIT_IO;
+        } finally {
+            out.flush();
+        }
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
+    }
+
+    private void run(String[] commandLine) throws IOException {
+        if (!isCommand(commandLine) || commandLine[0].equals("help")) {
+            printUsage();
+            return;
+        }
+        Path metricsFile = null;
+        int metricsPort = -1;
+        List<String> positional = new ArrayList<>();
+        for (String arg : commandLine) {
+            if (arg.startsWith(METRICS_FILE_OPTION)) {
+                metricsFile = Path.of(arg.substring(METRICS_FILE_OPTION.length()));
+            } else if (arg.startsWith(METRICS_PORT_OPTION)) {
+                metricsPort = Integer.parseInt(arg.substring(METRICS_PORT_OPTION.length()));
+            } else {
+                positional.add(arg);
+            }
+        }
+        String[] args = positional.toArray(String[]::new);
+        requireArgs(args, 2);
+        IErrorCorrectionCode code = CodeSpecs.parse(args[1]);
+        if (metricsFile != null || metricsPort >= 0) {
+            code = MetricsRegistry.shared().instrument(code);
+        }
+
+        MetricsServer server = (metricsPort >= 0) ? MetricsServer.start(MetricsRegistry.shared(), metricsPort) : null;
+        try {
+            if (server != null) {
+                System.err.println("Метрики: http://localhost:" + server.getPort() + "/metrics");
+            }
+            switch (args[0]) {
+                case "encode" -> encode(code, args);
+                case "decode" -> decode(code, args);
+                case "protect" -> protect(code, args);
+                case "recover" -> recover(code, args);
+                case "simulate" -> simulate(code, args);
+                case "benchmark" -> benchmark(code, args);
+                default -> printUsage();
+            }
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+        if (metricsFile != null) {
+            MetricsExporter.write(MetricsRegistry.shared(), metricsFile);
+        }
+    }
+
+    // --- Команди ---
+
+    /**
+     * Кожен рядок входу - інформаційне слово; виводиться кодове слово.
+     */
+    private void encode(IErrorCorrectionCode code, String[] args) throws IOException {
+        try (BufferedReader reader = openInput(args, 2)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    out.println(code.encode(line));
+                }
+            }
+        }
+    }
+
+    /**
+     * Кожен рядок входу - кодове слово; виводяться дані, виправлене слово та статус.
+     */
+    private void decode(IErrorCorrectionCode code, String[] args) throws IOException {
+        DecodeResult result = new DecodeResult(); // Один на всі рядки
+        try (BufferedReader reader = openInput(args, 2)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (line.length() != code.getCodeWordLength() || !BitWords.isBinary(line)) {
+                    throw new IllegalArgumentException("Кодове слово повинно складатися рівно з "
+                            + code.getCodeWordLength() + " бітів: " + line);
+                }
+                code.checkAndCorrect(line, result);
+                out.println(result.getExtractedData() + '\t' + result.getCorrectedWord() + '\t' + result.getStatus());
+            }
+        }
+    }
+
+    private void protect(IErrorCorrectionCode code, String[] args) throws IOException {
+        requireArgs(args, 4);
+        PipelineReport report = new FileProtectionPipeline(code).protect(Path.of(args[2]), Path.of(args[3]));
+        out.printf("Захищено %d байт: %d кодових слів '%s'%n", report.bytes(), report.words(), code.getName());
+    }
+
+    private void recover(IErrorCorrectionCode code, String[] args) throws IOException {
+        requireArgs(args, 4);
+        PipelineReport report = new FileProtectionPipeline(code).recover(Path.of(args[2]), Path.of(args[3]));
+        out.printf("Відновлено %d байт з %d кодових слів%n", report.bytes(), report.words());
+        out.printf("Виправлено слів: %d (біт: %d), невиправних слів: %d%n",
+                report.correctedWords(), report.correctedBits(), report.uncorrectableWords());
+    }
+
+    /**
+     * simulate &lt;код&gt; &lt;p1,p2,...&gt; [слів] [seed]
+     */
+    private void simulate(IErrorCorrectionCode code, String[] args) {
+        requireArgs(args, 3);
+        double[] rates = Arrays.stream(args[2].split(",")).mapToDouble(Double::parseDouble).toArray();
+        long words = (args.length > 3) ? Long.parseLong(args[3]) : 1_000_000;
+        long seed = (args.length > 4) ? Long.parseLong(args[4]) : 42;
+
+        out.printf("# %s, %d слів на точку%n", code.getName(), words);
+        out.println("p\tBER\tBER_low\tBER_high\tWER\tWER_low\tWER_high");
+        for (BerPoint point : new BerSimulator(code).run(rates, words, seed)) {
+            out.printf("%.6g\t%.6e\t%.6e\t%.6e\t%.6e\t%.6e\t%.6e%n",
+                    point.channelErrorRate(), point.ber(), point.berLow(), point.berHigh(),
+                    point.wer(), point.werLow(), point.werHigh());
+        }
+    }
+
+    /**
+     * Швидка оцінка пропускної здатності (для точних вимірів - профіль Maven jmh).
+     */
+    private void benchmark(IErrorCorrectionCode code, String[] args) {
+        double seconds = (args.length > 2) ? Double.parseDouble(args[2]) : 2;
+        if (code.getCodeWordLength() > Long.SIZE) {
+            out.printf("%s: декодування %.2f тис. слів/с%n", code.getName(), benchmarkWide(code, seconds) / 1e3);
+            return;
+        }
+
+        int batch = 4096;
+        int k = code.getDataWordLength();
+        SplittableRandom random = new SplittableRandom(42);
+        long[] data = new long[batch];
+        long[] codeWords = new long[batch];
+        for (int i = 0; i < batch; i++) {
+            data[i] = random.nextLong() & ((k == Long.SIZE) ? -1L : (1L << k) - 1);
+        }
+
+        long deadline = System.nanoTime() + (long) (seconds * 1e9 / 2);
+        long encoded = 0;
+        long start = System.nanoTime();
+        while (System.nanoTime() < deadline) {
+            code.encodeBatch(data, 0, codeWords, 0, batch);
+            encoded += batch;
+        }
+        double encodeRate = encoded / ((System.nanoTime() - start) / 1e9);
+
+        for (int i = 0; i < batch; i += 3) {
+            codeWords[i] ^= 1L << random.nextInt(code.getCodeWordLength()); // Помилка в кожному третьому слові
+        }
+        deadline = System.nanoTime() + (long) (seconds * 1e9 / 2);
+        long decoded = 0;
+        start = System.nanoTime();
+        while (System.nanoTime() < deadline) {
+            code.decodeBatch(codeWords, 0, data, null, null, 0, batch);
+            decoded += batch;
+        }
+        double decodeRate = decoded / ((System.nanoTime() - start) / 1e9);
+
+        out.printf("%s: кодування %.2f млн слів/с, декодування %.2f млн слів/с (%s)%n",
+                code.getName(), encodeRate / 1e6, decodeRate / 1e6, SimdSupport.describe());
+    }
+
+    private double benchmarkWide(IErrorCorrectionCode code, double seconds) {
+        long[] data = new long[BitWords.wordCount(code.getDataWordLength())];
+        long[] codeWords = new long[BitWords.wordCount(code.getCodeWordLength())];
+        code.encodeWords(data, codeWords);
+        long deadline = System.nanoTime() + (long) (seconds * 1e9);
+        long decoded = 0;
+        long start = System.nanoTime();
+        while (System.nanoTime() < deadline) {
+            BitWords.flipBit(codeWords, (int) (decoded % code.getCodeWordLength()));
+            code.correctWords(codeWords);
+            code.extractDataWords(codeWords, data);
+            decoded++;
+        }
+        return decoded / ((System.nanoTime() - start) / 1e9);
+    }
+
+    // --- Допоміжні методи ---
+
+    private static BufferedReader openInput(String[] args, int index) throws IOException {
+        Reader reader = (args.length > index)
+                ? Files.newBufferedReader(Path.of(args[index]), StandardCharsets.UTF_8)
+                : new InputStreamReader(System.in, StandardCharsets.UTF_8);
+        return new BufferedReader(reader);
+    }
+
+    private static void requireArgs(String[] args, int count) {
+        if (args.length < count) {
+            throw new IllegalArgumentException("Недостатньо аргументів для команди '" + args[0] + "'.");
+        }
+    }
+
+    private void printUsage() {
+        out.println("Використання: <команда> <код> [аргументи]");
+        out.println("  encode    <код> [файл]                 кодувати рядки інформаційних слів");
+        out.println("  decode    <код> [файл]                 перевірити та виправити рядки кодових слів");
+        out.println("  protect   <код> <вхід> <вихід>         захистити файл");
+        out.println("  recover   <код> <вхід> <вихід>         відновити захищений файл");
+        out.println("  simulate  <код> <p1,p2,...> [слів] [seed]  симуляція BER/WER");
+        out.println("  benchmark <код> [секунд]               оцінка пропускної здатності");
+        out.println("Параметри (після команди):");
+        out.println("  --metrics=<файл>         записати метрики коду (.json - JSON, інакше - Prometheus)");
+        out.println("  --metrics-port=<порт>    HTTP-точка метрик на localhost на час виконання команди");
+        out.println("Коди: " + CodeSpecs.USAGE);
+    }
+}
@@ -0,0 +1,73 @@
+package org.stepaniuk.laboratorywork.controllers;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Виконує аналіз у фоновому потоці за принципом "перемагає останній запит".
+ * <p>
+ * Кожен новий запит скасовує попередній (якщо той ще не почався, він
+ * просто не виконається), а результат застарілого запиту ніколи не потрапляє
+ * в UI. Результати повертаються у потік JavaFX через {@link Platform#runLater}.
+ * Методи класу викликаються лише з потоку JavaFX.
+ */
+public class AnalysisScheduler {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "analysis-worker");
+        thread.setDaemon(true); // Не заважає завершенню програми
+        return thread;
+    });
+    private final AtomicLong generation = new AtomicLong();
+    private Future<?> pending;
+
+    /**
+     * @param task     Обчислення, що виконується у фоновому потоці.
+     * @param onResult Обробник результату (у потоці JavaFX).
+     * @param onError  Обробник помилки (у потоці JavaFX).
+     */
+    public <T> void submit(Callable<T> task, Consumer<T> onResult, Consumer<Exception> onError) {
+        long id = generation.incrementAndGet();
+        cancelPending();
+        pending = executor.submit(() -> {
+            if (generation.get() != id) {
+                return; // Вже є новіший запит
+            }
+            try {
+                T result = task.call();
+                Platform.runLater(() -> {
+                    if (generation.get() == id) {
+                        onResult.accept(result);
+                    }
+                });
+            } catch (Exception e) {
+                Platform.runLater(() -> {
+                    if (generation.get() == id) {
+                        onError.accept(e);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Скасовує поточний запит; його результат буде відкинуто.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+        cancelPending();
+    }
+
+    private void cancelPending() {
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+    }
+}
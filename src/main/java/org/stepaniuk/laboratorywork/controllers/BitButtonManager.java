@@ -1,90 +1,78 @@
 package org.stepaniuk.laboratorywork.controllers;
 
-import javafx.scene.control.Button;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
 
 import java.util.*;
 
 /**
- * Керує створенням, відображенням та інтерактивністю
- * динамічного списку кнопок-бітів.
+ * Керує відображенням та інтерактивністю кодового слова.
+ * Біти малюються віртуалізованим {@link CodeWordView}, тож UI
+ * залишається швидким і для слів з тисяч біт.
  */
 public class BitButtonManager {
 
-    private final HBox codeWordBox;
     private final Runnable onAnalysisCallback; // Метод, який треба викликати (напр. handleAnalysis)
-    private final List<Button> codeWordButtons = new ArrayList<>();
+    private final CodeWordView codeWordView = new CodeWordView();
+    private long[] codeWordBits = new long[0]; // Поточне слово
+    private int bitCount;
 
-    private Map<Integer, List<Integer>> bitRelationships = new HashMap<>();
+    private static final BitSet NO_BITS = new BitSet();
+
+    // Для кожного біта - множина пов'язаних з ним біт (спільні екземпляри для біт з однаковими групами)
+    private BitSet[] relatedBits = new BitSet[0];
 
     /**
-     * @param codeWordBox      Контейнер HBox з FXML, куди додавати кнопки.
+     * @param codeWordBox      Контейнер HBox з FXML, куди додати відображення слова.
      * @param onAnalysisCallback Метод, який буде викликано після зміни біта (lambda `this::handleAnalysis`).
      */
     public BitButtonManager(HBox codeWordBox, Runnable onAnalysisCallback) {
-        this.codeWordBox = codeWordBox;
         this.onAnalysisCallback = onAnalysisCallback;
+
+        HBox.setHgrow(codeWordView, Priority.ALWAYS);
+        codeWordBox.getChildren().setAll(codeWordView);
+        codeWordView.setOnToggle(this::handleBitToggle);
+        codeWordView.setOnHover(this::handleBitHover);
     }
 
     /**
-     * Встановлює нову мапу зв'язків для логіки підсвічування.
+     * Встановлює нову мапу зв'язків і будує за нею обернений індекс,
+     * тож підсвічування при наведенні - це лише пошук у масиві.
      */
     public void setRelationships(Map<Integer, List<Integer>> relationships) {
-        this.bitRelationships = (relationships != null) ? relationships : Collections.emptyMap();
+        this.relatedBits = buildRelatedBits((relationships != null) ? relationships : Collections.emptyMap());
     }
 
     /**
-     * Повністю очищує та перебудовує HBox з кнопками для бітів.
+     * Скидає відображення до слова з {@code bitCount} нульових бітів.
      */
     public void buildCodeWordUI(int bitCount) {
-        codeWordButtons.clear();
-        codeWordBox.getChildren().clear();
-
-        for (int i = 0; i < bitCount; i++) {
-            Button bitButton = createBitButton(i);
-            codeWordButtons.add(bitButton);
-            codeWordBox.getChildren().add(bitButton);
-        }
-    }
-
-    /**
-     * Створює стилізовану кнопку для біта.
-     */
-    private Button createBitButton(int index) {
-        Button bitButton = new Button("0");
-        bitButton.getStyleClass().add("bit-button");
-
-        // Обробник кліку (для симуляції помилки)
-        bitButton.setOnAction(e -> handleBitToggle(bitButton));
-        // Обробники наведення миші
-        bitButton.setOnMouseEntered(e -> handleBitHover(index));
-        bitButton.setOnMouseExited(e -> clearBitHighlights());
-
-        return bitButton;
+        this.bitCount = bitCount;
+        this.codeWordBits = new long[BitWords.wordCount(bitCount)];
+        codeWordView.setWord(bitCount, codeWordBits);
     }
 
     /**
-     * Оновлює текст на кнопках-бітах.
+     * Оновлює відображене слово.
      */
     public void displayEncodedWord(String encodedWord) {
-        for (int i = 0; i < encodedWord.length() && i < codeWordButtons.size(); i++) {
-            codeWordButtons.get(i).setText(String.valueOf(encodedWord.charAt(i)));
-        }
+        BitWords.parse(encodedWord, codeWordBits);
+        codeWordView.repaintAll();
     }
 
     /**
-     * Повертає поточне слово, зчитане з кнопок.
+     * Повертає поточне слово з моделі бітів.
      */
     public String getCurrentCodeWord() {
-        StringBuilder word = new StringBuilder();
-        codeWordButtons.forEach(btn -> word.append(btn.getText()));
-        return word.toString();
+        return BitWords.format(codeWordBits, bitCount);
     }
 
-    // --- Логіка обробки подій кнопок ---
+    // --- Логіка обробки подій ---
 
-    private void handleBitToggle(Button bitButton) {
-        bitButton.setText(bitButton.getText().equals("0") ? "1" : "0");
+    private void handleBitToggle(int index) {
+        BitWords.flipBit(codeWordBits, index);
+        codeWordView.repaintBit(index);
         // Викликаємо зворотний зв'язок до MainController
         if (onAnalysisCallback != null) {
             onAnalysisCallback.run();
@@ -92,57 +80,64 @@ public class BitButtonManager {
     }
 
     private void handleBitHover(int index) {
-        Set<Integer> indicesToHighlight = collectRelatedBitIndices(index);
-        applyHighlightToBits(indicesToHighlight);
-    }
-
-    private void clearBitHighlights() {
-        codeWordButtons.forEach(btn -> btn.getStyleClass().remove("highlight-bit"));
+        BitSet related = (index >= 0 && index < relatedBits.length) ? relatedBits[index] : null;
+        codeWordView.setHighlights((related != null) ? related : NO_BITS);
     }
 
-    private Set<Integer> collectRelatedBitIndices(int index) {
-        Set<Integer> indices = new HashSet<>();
-        // Підсвічуємо групу контрольного біта
-        if (bitRelationships.containsKey(index)) {
-            indices.addAll(bitRelationships.get(index));
+    /**
+     * Будує обернений індекс: біт пов'язаний з усіма бітами груп, до яких він
+     * належить (група контрольного біта теж враховується, бо вона містить сам біт).
+     * Біти з однаковим набором груп отримують один спільний BitSet.
+     */
+    private static BitSet[] buildRelatedBits(Map<Integer, List<Integer>> relationships) {
+        int size = 0;
+        List<BitSet> groups = new ArrayList<>(relationships.size());
+        for (Map.Entry<Integer, List<Integer>> entry : relationships.entrySet()) {
+            BitSet group = new BitSet();
+            group.set(entry.getKey());
+            entry.getValue().forEach(group::set);
+            groups.add(group);
+            size = Math.max(size, group.length());
         }
-        // Підсвічуємо всі групи, що містять цей біт даних
-        bitRelationships.values().stream()
-                .filter(group -> group.contains(index))
-                .forEach(indices::addAll);
-        return indices;
-    }
 
-    // --- Логіка стилізації кнопок ---
+        // Набір груп, до яких належить кожен біт
+        BitSet[] membership = new BitSet[size];
+        for (int g = 0; g < groups.size(); g++) {
+            BitSet group = groups.get(g);
+            for (int i = group.nextSetBit(0); i >= 0; i = group.nextSetBit(i + 1)) {
+                if (membership[i] == null) {
+                    membership[i] = new BitSet();
+                }
+                membership[i].set(g);
+            }
+        }
 
-    private void applyHighlightToBits(Set<Integer> indices) {
-        indices.forEach(i -> {
-            if (i < codeWordButtons.size()) {
-                codeWordButtons.get(i).getStyleClass().add("highlight-bit");
+        BitSet[] related = new BitSet[size];
+        Map<BitSet, BitSet> unions = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (membership[i] != null) {
+                related[i] = unions.computeIfAbsent(membership[i], groupIds -> {
+                    BitSet union = new BitSet();
+                    groupIds.stream().forEach(g -> union.or(groups.get(g)));
+                    return union;
+                });
             }
-        });
+        }
+        return related;
     }
 
+    // --- Логіка стилізації ---
+
     public void highlightErrors(String current, String corrected) {
-        for (int i = 0; i < codeWordButtons.size(); i++) {
-            Button btn = codeWordButtons.get(i);
-            boolean hasError = i < current.length() && i < corrected.length()
-                    && current.charAt(i) != corrected.charAt(i);
-            updateButtonErrorState(btn, hasError);
+        long[] currentBits = BitWords.parse(current, new long[codeWordBits.length]);
+        long[] correctedBits = BitWords.parse(corrected, new long[codeWordBits.length]);
+        for (int w = 0; w < currentBits.length; w++) {
+            currentBits[w] ^= correctedBits[w]; // Розбіжності - це виправлені біти
         }
+        codeWordView.setErrors(BitSet.valueOf(currentBits));
     }
 
     public void clearErrorHighlights() {
-        codeWordButtons.forEach(btn -> btn.getStyleClass().remove("error-bit"));
-    }
-
-    private void updateButtonErrorState(Button button, boolean hasError) {
-        if (hasError) {
-            if (!button.getStyleClass().contains("error-bit")) {
-                button.getStyleClass().add("error-bit");
-            }
-        } else {
-            button.getStyleClass().remove("error-bit");
-        }
+        codeWordView.setErrors(new BitSet());
     }
 }
@@ -0,0 +1,287 @@
+package org.stepaniuk.laboratorywork.controllers;
+
+import javafx.geometry.Orientation;
+import javafx.geometry.VPos;
+import javafx.scene.Cursor;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * Віртуалізоване відображення кодового слова на Canvas.
+ * <p>
+ * Біти розкладаються сіткою по рядках; малюються лише рядки, що видимі
+ * у вікні прокрутки, тож вартість не залежить від довжини слова. Попадання
+ * миші визначається арифметично, а при зміні стану бітів перемальовуються
+ * лише змінені клітинки.
+ */
+public class CodeWordView extends Region {
+
+    private static final double CELL_SIZE = 34;
+    private static final double GAP = 4;
+    private static final double PITCH = CELL_SIZE + GAP;
+    private static final double ARC = 8;
+    private static final int MAX_VISIBLE_ROWS = 6;
+
+    // Кольори відповідають колишнім стилям .bit-button / .error-bit / .highlight-bit
+    private static final Color CELL_COLOR = Color.web("#424242");
+    private static final Color HOVER_COLOR = Color.web("#555555");
+    private static final Color ERROR_COLOR = Color.web("#4E3030");
+    private static final Color ERROR_BORDER = Color.web("#E53935");
+    private static final Color HIGHLIGHT_COLOR = Color.web("#3C4A52");
+    private static final Color HIGHLIGHT_BORDER = Color.web("#03A9F4");
+    private static final Color TEXT_COLOR = Color.web("#FFFFFF");
+    private static final Font BIT_FONT = Font.font("Monospaced", FontWeight.BOLD, 16);
+
+    private final Canvas canvas = new Canvas();
+    private final ScrollBar scrollBar = new ScrollBar();
+
+    private IntConsumer onToggle = index -> { };
+    private IntConsumer onHover = index -> { };
+
+    private int bitCount;
+    private long[] bits = new long[0];
+    private BitSet errors = new BitSet();
+    private BitSet highlights = new BitSet();
+    private int hoverIndex = -1;
+
+    private int columns = 1;
+    private int visibleRows = 1;
+    private int firstRow;
+
+    public CodeWordView() {
+        scrollBar.setOrientation(Orientation.VERTICAL);
+        scrollBar.setVisible(false);
+        scrollBar.valueProperty().addListener((obs, oldValue, newValue) -> {
+            int row = (int) Math.round(newValue.doubleValue());
+            if (row != firstRow) {
+                firstRow = row;
+                paintAll();
+            }
+        });
+        getChildren().addAll(canvas, scrollBar);
+        canvas.setCursor(Cursor.HAND);
+
+        canvas.setOnMouseMoved(e -> updateHover(indexAt(e)));
+        canvas.setOnMouseExited(e -> updateHover(-1));
+        canvas.setOnMouseClicked(e -> {
+            int index = indexAt(e);
+            if (index >= 0) {
+                onToggle.accept(index);
+            }
+        });
+        canvas.setOnScroll(e -> scrollBar.setValue(Math.max(scrollBar.getMin(),
+                Math.min(scrollBar.getMax(), scrollBar.getValue() - Math.signum(e.getDeltaY())))));
+    }
+
+    /**
+     * @param onToggle Викликається з індексом біта при кліку.
+     */
+    public void setOnToggle(IntConsumer onToggle) {
+        this.onToggle = onToggle;
+    }
+
+    /**
+     * @param onHover Викликається з індексом біта під курсором (-1, коли курсор залишив біти).
+     */
+    public void setOnHover(IntConsumer onHover) {
+        this.onHover = onHover;
+    }
+
+    /**
+     * Задає нове слово. Масив {@code bits} належить викликачу;
+     * після його зміни слід викликати {@link #repaintBit(int)} або {@link #repaintAll()}.
+     */
+    public void setWord(int bitCount, long[] bits) {
+        this.bitCount = bitCount;
+        this.bits = bits;
+        this.errors = new BitSet();
+        this.highlights = new BitSet();
+        this.hoverIndex = -1;
+        this.firstRow = 0;
+        scrollBar.setValue(0);
+        requestLayout();
+        paintAll();
+    }
+
+    public void setErrors(BitSet newErrors) {
+        BitSet changed = (BitSet) errors.clone();
+        changed.xor(newErrors);
+        errors = (BitSet) newErrors.clone();
+        repaintBits(changed);
+    }
+
+    public void setHighlights(BitSet newHighlights) {
+        BitSet changed = (BitSet) highlights.clone();
+        changed.xor(newHighlights);
+        highlights = (BitSet) newHighlights.clone();
+        repaintBits(changed);
+    }
+
+    public void repaintBit(int index) {
+        paintCell(canvas.getGraphicsContext2D(), index);
+    }
+
+    public void repaintAll() {
+        paintAll();
+    }
+
+    // --- Розкладка ---
+
+    @Override
+    public Orientation getContentBias() {
+        return Orientation.HORIZONTAL;
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        return snappedLeftInset() + Math.max(1, Math.min(bitCount, 16)) * PITCH + snappedRightInset();
+    }
+
+    @Override
+    protected double computeMinWidth(double height) {
+        return snappedLeftInset() + PITCH + scrollBar.prefWidth(-1) + snappedRightInset();
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        double contentWidth = (width < 0) ? computePrefWidth(-1) : width - snappedLeftInset() - snappedRightInset();
+        int rows = rowCount(columnsFor(contentWidth));
+        return snappedTopInset() + Math.max(1, Math.min(rows, MAX_VISIBLE_ROWS)) * PITCH - GAP + snappedBottomInset();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double x = snappedLeftInset();
+        double y = snappedTopInset();
+        double width = getWidth() - x - snappedRightInset();
+        double height = getHeight() - y - snappedBottomInset();
+
+        columns = columnsFor(width);
+        int rows = rowCount(columns);
+        visibleRows = Math.max(1, (int) ((height + GAP) / PITCH));
+        boolean scrollable = rows > visibleRows;
+        if (scrollable) {
+            double scrollBarWidth = scrollBar.prefWidth(-1);
+            columns = columnsFor(width - scrollBarWidth);
+            rows = rowCount(columns);
+            scrollBar.resizeRelocate(x + width - scrollBarWidth, y, scrollBarWidth, height);
+            width -= scrollBarWidth;
+        }
+        scrollBar.setVisible(scrollable);
+        scrollBar.setMax(Math.max(0, rows - visibleRows));
+        scrollBar.setVisibleAmount(visibleRows);
+        firstRow = Math.min(firstRow, (int) scrollBar.getMax());
+
+        canvas.relocate(x, y);
+        canvas.setWidth(Math.max(0, width));
+        canvas.setHeight(Math.max(0, height));
+        paintAll();
+    }
+
+    private static int columnsFor(double width) {
+        return Math.max(1, (int) ((width + GAP) / PITCH));
+    }
+
+    private int rowCount(int columnCount) {
+        return (bitCount + columnCount - 1) / columnCount;
+    }
+
+    // --- Малювання ---
+
+    private void paintAll() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        int from = firstRow * columns;
+        int to = Math.min(bitCount, (firstRow + visibleRows) * columns);
+        for (int i = from; i < to; i++) {
+            paintCell(gc, i);
+        }
+    }
+
+    private void repaintBits(BitSet changed) {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        int from = firstRow * columns;
+        int to = Math.min(bitCount, (firstRow + visibleRows) * columns);
+        for (int i = changed.nextSetBit(from); i >= 0 && i < to; i = changed.nextSetBit(i + 1)) {
+            paintCell(gc, i);
+        }
+    }
+
+    private void paintCell(GraphicsContext gc, int index) {
+        int row = index / columns - firstRow;
+        if (index >= bitCount || row < 0 || row >= visibleRows) {
+            return; // Клітинка поза видимою областю
+        }
+        double x = (index % columns) * PITCH;
+        double y = row * PITCH;
+        gc.clearRect(x, y, CELL_SIZE, CELL_SIZE);
+
+        Color fill = CELL_COLOR;
+        Color border = null;
+        if (highlights.get(index)) {
+            fill = HIGHLIGHT_COLOR;
+            border = HIGHLIGHT_BORDER;
+        } else if (errors.get(index)) {
+            fill = ERROR_COLOR;
+            border = ERROR_BORDER;
+        } else if (index == hoverIndex) {
+            fill = HOVER_COLOR;
+        }
+
+        gc.setFill(fill);
+        gc.fillRoundRect(x, y, CELL_SIZE, CELL_SIZE, ARC, ARC);
+        if (border != null) {
+            gc.setStroke(border);
+            gc.setLineWidth(2);
+            gc.strokeRoundRect(x + 1, y + 1, CELL_SIZE - 2, CELL_SIZE - 2, ARC, ARC);
+        }
+
+        gc.setFill(TEXT_COLOR);
+        gc.setFont(BIT_FONT);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.fillText(BitWords.getBit(bits, index) ? "1" : "0", x + CELL_SIZE / 2, y + CELL_SIZE / 2);
+    }
+
+    // --- Події миші ---
+
+    /**
+     * Індекс біта під курсором або -1 (проміжки між клітинками не враховуються).
+     */
+    private int indexAt(MouseEvent event) {
+        int column = (int) (event.getX() / PITCH);
+        int row = (int) (event.getY() / PITCH);
+        boolean insideCell = event.getX() - column * PITCH < CELL_SIZE && event.getY() - row * PITCH < CELL_SIZE;
+        if (!insideCell || column >= columns || row >= visibleRows) {
+            return -1;
+        }
+        int index = (row + firstRow) * columns + column;
+        return (index < bitCount) ? index : -1;
+    }
+
+    private void updateHover(int index) {
+        if (index == hoverIndex) {
+            return;
+        }
+        int previous = hoverIndex;
+        hoverIndex = index;
+        if (previous >= 0) {
+            repaintBit(previous);
+        }
+        if (index >= 0) {
+            repaintBit(index);
+        }
+        onHover.accept(index);
+    }
+}
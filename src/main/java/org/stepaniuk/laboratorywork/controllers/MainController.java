@@ -6,8 +6,9 @@ import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.util.StringConverter;
+import org.stepaniuk.laboratorywork.algorithms.CodecRegistry;
 import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
-import org.stepaniuk.laboratorywork.algorithms.hamming.DynamicHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.ExtendedHammingCode;
 import org.stepaniuk.laboratorywork.algorithms.hamming.HammingCode;
 import org.stepaniuk.laboratorywork.algorithms.hamming.HammingGeneratorPlaceholder;
 import org.stepaniuk.laboratorywork.algorithms.repetition.RepetitionCode;
@@ -17,7 +18,8 @@ import java.util.ResourceBundle;
 
 public class MainController implements Initializable {
 
-    private static final int MAX_K_VALUE = 32;
+    private static final int MAX_K_VALUE = 4083; // Гемінг (4095, 4083)
+    private static final int MAX_T_VALUE = 8;    // Для t > 1 генерується код БЧХ
 
     // --- FXML Поля ---
     @FXML private ComboBox<IErrorCorrectionCode> algorithmSelector;
@@ -30,11 +32,14 @@ public class MainController implements Initializable {
     @FXML private VBox mainControlsBox;
     @FXML private HBox generatorBox;
     @FXML private TextField kInput;
+    @FXML private TextField tInput;
+    @FXML private CheckBox secdedCheckBox;
     @FXML private Button generateButton;
 
     // --- Внутрішні поля ---
     private IErrorCorrectionCode currentAlgorithm;
     private BitButtonManager bitButtonManager;
+    private final AnalysisScheduler analysisScheduler = new AnalysisScheduler();
 
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
@@ -111,7 +116,8 @@ public class MainController implements Initializable {
     protected void handleGenerate() {
         try {
             int k = parseAndValidateKValue();
-            DynamicHammingCode dynamicCode = new DynamicHammingCode(k);
+            int t = parseAndValidateTValue();
+            IErrorCorrectionCode dynamicCode = createGeneratedCode(k, t);
 
             setCurrentAlgorithm(dynamicCode);
             setUIVisibility(true, false);
@@ -119,12 +125,21 @@ public class MainController implements Initializable {
             algorithmSelector.getSelectionModel().selectLast();
 
         } catch (NumberFormatException e) {
-            showAlert("Помилка генерації", "Будь ласка, введіть коректне число 'k'.");
+            showAlert("Помилка генерації", "Будь ласка, введіть коректні числа 'k' та 't'.");
         } catch (Exception e) {
             showAlert("Помилка генерації", e.getMessage());
         }
     }
 
+    private IErrorCorrectionCode createGeneratedCode(int k, int t) {
+        // Реєстр будує таблиці кожного коду лише один раз
+        if (t > 1) {
+            return CodecRegistry.shared().get(CodecRegistry.BCH, k, t); // Кілька помилок - код БЧХ
+        }
+        String family = secdedCheckBox.isSelected() ? CodecRegistry.SECDED : CodecRegistry.HAMMING;
+        return CodecRegistry.shared().get(family, k);
+    }
+
     @FXML
     protected void handleEncode() {
         if (currentAlgorithm == null) return;
@@ -149,14 +164,22 @@ public class MainController implements Initializable {
         }
     }
 
+    /**
+     * Аналіз виконується у фоновому потоці; при швидких кліках
+     * застосовується лише результат останнього запиту.
+     */
     private void handleAnalysis() {
         if (currentAlgorithm == null) return;
 
-        String currentWord = bitButtonManager.getCurrentCodeWord(); // Делегуємо
-        IErrorCorrectionCode.CodeCheckResult result = currentAlgorithm.checkAndCorrect(currentWord);
-
-        displayAnalysisResults(result);
-        bitButtonManager.highlightErrors(currentWord, result.correctedWord()); // Делегуємо
+        IErrorCorrectionCode algorithm = currentAlgorithm;
+        String currentWord = bitButtonManager.getCurrentCodeWord(); // Знімок слова у потоці JavaFX
+        analysisScheduler.submit(
+                () -> algorithm.checkAndCorrect(currentWord),
+                result -> {
+                    displayAnalysisResults(result);
+                    bitButtonManager.highlightErrors(currentWord, result.correctedWord()); // Делегуємо
+                },
+                error -> showAlert("Помилка аналізу", error.getMessage()));
     }
 
     // --- 4. Оновлення UI та Валідація ---
@@ -168,6 +191,7 @@ public class MainController implements Initializable {
     }
 
     private void clearResults() {
+        analysisScheduler.cancel(); // Результат для попереднього алгоритму вже не актуальний
         statusLabel.setText("...");
         correctedDataLabel.setText("...");
         correctedWordLabel.setText("...");
@@ -182,9 +206,19 @@ public class MainController implements Initializable {
         int k = Integer.parseInt(kInput.getText());
         if (k <= 0) throw new IllegalArgumentException("Кількість інформаційних біт 'k' має бути > 0.");
         if (k > MAX_K_VALUE) throw new IllegalArgumentException("Значення 'k' занадто велике (макс. " + MAX_K_VALUE + ").");
+        if (k > ExtendedHammingCode.MAX_K && secdedCheckBox.isSelected()) throw new IllegalArgumentException(
+                "SECDED підтримує k до " + ExtendedHammingCode.MAX_K + "; для довших слів зніміть прапорець SECDED.");
         return k;
     }
 
+    private int parseAndValidateTValue() {
+        int t = Integer.parseInt(tInput.getText());
+        if (t <= 0) throw new IllegalArgumentException("Кількість помилок 't' має бути > 0.");
+        if (t > MAX_T_VALUE) throw new IllegalArgumentException("Значення 't' занадто велике (макс. " + MAX_T_VALUE + ").");
+        if (t > 1 && secdedCheckBox.isSelected()) throw new IllegalArgumentException("SECDED виправляє лише одну помилку (t = 1).");
+        return t;
+    }
+
     private boolean isValidDataWord(String dataWord) {
         return dataWord.length() == currentAlgorithm.getDataWordLength()
                 && dataWord.matches("[01]+");
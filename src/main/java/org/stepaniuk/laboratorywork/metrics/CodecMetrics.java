@@ -0,0 +1,163 @@
+package org.stepaniuk.laboratorywork.metrics;
+
+import org.stepaniuk.laboratorywork.algorithms.DecodeResult;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Метрики одного коду: лічильники слів, розподіл виправлених помилок
+ * за позиціями біт та гістограми затримок кодування й декодування.
+ * <p>
+ * Лічильники, що зростають на кожному слові, - {@link LongAdder}: потоки
+ * додають у власні комірки, тож спільна лінія кешу не стає вузьким місцем.
+ * Лічильники позицій - звичайний атомарний масив: помилки рідкісні,
+ * а n таких лічильників займали б забагато пам'яті для довгих кодів.
+ */
+public final class CodecMetrics {
+
+    private final String codeName;
+    private final int codeWordLength;
+
+    private final LongAdder encodedWords = new LongAdder();
+    private final LongAdder decodedWords = new LongAdder();
+    private final LongAdder correctedWords = new LongAdder();
+    private final LongAdder correctedBits = new LongAdder();
+    private final LongAdder uncorrectableWords = new LongAdder();
+    private final AtomicLongArray correctedByPosition;
+    private final LatencyHistogram encodeLatency = new LatencyHistogram();
+    private final LatencyHistogram decodeLatency = new LatencyHistogram();
+
+    CodecMetrics(String codeName, int codeWordLength) {
+        this.codeName = codeName;
+        this.codeWordLength = codeWordLength;
+        this.correctedByPosition = new AtomicLongArray(codeWordLength);
+    }
+
+    public String getCodeName() {
+        return codeName;
+    }
+
+    public int getCodeWordLength() {
+        return codeWordLength;
+    }
+
+    // --- Запис ---
+
+    void recordEncoded(long words) {
+        encodedWords.add(words);
+    }
+
+    void recordDecoded(long words) {
+        decodedWords.add(words);
+    }
+
+    void recordEncodeLatency(long nanos, long words) {
+        encodeLatency.record(nanos / Math.max(1, words), words);
+    }
+
+    void recordDecodeLatency(long nanos, long words) {
+        decodeLatency.record(nanos / Math.max(1, words), words);
+    }
+
+    /**
+     * Виправлене слово (n <= 64): біт i маски - виправлена позиція i.
+     */
+    void recordCorrection(long errorMask) {
+        correctedWords.increment();
+        correctedBits.add(Long.bitCount(errorMask));
+        for (long mask = errorMask; mask != 0; mask &= mask - 1) {
+            correctedByPosition.incrementAndGet(Long.numberOfTrailingZeros(mask));
+        }
+    }
+
+    /**
+     * Виправлене слово довільної довжини: позиції, у яких слова відрізняються.
+     */
+    void recordCorrection(long[] received, long[] corrected) {
+        int bits = 0;
+        for (int w = 0; w < corrected.length; w++) {
+            long mask = received[w] ^ corrected[w];
+            bits += Long.bitCount(mask);
+            for (; mask != 0; mask &= mask - 1) {
+                int position = w * Long.SIZE + Long.numberOfTrailingZeros(mask);
+                if (position < codeWordLength) {
+                    correctedByPosition.incrementAndGet(position);
+                }
+            }
+        }
+        if (bits != 0) {
+            correctedWords.increment();
+            correctedBits.add(bits);
+        }
+    }
+
+    /**
+     * Результат структурованого декодування.
+     */
+    void recordOutcome(DecodeResult result) {
+        if (result.getOutcome() == DecodeResult.Outcome.DETECTED_UNCORRECTABLE) {
+            uncorrectableWords.increment();
+        } else if (result.getOutcome() == DecodeResult.Outcome.CORRECTED) {
+            correctedWords.increment();
+            correctedBits.add(result.getErrorCount());
+            for (int i = result.nextErrorPosition(0); i >= 0; i = result.nextErrorPosition(i + 1)) {
+                correctedByPosition.incrementAndGet(i);
+            }
+        }
+    }
+
+    void recordUncorrectable() {
+        uncorrectableWords.increment();
+    }
+
+    // --- Читання ---
+
+    public long getEncodedWords() {
+        return encodedWords.sum();
+    }
+
+    public long getDecodedWords() {
+        return decodedWords.sum();
+    }
+
+    public long getCorrectedWords() {
+        return correctedWords.sum();
+    }
+
+    public long getCorrectedBits() {
+        return correctedBits.sum();
+    }
+
+    public long getUncorrectableWords() {
+        return uncorrectableWords.sum();
+    }
+
+    /**
+     * Скільки разів було виправлено біт на позиції {@code position}.
+     */
+    public long getCorrectedAt(int position) {
+        return correctedByPosition.get(position);
+    }
+
+    public LatencyHistogram getEncodeLatency() {
+        return encodeLatency;
+    }
+
+    public LatencyHistogram getDecodeLatency() {
+        return decodeLatency;
+    }
+
+    public void reset() {
+        encodedWords.reset();
+        decodedWords.reset();
+        correctedWords.reset();
+        correctedBits.reset();
+        uncorrectableWords.reset();
+        for (int i = 0; i < codeWordLength; i++) {
+            correctedByPosition.set(i, 0);
+        }
+        encodeLatency.reset();
+        decodeLatency.reset();
+    }
+}
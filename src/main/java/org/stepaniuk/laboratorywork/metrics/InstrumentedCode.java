@@ -0,0 +1,299 @@
+package org.stepaniuk.laboratorywork.metrics;
+
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.DecodeResult;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Обгортка коду, що враховує його виклики в {@link CodecMetrics}.
+ * <p>
+ * Для одиничних викликів бітово-упакованого API (кілька наносекунд) затримка
+ * не вимірюється - {@link System#nanoTime()} коштував би більше за сам виклик;
+ * для них лише зростають лічильники. Затримки пишуться для рядкового API,
+ * API над масивами слів та пакетів (середня затримка слова, вагою - кількість слів).
+ * <p>
+ * Слово, виправлене бітово-упакованим API, класифікується за синдромом результату,
+ * як і в пакетному API: ненульовий синдром - невиправне слово (навіть якщо декодер
+ * його змінив), інакше змінене слово - виправлене. Для цього при увімкненому зборі
+ * синдром обчислюється повторно для кожного слова.
+ */
+public final class InstrumentedCode implements IErrorCorrectionCode {
+
+    private final IErrorCorrectionCode delegate;
+    private final MetricsRegistry registry;
+    private final CodecMetrics metrics;
+    private final int n;
+
+    InstrumentedCode(IErrorCorrectionCode delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.metrics = registry.metricsFor(delegate);
+        this.n = delegate.getCodeWordLength();
+    }
+
+    public IErrorCorrectionCode getDelegate() {
+        return delegate;
+    }
+
+    public CodecMetrics getMetrics() {
+        return metrics;
+    }
+
+    MetricsRegistry getRegistry() {
+        return registry;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public int getDataWordLength() {
+        return delegate.getDataWordLength();
+    }
+
+    @Override
+    public int getCodeWordLength() {
+        return n;
+    }
+
+    @Override
+    public Map<Integer, List<Integer>> getBitRelationships() {
+        return delegate.getBitRelationships();
+    }
+
+    // --- Рядковий API ---
+
+    @Override
+    public String encode(String dataWord) {
+        if (!registry.isEnabled()) {
+            return delegate.encode(dataWord);
+        }
+        long start = System.nanoTime();
+        String codeWord = delegate.encode(dataWord);
+        metrics.recordEncodeLatency(System.nanoTime() - start, 1);
+        metrics.recordEncoded(1);
+        return codeWord;
+    }
+
+    @Override
+    public CodeCheckResult checkAndCorrect(String codeWord) {
+        if (!registry.isEnabled()) {
+            return delegate.checkAndCorrect(codeWord);
+        }
+        return checkAndCorrect(codeWord, new DecodeResult()).toCheckResult();
+    }
+
+    /**
+     * Делегує коду (зі збереженням його формату статусу) і враховує результат.
+     * Рядковий варіант {@link #checkAndCorrect(String, DecodeResult)} теж проходить тут.
+     */
+    @Override
+    public DecodeResult decode(long[] codeWords, DecodeResult result) {
+        if (!registry.isEnabled()) {
+            return delegate.decode(codeWords, result);
+        }
+        long start = System.nanoTime();
+        DecodeResult decoded = delegate.decode(codeWords, result);
+        metrics.recordDecodeLatency(System.nanoTime() - start, 1);
+        metrics.recordDecoded(1);
+        metrics.recordOutcome(decoded);
+        return decoded;
+    }
+
+    // --- Бітово-упакований API ---
+
+    @Override
+    public long encodeBits(long dataBits) {
+        if (registry.isEnabled()) {
+            metrics.recordEncoded(1);
+        }
+        return delegate.encodeBits(dataBits);
+    }
+
+    @Override
+    public long syndromeBits(long codeBits) {
+        return delegate.syndromeBits(codeBits);
+    }
+
+    @Override
+    public long correctBits(long codeBits) {
+        long corrected = delegate.correctBits(codeBits);
+        if (registry.isEnabled()) {
+            metrics.recordDecoded(1);
+            recordOutcome(codeBits, corrected);
+        }
+        return corrected;
+    }
+
+    @Override
+    public long extractDataBits(long codeBits) {
+        return delegate.extractDataBits(codeBits);
+    }
+
+    // --- API над масивами слів ---
+
+    @Override
+    public void encodeWords(long[] dataWords, long[] codeWords) {
+        if (!registry.isEnabled()) {
+            delegate.encodeWords(dataWords, codeWords);
+            return;
+        }
+        long start = System.nanoTime();
+        delegate.encodeWords(dataWords, codeWords);
+        metrics.recordEncodeLatency(System.nanoTime() - start, 1);
+        metrics.recordEncoded(1);
+    }
+
+    @Override
+    public long syndromeWords(long[] codeWords) {
+        return delegate.syndromeWords(codeWords);
+    }
+
+    @Override
+    public int correctWords(long[] codeWords) {
+        if (!registry.isEnabled()) {
+            return delegate.correctWords(codeWords);
+        }
+        long[] received = codeWords.clone();
+        long start = System.nanoTime();
+        int corrected = delegate.correctWords(codeWords);
+        metrics.recordDecodeLatency(System.nanoTime() - start, 1);
+        metrics.recordDecoded(1);
+        if (corrected == UNCORRECTABLE) {
+            metrics.recordUncorrectable();
+        } else if (corrected > 0) {
+            metrics.recordCorrection(received, codeWords);
+        }
+        return corrected;
+    }
+
+    @Override
+    public void extractDataWords(long[] codeWords, long[] dataWords) {
+        delegate.extractDataWords(codeWords, dataWords);
+    }
+
+    /**
+     * Виправленими вважаються біти, що відрізняються від жорсткого рішення.
+     */
+    @Override
+    public int decodeSoft(float[] llr, long[] codeWords) {
+        if (!registry.isEnabled()) {
+            return delegate.decodeSoft(llr, codeWords);
+        }
+        long start = System.nanoTime();
+        int corrected = delegate.decodeSoft(llr, codeWords);
+        metrics.recordDecodeLatency(System.nanoTime() - start, 1);
+        metrics.recordDecoded(1);
+        if (corrected == UNCORRECTABLE) {
+            metrics.recordUncorrectable();
+        } else if (corrected > 0) {
+            long[] hard = new long[BitWords.wordCount(n)];
+            BitWords.hardDecision(llr, n, hard);
+            metrics.recordCorrection(hard, codeWords);
+        }
+        return corrected;
+    }
+
+    // --- Пакетний API ---
+
+    @Override
+    public void encodeBatch(long[] dataWords, int dataOffset, long[] codeWords, int codeOffset, int count) {
+        if (!registry.isEnabled()) {
+            delegate.encodeBatch(dataWords, dataOffset, codeWords, codeOffset, count);
+            return;
+        }
+        long start = System.nanoTime();
+        delegate.encodeBatch(dataWords, dataOffset, codeWords, codeOffset, count);
+        metrics.recordEncodeLatency(System.nanoTime() - start, count);
+        metrics.recordEncoded(count);
+    }
+
+    @Override
+    public int decodeBatch(long[] codeWords, int codeOffset, long[] dataWords, long[] errorMasks,
+                           int[] results, int outOffset, int count) {
+        if (!registry.isEnabled()) {
+            return delegate.decodeBatch(codeWords, codeOffset, dataWords, errorMasks, results, outOffset, count);
+        }
+        // Маски й результати потрібні для метрик, навіть якщо викликачеві - ні;
+        // зміщення в усіх вихідних буферах спільне, тож тимчасові починаються з 0
+        long[] data = dataWords;
+        long[] masks = errorMasks;
+        int[] outcomes = results;
+        int offset = outOffset;
+        if (masks == null || outcomes == null) {
+            data = new long[count];
+            masks = new long[count];
+            outcomes = new int[count];
+            offset = 0;
+        }
+        long start = System.nanoTime();
+        int correctedWords = delegate.decodeBatch(codeWords, codeOffset, data, masks, outcomes, offset, count);
+        metrics.recordDecodeLatency(System.nanoTime() - start, count);
+        if (data != dataWords) {
+            System.arraycopy(data, 0, dataWords, outOffset, count);
+            if (errorMasks != null) {
+                System.arraycopy(masks, 0, errorMasks, outOffset, count);
+            }
+            if (results != null) {
+                System.arraycopy(outcomes, 0, results, outOffset, count);
+            }
+        }
+        metrics.recordDecoded(count);
+        for (int i = 0; i < count; i++) {
+            if (outcomes[offset + i] == UNCORRECTABLE) {
+                metrics.recordUncorrectable();
+            } else if (outcomes[offset + i] > 0) {
+                metrics.recordCorrection(masks[offset + i]);
+            }
+        }
+        return correctedWords;
+    }
+
+    @Override
+    public void encodeBatch(ByteBuffer dataWords, ByteBuffer codeWords) {
+        if (!registry.isEnabled()) {
+            delegate.encodeBatch(dataWords, codeWords);
+            return;
+        }
+        int count = dataWords.remaining() / Long.BYTES;
+        long start = System.nanoTime();
+        delegate.encodeBatch(dataWords, codeWords);
+        metrics.recordEncodeLatency(System.nanoTime() - start, count);
+        metrics.recordEncoded(count);
+    }
+
+    /**
+     * При увімкненому зборі слова копіюються в масиви, щоб отримати маски виправлень.
+     */
+    @Override
+    public int decodeBatch(ByteBuffer codeWords, ByteBuffer dataWords, int[] results) {
+        if (!registry.isEnabled()) {
+            return delegate.decodeBatch(codeWords, dataWords, results);
+        }
+        int count = codeWords.remaining() / Long.BYTES;
+        long[] code = new long[count];
+        long[] data = new long[count];
+        codeWords.asLongBuffer().get(code);
+        codeWords.position(codeWords.position() + count * Long.BYTES);
+        int correctedWords = decodeBatch(code, 0, data, null, results, 0, count);
+        dataWords.asLongBuffer().put(data);
+        dataWords.position(dataWords.position() + count * Long.BYTES);
+        return correctedWords;
+    }
+
+    // --- Допоміжні методи ---
+
+    private void recordOutcome(long received, long corrected) {
+        if (delegate.syndromeBits(corrected) != 0) {
+            metrics.recordUncorrectable();
+        } else if (received != corrected) {
+            metrics.recordCorrection(received ^ corrected);
+        }
+    }
+}
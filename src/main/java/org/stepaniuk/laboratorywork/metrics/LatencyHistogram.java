@@ -0,0 +1,125 @@
+package org.stepaniuk.laboratorywork.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Гістограма затримок у наносекундах з логарифмічно-лінійними кошиками
+ * (як у HdrHistogram): кожен степінь двійки ділиться на {@value #SUB_BUCKETS}
+ * рівних кошиків, тож відносна похибка значення не перевищує 1/16, а пам'ять
+ * стала - {@value #BUCKET_COUNT} лічильників незалежно від кількості записів.
+ * <p>
+ * Запис - кілька бітових операцій і одне атомарне додавання без блокувань.
+ * Значення понад 2^44 нс (близько 4,9 год) потрапляють в останній кошик.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_EXPONENT = 43;
+    private static final long MAX_TRACKABLE = (1L << (MAX_EXPONENT + 1)) - 1;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Записує одне значення.
+     */
+    public void record(long nanos) {
+        record(nanos, 1);
+    }
+
+    /**
+     * Записує значення {@code nanos} {@code times} разів (напр., середня затримка слова в пакеті).
+     */
+    public void record(long nanos, long times) {
+        if (times <= 0) {
+            return;
+        }
+        long value = Math.max(0, nanos);
+        buckets.addAndGet(bucketIndex(Math.min(value, MAX_TRACKABLE)), times);
+        count.add(times);
+        sum.add(value * times);
+        max.accumulate(value);
+    }
+
+    /**
+     * Значення до 16 - точні кошики; далі - старші 5 біт значення.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Найбільше значення, що потрапляє в кошик {@code index}.
+     */
+    static long highestValueIn(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long total = count.sum();
+        return (total == 0) ? 0 : (double) sum.sum() / total;
+    }
+
+    /**
+     * Значення, якого не перевищують {@code percentile}% записів (верхня межа кошика).
+     *
+     * @param percentile Від 0 до 100.
+     */
+    public long valueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, percentile) / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+}
@@ -0,0 +1,169 @@
+package org.stepaniuk.laboratorywork.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.function.ToLongFunction;
+
+/**
+ * Експорт метрик у JSON та текстовий формат Prometheus (версія 0.0.4).
+ * <p>
+ * Розподіл виправлень за позиціями містить лише ненульові позиції,
+ * тож обсяг звіту не залежить від довжини кодового слова.
+ */
+public final class MetricsExporter {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] QUANTILE_KEYS = {"p50", "p90", "p99", "p999"};
+
+    private MetricsExporter() {
+    }
+
+    /**
+     * Записує звіт у файл: JSON для розширення .json, інакше - формат Prometheus.
+     */
+    public static void write(MetricsRegistry registry, Path target) throws IOException {
+        String text = target.getFileName().toString().endsWith(".json") ? toJson(registry) : toPrometheus(registry);
+        Files.writeString(target, text, StandardCharsets.UTF_8);
+    }
+
+    // --- JSON ---
+
+    public static String toJson(MetricsRegistry registry) {
+        StringBuilder json = new StringBuilder("{\"enabled\":").append(registry.isEnabled()).append(",\"codes\":[");
+        boolean first = true;
+        for (CodecMetrics metrics : registry.snapshot()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append("{\"name\":");
+            appendJsonString(json, metrics.getCodeName());
+            json.append(",\"n\":").append(metrics.getCodeWordLength())
+                    .append(",\"encodedWords\":").append(metrics.getEncodedWords())
+                    .append(",\"decodedWords\":").append(metrics.getDecodedWords())
+                    .append(",\"correctedWords\":").append(metrics.getCorrectedWords())
+                    .append(",\"correctedBits\":").append(metrics.getCorrectedBits())
+                    .append(",\"uncorrectableWords\":").append(metrics.getUncorrectableWords())
+                    .append(",\"correctedByPosition\":{");
+            boolean firstPosition = true;
+            for (int i = 0; i < metrics.getCodeWordLength(); i++) {
+                long count = metrics.getCorrectedAt(i);
+                if (count != 0) {
+                    json.append(firstPosition ? "" : ",").append('"').append(i).append("\":").append(count);
+                    firstPosition = false;
+                }
+            }
+            json.append("},\"encodeLatencyNanos\":");
+            appendJsonHistogram(json, metrics.getEncodeLatency());
+            json.append(",\"decodeLatencyNanos\":");
+            appendJsonHistogram(json, metrics.getDecodeLatency());
+            json.append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    private static void appendJsonHistogram(StringBuilder json, LatencyHistogram histogram) {
+        json.append("{\"count\":").append(histogram.getCount())
+                .append(",\"mean\":").append(String.format(Locale.ROOT, "%.1f", histogram.getMean()));
+        for (int q = 0; q < QUANTILES.length; q++) {
+            json.append(",\"").append(QUANTILE_KEYS[q]).append("\":")
+                    .append(histogram.valueAtPercentile(QUANTILES[q] * 100));
+        }
+        json.append(",\"max\":").append(histogram.getMax()).append('}');
+    }
+
+    private static void appendJsonString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    // --- Prometheus ---
+
+    public static String toPrometheus(MetricsRegistry registry) {
+        StringBuilder text = new StringBuilder();
+        Iterable<CodecMetrics> all = registry.snapshot();
+
+        counter(text, "ecc_encoded_words_total", "Закодовані слова.", all, CodecMetrics::getEncodedWords);
+        counter(text, "ecc_decoded_words_total", "Декодовані слова.", all, CodecMetrics::getDecodedWords);
+        counter(text, "ecc_corrected_words_total", "Слова з виправленими помилками.",
+                all, CodecMetrics::getCorrectedWords);
+        counter(text, "ecc_corrected_bits_total", "Виправлені біти.", all, CodecMetrics::getCorrectedBits);
+        counter(text, "ecc_uncorrectable_words_total", "Слова з виявленими, але не виправленими помилками.",
+                all, CodecMetrics::getUncorrectableWords);
+        header(text, "ecc_corrected_bits_by_position_total", "Виправлені біти за позицією в кодовому слові.", "counter");
+        for (CodecMetrics metrics : all) {
+            for (int i = 0; i < metrics.getCodeWordLength(); i++) {
+                long count = metrics.getCorrectedAt(i);
+                if (count != 0) {
+                    sample(text, "ecc_corrected_bits_by_position_total", metrics, "position=\"" + i + "\"", count);
+                }
+            }
+        }
+        summary(text, "ecc_encode_latency_nanoseconds", "Затримка кодування одного слова.", all, true);
+        summary(text, "ecc_decode_latency_nanoseconds", "Затримка декодування одного слова.", all, false);
+        return text.toString();
+    }
+
+    private static void counter(StringBuilder text, String name, String help,
+                                Iterable<CodecMetrics> all, ToLongFunction<CodecMetrics> value) {
+        header(text, name, help, "counter");
+        for (CodecMetrics metrics : all) {
+            sample(text, name, metrics, null, value.applyAsLong(metrics));
+        }
+    }
+
+    private static void header(StringBuilder text, String name, String help, String type) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void summary(StringBuilder text, String name, String help,
+                                Iterable<CodecMetrics> all, boolean encode) {
+        header(text, name, help, "summary");
+        for (CodecMetrics metrics : all) {
+            LatencyHistogram histogram = encode ? metrics.getEncodeLatency() : metrics.getDecodeLatency();
+            for (double quantile : QUANTILES) {
+                sample(text, name, metrics, "quantile=\"" + quantile + "\"",
+                        histogram.valueAtPercentile(quantile * 100));
+            }
+            sample(text, name + "_sum", metrics, null, histogram.getSum());
+            sample(text, name + "_count", metrics, null, histogram.getCount());
+        }
+    }
+
+    private static void sample(StringBuilder text, String name, CodecMetrics metrics, String extraLabel, long value) {
+        text.append(name).append("{code=\"");
+        for (int i = 0; i < metrics.getCodeName().length(); i++) {
+            char c = metrics.getCodeName().charAt(i);
+            switch (c) {
+                case '"' -> text.append("\\\"");
+                case '\\' -> text.append("\\\\");
+                case '\n' -> text.append("\\n");
+                default -> text.append(c);
+            }
+        }
+        text.append('"');
+        if (extraLabel != null) {
+            text.append(',').append(extraLabel);
+        }
+        text.append("} ").append(value).append('\n');
+    }
+}
@@ -0,0 +1,72 @@
+package org.stepaniuk.laboratorywork.metrics;
+
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Реєстр метрик кодів, ключований назвою коду: усі обгортки того самого коду
+ * (напр., у різних потоках) пишуть в одні лічильники.
+ * <p>
+ * Збір вмикається та вимикається під час виконання ({@link #setEnabled(boolean)});
+ * вимкнена обгортка лише читає одне volatile-поле і делегує виклик.
+ * Початковий стан задає властивість {@value #PROPERTY} (за замовчуванням увімкнено).
+ */
+public final class MetricsRegistry {
+
+    public static final String PROPERTY = "laboratorywork.metrics";
+
+    private static final MetricsRegistry SHARED = new MetricsRegistry();
+
+    private final ConcurrentHashMap<String, CodecMetrics> metrics = new ConcurrentHashMap<>();
+    private volatile boolean enabled = !"false".equalsIgnoreCase(System.getProperty(PROPERTY));
+
+    public static MetricsRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * Обгортає код, щоб його виклики враховувались у метриках цього реєстру.
+     */
+    public InstrumentedCode instrument(IErrorCorrectionCode code) {
+        if (code instanceof InstrumentedCode instrumented && instrumented.getRegistry() == this) {
+            return instrumented;
+        }
+        return new InstrumentedCode(code, this);
+    }
+
+    /**
+     * Метрики коду (створюються при першому запиті).
+     */
+    public CodecMetrics metricsFor(IErrorCorrectionCode code) {
+        return metrics.computeIfAbsent(code.getName(),
+                name -> new CodecMetrics(name, code.getCodeWordLength()));
+    }
+
+    /**
+     * Метрики всіх кодів, упорядковані за назвою.
+     */
+    public List<CodecMetrics> snapshot() {
+        List<CodecMetrics> all = new ArrayList<>(metrics.values());
+        all.sort(Comparator.comparing(CodecMetrics::getCodeName));
+        return all;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Обнуляє всі лічильники (самі коди залишаються в реєстрі).
+     */
+    public void reset() {
+        metrics.values().forEach(CodecMetrics::reset);
+    }
+}
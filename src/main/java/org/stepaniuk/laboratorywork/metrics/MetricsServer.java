@@ -0,0 +1,67 @@
+package org.stepaniuk.laboratorywork.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * Локальна HTTP-точка метрик на вбудованому сервері JDK ({@code jdk.httpserver}):
+ * {@code /metrics} - формат Prometheus, {@code /metrics.json} - JSON.
+ * <p>
+ * Сервер слухає лише петлевий інтерфейс і обробляє запити одним потоком,
+ * тож на гарячий шлях кодеків не впливає.
+ */
+public final class MetricsServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private MetricsServer(HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Запускає сервер на порту {@code port} (0 - будь-який вільний).
+     */
+    public static MetricsServer start(MetricsRegistry registry, int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> respond(exchange,
+                "text/plain; version=0.0.4; charset=utf-8", () -> MetricsExporter.toPrometheus(registry)));
+        server.createContext("/metrics.json", exchange -> respond(exchange,
+                "application/json; charset=utf-8", () -> MetricsExporter.toJson(registry)));
+        server.start();
+        return new MetricsServer(server);
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, Supplier<String> body) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] bytes = body.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Фактичний порт (корисно, якщо сервер запущено з портом 0).
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
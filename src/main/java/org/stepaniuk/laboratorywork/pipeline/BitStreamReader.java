@@ -0,0 +1,86 @@
+package org.stepaniuk.laboratorywork.pipeline;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Послідовно читає біти з ділянки файлу через відображення в пам'ять.
+ * <p>
+ * Файл відображається вікнами фіксованого розміру, тому обсяг пам'яті
+ * не залежить від розміру файлу. Біти читаються від молодшого до старшого
+ * (little-endian), за кінцем ділянки повертаються нулі.
+ */
+public class BitStreamReader {
+
+    static final long WINDOW_SIZE = 64L << 20; // 64 МіБ, кратно 8 байтам
+
+    private final FileChannel channel;
+    private final long end;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    private long buffer;   // Ще не прочитані біти
+    private int available; // Кількість бітів у buffer
+
+    /**
+     * @param channel Канал файлу, відкритий для читання.
+     * @param start   Зміщення першого байта ділянки (кратне 8).
+     * @param end     Зміщення за останнім байтом ділянки.
+     */
+    public BitStreamReader(FileChannel channel, long start, long end) {
+        this.channel = channel;
+        this.end = end;
+        this.windowStart = start;
+    }
+
+    /**
+     * Зчитує наступні {@code bits} біт (1..64).
+     */
+    public long read(int bits) throws IOException {
+        long result;
+        if (available >= bits) {
+            result = buffer;
+            buffer = (bits == Long.SIZE) ? 0 : buffer >>> bits;
+            available -= bits;
+        } else {
+            long next = nextLong();
+            int used = bits - available;
+            result = buffer | (next << available);
+            buffer = (used == Long.SIZE) ? 0 : next >>> used;
+            available = Long.SIZE - used;
+        }
+        return (bits == Long.SIZE) ? result : result & ((1L << bits) - 1);
+    }
+
+    /**
+     * Наступні 64 біти файлу; неповне останнє слово доповнюється нулями.
+     */
+    private long nextLong() throws IOException {
+        if (window == null || !window.hasRemaining()) {
+            if (!mapNextWindow()) {
+                return 0;
+            }
+        }
+        if (window.remaining() >= Long.BYTES) {
+            return window.getLong();
+        }
+        long value = 0;
+        for (int i = 0; window.hasRemaining(); i++) {
+            value |= (window.get() & 0xFFL) << (8 * i);
+        }
+        return value;
+    }
+
+    private boolean mapNextWindow() throws IOException {
+        if (windowStart >= end) {
+            return false;
+        }
+        long size = Math.min(WINDOW_SIZE, end - windowStart);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, size);
+        window.order(ByteOrder.LITTLE_ENDIAN);
+        windowStart += size;
+        return true;
+    }
+}
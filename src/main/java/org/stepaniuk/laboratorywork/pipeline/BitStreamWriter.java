@@ -0,0 +1,73 @@
+package org.stepaniuk.laboratorywork.pipeline;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Послідовно записує біти у файл через буфер прямої пам'яті.
+ * Порядок бітів - як у {@link BitStreamReader}.
+ */
+public class BitStreamWriter {
+
+    static final int BUFFER_SIZE = 1 << 20; // 1 МіБ, кратно 8 байтам
+
+    private final FileChannel channel;
+    private final ByteBuffer out = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    private long buffer; // Біти, що ще не записані у out
+    private int filled;  // Кількість бітів у buffer
+
+    /**
+     * @param channel Канал файлу, відкритий для запису (з поточної позиції).
+     */
+    public BitStreamWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Записує молодші {@code bits} біт (1..64) значення.
+     */
+    public void write(long value, int bits) throws IOException {
+        if (bits < Long.SIZE) {
+            value &= (1L << bits) - 1;
+        }
+        buffer |= value << filled;
+        if (filled + bits >= Long.SIZE) {
+            emit(buffer);
+            int used = Long.SIZE - filled;
+            buffer = (used == Long.SIZE) ? 0 : value >>> used;
+            filled = filled + bits - Long.SIZE;
+        } else {
+            filled += bits;
+        }
+    }
+
+    /**
+     * Дописує неповне останнє слово та скидає буфер у канал.
+     */
+    public void finish() throws IOException {
+        for (int i = 0; i < filled; i += 8) {
+            out.put((byte) (buffer >>> i));
+        }
+        buffer = 0;
+        filled = 0;
+        drain();
+    }
+
+    private void emit(long word) throws IOException {
+        out.putLong(word);
+        if (!out.hasRemaining()) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+}
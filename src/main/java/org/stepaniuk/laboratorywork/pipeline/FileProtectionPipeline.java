@@ -0,0 +1,288 @@
+package org.stepaniuk.laboratorywork.pipeline;
+
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Потоковий захист довільного файлу будь-яким {@link IErrorCorrectionCode}.
+ * <p>
+ * Файл розбивається на k-бітні інформаційні слова, які кодуються та
+ * записуються суцільним бітовим потоком після заголовка. Вхід читається
+ * через відображення в пам'ять, вихід пишеться через буфер прямої пам'яті,
+ * тож обсяг пам'яті обмежений незалежно від розміру файлу.
+ * <p>
+ * Формат заголовка (little-endian): magic, версія, k, n (по 4 байти),
+ * розмір вихідних даних у байтах і відбиток коду (по 8 байт), довжина
+ * назви коду (4 байти) та сама назва в UTF-8. Дані починаються з
+ * наступного зміщення, кратного 8.
+ * <p>
+ * Відбиток - хеш кодових слів для фіксованого набору інформаційних слів,
+ * тож файл не декодується кодом іншої родини чи з іншими параметрами,
+ * навіть якщо (n, k) збігаються (напр., БЧХ (63, 45) і LDPC (63, 45)).
+ */
+public class FileProtectionPipeline {
+
+    static final int MAGIC = 0x45434350; // "ECCP"
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 36; // Без назви коду та вирівнювання
+    private static final int MAX_NAME_BYTES = 1 << 12;
+    private static final int FINGERPRINT_WORDS = 64;
+
+    private static final int BATCH_SIZE = 4096;
+
+    private final IErrorCorrectionCode code;
+    private final int k;
+    private final int n;
+    private final long fingerprint;
+
+    public FileProtectionPipeline(IErrorCorrectionCode code) {
+        if (code.getDataWordLength() <= 0) {
+            throw new IllegalArgumentException("Код '" + code.getName() + "' не має інформаційних біт.");
+        }
+        this.code = code;
+        this.k = code.getDataWordLength();
+        this.n = code.getCodeWordLength();
+        this.fingerprint = fingerprint(code);
+    }
+
+    /**
+     * FNV-1a над кодовими словами для одиничних слів (до 64 позицій, рівномірно
+     * по k біт) і слова з чергуванням 0 та 1. Для лінійного коду з k <= 64
+     * одиничні слова задають код повністю.
+     */
+    static long fingerprint(IErrorCorrectionCode code) {
+        int k = code.getDataWordLength();
+        long[] data = new long[BitWords.wordCount(k)];
+        long[] codeWords = new long[BitWords.wordCount(code.getCodeWordLength())];
+        long hash = 0xCBF29CE484222325L;
+        int samples = Math.min(k, FINGERPRINT_WORDS);
+        for (int i = 0; i < samples; i++) {
+            Arrays.fill(data, 0);
+            BitWords.flipBit(data, (int) ((long) i * k / samples));
+            hash = hashEncoded(code, data, codeWords, hash);
+        }
+        Arrays.fill(data, 0x5555555555555555L);
+        if ((k & 63) != 0) {
+            data[data.length - 1] &= (1L << k) - 1;
+        }
+        return hashEncoded(code, data, codeWords, hash);
+    }
+
+    private static long hashEncoded(IErrorCorrectionCode code, long[] data, long[] codeWords, long hash) {
+        code.encodeWords(data, codeWords);
+        for (long word : codeWords) {
+            hash = (hash ^ word) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Кодує файл {@code source} і записує захищений потік у {@code target}.
+     */
+    public PipelineReport protect(Path source, Path target) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            long words = wordCountFor(size);
+            writeHeader(out, size);
+
+            BitStreamReader reader = new BitStreamReader(in, 0, size);
+            BitStreamWriter writer = new BitStreamWriter(out);
+            if (n <= Long.SIZE) {
+                encodePacked(reader, writer, words);
+            } else {
+                encodeWide(reader, writer, words);
+            }
+            writer.finish();
+            return new PipelineReport(size, words, 0, 0, 0);
+        }
+    }
+
+    /**
+     * Декодує захищений потік {@code source}, виправляє помилки
+     * та відновлює вихідний файл у {@code target}.
+     */
+    public PipelineReport recover(Path source, Path target) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Header header = readHeader(in);
+            long size = header.size();
+            long words = wordCountFor(size);
+
+            BitStreamReader reader = new BitStreamReader(in, header.dataOffset(), in.size());
+            BitStreamWriter writer = new BitStreamWriter(out);
+            PipelineReport report = (n <= Long.SIZE)
+                    ? decodePacked(reader, writer, words, size)
+                    : decodeWide(reader, writer, words, size);
+            writer.finish();
+            out.truncate(size); // Відкидаємо доповнення останнього слова
+            return report;
+        }
+    }
+
+    private long wordCountFor(long bytes) {
+        return (bytes * Byte.SIZE + k - 1) / k;
+    }
+
+    // --- Коди з n <= 64: пакетний API ---
+
+    private void encodePacked(BitStreamReader reader, BitStreamWriter writer, long words) throws IOException {
+        long[] data = new long[BATCH_SIZE];
+        long[] codeWords = new long[BATCH_SIZE];
+        for (long done = 0; done < words; done += BATCH_SIZE) {
+            int count = (int) Math.min(BATCH_SIZE, words - done);
+            for (int i = 0; i < count; i++) {
+                data[i] = reader.read(k);
+            }
+            code.encodeBatch(data, 0, codeWords, 0, count);
+            for (int i = 0; i < count; i++) {
+                writer.write(codeWords[i], n);
+            }
+        }
+    }
+
+    private PipelineReport decodePacked(BitStreamReader reader, BitStreamWriter writer, long words, long size)
+            throws IOException {
+        long[] codeWords = new long[BATCH_SIZE];
+        long[] data = new long[BATCH_SIZE];
+        int[] results = new int[BATCH_SIZE];
+        long correctedWords = 0;
+        long correctedBits = 0;
+        long uncorrectable = 0;
+
+        for (long done = 0; done < words; done += BATCH_SIZE) {
+            int count = (int) Math.min(BATCH_SIZE, words - done);
+            for (int i = 0; i < count; i++) {
+                codeWords[i] = reader.read(n);
+            }
+            code.decodeBatch(codeWords, 0, data, null, results, 0, count);
+            for (int i = 0; i < count; i++) {
+                if (results[i] == IErrorCorrectionCode.UNCORRECTABLE) {
+                    uncorrectable++;
+                } else if (results[i] > 0) {
+                    correctedWords++;
+                    correctedBits += results[i];
+                }
+                writer.write(data[i], k);
+            }
+        }
+        return new PipelineReport(size, words, correctedWords, correctedBits, uncorrectable);
+    }
+
+    // --- Довгі коди: API над масивами слів ---
+
+    private void encodeWide(BitStreamReader reader, BitStreamWriter writer, long words) throws IOException {
+        long[] data = new long[BitWords.wordCount(k)];
+        long[] codeWords = new long[BitWords.wordCount(n)];
+        for (long w = 0; w < words; w++) {
+            readWords(reader, data, k);
+            code.encodeWords(data, codeWords);
+            writeWords(writer, codeWords, n);
+        }
+    }
+
+    private PipelineReport decodeWide(BitStreamReader reader, BitStreamWriter writer, long words, long size)
+            throws IOException {
+        long[] codeWords = new long[BitWords.wordCount(n)];
+        long[] data = new long[BitWords.wordCount(k)];
+        long correctedWords = 0;
+        long correctedBits = 0;
+        long uncorrectable = 0;
+
+        for (long w = 0; w < words; w++) {
+            readWords(reader, codeWords, n);
+            int corrected = code.correctWords(codeWords);
+            if (corrected == IErrorCorrectionCode.UNCORRECTABLE) {
+                uncorrectable++;
+            } else if (corrected > 0) {
+                correctedWords++;
+                correctedBits += corrected;
+            }
+            code.extractDataWords(codeWords, data);
+            writeWords(writer, data, k);
+        }
+        return new PipelineReport(size, words, correctedWords, correctedBits, uncorrectable);
+    }
+
+    private static void readWords(BitStreamReader reader, long[] words, int bits) throws IOException {
+        for (int i = 0, done = 0; done < bits; i++, done += Long.SIZE) {
+            words[i] = reader.read(Math.min(Long.SIZE, bits - done));
+        }
+    }
+
+    private static void writeWords(BitStreamWriter writer, long[] words, int bits) throws IOException {
+        for (int i = 0, done = 0; done < bits; i++, done += Long.SIZE) {
+            writer.write(words[i], Math.min(Long.SIZE, bits - done));
+        }
+    }
+
+    // --- Заголовок ---
+
+    private void writeHeader(FileChannel out, long size) throws IOException {
+        byte[] name = code.getName().getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_NAME_BYTES) {
+            name = Arrays.copyOf(name, MAX_NAME_BYTES);
+        }
+        ByteBuffer header = ByteBuffer.allocate(alignedHeaderBytes(name.length)).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(k).putInt(n).putLong(size).putLong(fingerprint)
+                .putInt(name.length).put(name).position(header.capacity()).flip();
+        while (header.hasRemaining()) {
+            out.write(header);
+        }
+    }
+
+    private static int alignedHeaderBytes(int nameBytes) {
+        return (HEADER_BYTES + nameBytes + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+    /**
+     * @param size       Розмір вихідних даних у байтах.
+     * @param dataOffset Зміщення першого кодового слова (кратне 8).
+     */
+    private record Header(long size, int dataOffset) {
+    }
+
+    private Header readHeader(FileChannel in) throws IOException {
+        ByteBuffer fixed = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(in, fixed);
+        fixed.flip();
+        if (fixed.getInt() != MAGIC || fixed.getInt() != VERSION) {
+            throw new IOException("Файл не є захищеним потоком цієї версії.");
+        }
+        int fileK = fixed.getInt();
+        int fileN = fixed.getInt();
+        long size = fixed.getLong();
+        long fileFingerprint = fixed.getLong();
+        int nameBytes = fixed.getInt();
+        if (nameBytes < 0 || nameBytes > MAX_NAME_BYTES) {
+            throw new IOException("Пошкоджений заголовок: некоректна довжина назви коду.");
+        }
+        ByteBuffer rest = ByteBuffer.allocate(alignedHeaderBytes(nameBytes) - HEADER_BYTES);
+        readFully(in, rest);
+        String fileCode = new String(rest.array(), 0, nameBytes, StandardCharsets.UTF_8);
+        if (fileK != k || fileN != n || fileFingerprint != fingerprint) {
+            throw new IOException(String.format("Файл захищено кодом '%s' (%d, %d), а обрано '%s' (%d, %d).",
+                    fileCode, fileN, fileK, code.getName(), n, k));
+        }
+        return new Header(size, alignedHeaderBytes(nameBytes));
+    }
+
+    private static void readFully(FileChannel in, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer) < 0) {
+                throw new IOException("Файл надто короткий: відсутній заголовок.");
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.stepaniuk.laboratorywork.pipeline;
+
+/**
+ * Підсумок обробки файлу.
+ *
+ * @param bytes              Розмір вихідних (незахищених) даних у байтах.
+ * @param words              Кількість оброблених кодових слів.
+ * @param correctedWords     Кількість слів, у яких виправлено помилки.
+ * @param correctedBits      Загальна кількість виправлених біт.
+ * @param uncorrectableWords Кількість слів з виявленими, але не виправленими помилками.
+ */
+public record PipelineReport(long bytes, long words, long correctedWords, long correctedBits,
+                             long uncorrectableWords) {
+}
@@ -0,0 +1,28 @@
+package org.stepaniuk.laboratorywork.simulation;
+
+/**
+ * Результат симуляції для однієї ймовірності помилки в каналі.
+ *
+ * @param channelErrorRate Ймовірність інверсії біта в каналі.
+ * @param words            Кількість переданих кодових слів.
+ * @param dataBits         Кількість переданих інформаційних біт.
+ * @param bitErrors        Кількість хибних інформаційних біт після декодування.
+ * @param wordErrors       Кількість слів з хоча б одним хибним інформаційним бітом.
+ * @param berLow           Нижня межа 95% довірчого інтервалу для BER.
+ * @param berHigh          Верхня межа 95% довірчого інтервалу для BER.
+ * @param werLow           Нижня межа 95% довірчого інтервалу для WER.
+ * @param werHigh          Верхня межа 95% довірчого інтервалу для WER.
+ */
+public record BerPoint(double channelErrorRate, long words, long dataBits, long bitErrors, long wordErrors,
+                       double berLow, double berHigh, double werLow, double werHigh) {
+
+    /** Залишкова ймовірність помилки на інформаційний біт. */
+    public double ber() {
+        return (dataBits == 0) ? 0 : (double) bitErrors / dataBits;
+    }
+
+    /** Ймовірність помилки на слово. */
+    public double wer() {
+        return (words == 0) ? 0 : (double) wordErrors / words;
+    }
+}
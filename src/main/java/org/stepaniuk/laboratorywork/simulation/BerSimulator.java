@@ -0,0 +1,233 @@
+package org.stepaniuk.laboratorywork.simulation;
+
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.DoubleSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * Паралельна симуляція Монте-Карло двійкового симетричного каналу
+ * для будь-якого {@link IErrorCorrectionCode}.
+ * <p>
+ * Випадкові інформаційні слова кодуються, у кожен біт кодового слова
+ * незалежно вноситься помилка з імовірністю p, після чого слово декодується
+ * і порівнюється з вихідним. Обсяг роботи ділиться на порції, кожна з власним
+ * {@link SplittableRandom}, тож потоки не мають спільного стану чи блокувань,
+ * а результат детермінований для заданого seed.
+ */
+public class BerSimulator {
+
+    private static final int CHUNK_WORDS = 1 << 18;
+    private static final int BATCH_SIZE = 1024;
+    private static final double Z_95 = 1.959963984540054;
+
+    private final IErrorCorrectionCode code;
+    private final int k;
+    private final int n;
+
+    public BerSimulator(IErrorCorrectionCode code) {
+        if (code.getDataWordLength() <= 0) {
+            throw new IllegalArgumentException("Код '" + code.getName() + "' не має інформаційних біт.");
+        }
+        this.code = code;
+        this.k = code.getDataWordLength();
+        this.n = code.getCodeWordLength();
+    }
+
+    /**
+     * Виконує симуляцію для кожної ймовірності з {@code channelErrorRates}.
+     *
+     * @param channelErrorRates Ймовірності інверсії біта в каналі.
+     * @param wordsPerPoint     Кількість кодових слів на кожну точку.
+     * @param seed              Початкове значення генератора.
+     */
+    public List<BerPoint> run(double[] channelErrorRates, long wordsPerPoint, long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        List<BerPoint> points = new ArrayList<>(channelErrorRates.length);
+        for (double p : channelErrorRates) {
+            points.add(simulate(p, wordsPerPoint, root.split()));
+        }
+        return points;
+    }
+
+    private BerPoint simulate(double p, long words, SplittableRandom root) {
+        if (p < 0 || p > 1) {
+            throw new IllegalArgumentException("Ймовірність помилки має бути в межах [0, 1].");
+        }
+        int chunks = (int) ((words + CHUNK_WORDS - 1) / CHUNK_WORDS);
+        // Генератори створюються послідовно, щоб результат не залежав від розкладу потоків
+        SplittableRandom[] generators = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) {
+            generators[c] = root.split();
+        }
+
+        Tally total = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> {
+                    long chunkWords = Math.min(CHUNK_WORDS, words - (long) c * CHUNK_WORDS);
+                    Channel channel = new Channel(generators[c]::nextDouble, p);
+                    return (n <= Long.SIZE)
+                            ? simulatePacked(chunkWords, generators[c], channel)
+                            : simulateWide(chunkWords, generators[c], channel);
+                })
+                .reduce(new Tally(), Tally::merge);
+
+        long dataBits = total.words * k;
+        return new BerPoint(p, total.words, dataBits, total.bitErrors, total.wordErrors,
+                wilsonLow(total.bitErrors, dataBits), wilsonHigh(total.bitErrors, dataBits),
+                wilsonLow(total.wordErrors, total.words), wilsonHigh(total.wordErrors, total.words));
+    }
+
+    private Tally simulatePacked(long words, SplittableRandom random, Channel channel) {
+        long[] data = new long[BATCH_SIZE];
+        long[] codeWords = new long[BATCH_SIZE];
+        long[] decoded = new long[BATCH_SIZE];
+        long dataMask = (k == Long.SIZE) ? -1L : (1L << k) - 1;
+        Tally tally = new Tally();
+
+        for (long done = 0; done < words; done += BATCH_SIZE) {
+            int count = (int) Math.min(BATCH_SIZE, words - done);
+            for (int i = 0; i < count; i++) {
+                data[i] = random.nextLong() & dataMask;
+            }
+            code.encodeBatch(data, 0, codeWords, 0, count);
+            for (int i = 0; i < count; i++) {
+                codeWords[i] ^= channel.nextErrorMask(n);
+            }
+            code.decodeBatch(codeWords, 0, decoded, null, null, 0, count);
+            for (int i = 0; i < count; i++) {
+                tally.add(Long.bitCount(decoded[i] ^ data[i]));
+            }
+        }
+        return tally;
+    }
+
+    private Tally simulateWide(long words, SplittableRandom random, Channel channel) {
+        int dataWordCount = BitWords.wordCount(k);
+        long[] data = new long[dataWordCount];
+        long[] codeWords = new long[BitWords.wordCount(n)];
+        long[] decoded = new long[dataWordCount];
+        Tally tally = new Tally();
+
+        for (long w = 0; w < words; w++) {
+            for (int i = 0; i < dataWordCount; i++) {
+                data[i] = random.nextLong();
+            }
+            if ((k & 63) != 0) {
+                data[dataWordCount - 1] &= (1L << (k & 63)) - 1;
+            }
+            code.encodeWords(data, codeWords);
+            channel.corrupt(codeWords, n);
+            code.correctWords(codeWords);
+            code.extractDataWords(codeWords, decoded);
+
+            int bitErrors = 0;
+            for (int i = 0; i < dataWordCount; i++) {
+                bitErrors += Long.bitCount(decoded[i] ^ data[i]);
+            }
+            tally.add(bitErrors);
+        }
+        return tally;
+    }
+
+    private static double wilsonLow(long successes, long trials) {
+        return wilson(successes, trials, -1);
+    }
+
+    private static double wilsonHigh(long successes, long trials) {
+        return wilson(successes, trials, 1);
+    }
+
+    /**
+     * Межа довірчого інтервалу Вільсона (95%).
+     */
+    private static double wilson(long successes, long trials, int sign) {
+        if (trials == 0) {
+            return 0;
+        }
+        double p = (double) successes / trials;
+        double z2 = Z_95 * Z_95;
+        double denominator = 1 + z2 / trials;
+        double center = p + z2 / (2.0 * trials);
+        double margin = Z_95 * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials));
+        return Math.min(1, Math.max(0, (center + sign * margin) / denominator));
+    }
+
+    /**
+     * Двійковий симетричний канал. Замість розіграшу кожного біта
+     * генерується відстань до наступної помилки (геометричний розподіл),
+     * тож вартість пропорційна кількості помилок, а не біт.
+     */
+    static final class Channel {
+
+        private static final long NO_ERROR = Long.MAX_VALUE / 2; // Помилки в межах симуляції не буде
+
+        private final DoubleSupplier uniform; // Рівномірний розподіл на [0, 1)
+        private final double p;
+        private final double logQ;
+        private long untilNextError;
+
+        Channel(DoubleSupplier uniform, double p) {
+            this.uniform = uniform;
+            this.p = p;
+            this.logQ = Math.log1p(-p);
+            this.untilNextError = gap();
+        }
+
+        /**
+         * Відстань обмежена {@link #NO_ERROR}: для дуже малих p вона інакше
+         * насичувалася б до Long.MAX_VALUE, і {@code untilNextError + 1 + gap()} переповнювалося б.
+         */
+        private long gap() {
+            if (p <= 0) {
+                return NO_ERROR;
+            }
+            if (p >= 1) {
+                return 0;
+            }
+            return (long) Math.min(Math.log(1 - uniform.getAsDouble()) / logQ, NO_ERROR);
+        }
+
+        long nextErrorMask(int bits) {
+            long mask = 0;
+            while (untilNextError < bits) {
+                mask |= 1L << untilNextError;
+                untilNextError += 1 + gap();
+            }
+            untilNextError -= bits;
+            return mask;
+        }
+
+        void corrupt(long[] words, int bits) {
+            while (untilNextError < bits) {
+                BitWords.flipBit(words, (int) untilNextError);
+                untilNextError += 1 + gap();
+            }
+            untilNextError -= bits;
+        }
+    }
+
+    private static final class Tally {
+
+        long words;
+        long bitErrors;
+        long wordErrors;
+
+        void add(int wordBitErrors) {
+            words++;
+            bitErrors += wordBitErrors;
+            wordErrors += (wordBitErrors != 0) ? 1 : 0;
+        }
+
+        Tally merge(Tally other) {
+            Tally sum = new Tally();
+            sum.words = words + other.words;
+            sum.bitErrors = bitErrors + other.bitErrors;
+            sum.wordErrors = wordErrors + other.wordErrors;
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.stepaniuk.laboratorywork.algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.bch.BchCode;
+import org.stepaniuk.laboratorywork.algorithms.convolutional.ConvolutionalCode;
+import org.stepaniuk.laboratorywork.algorithms.crc.Crc;
+import org.stepaniuk.laboratorywork.algorithms.crc.CrcCheckedCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.DynamicHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.ExtendedHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.GeneratedHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.HammingCode;
+import org.stepaniuk.laboratorywork.algorithms.interleaving.BlockInterleaver;
+import org.stepaniuk.laboratorywork.algorithms.ldpc.LdpcCode;
+import org.stepaniuk.laboratorywork.algorithms.reedsolomon.ReedSolomonCode;
+import org.stepaniuk.laboratorywork.algorithms.repetition.RepetitionCode;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Пакетне декодування має давати для кожного слова той самий результат,
+ * маску та дані, що й {@link IErrorCorrectionCode#correctWords(long[])}.
+ */
+class BatchDecodeTest {
+
+    private static final IErrorCorrectionCode[] CODES = {
+            new HammingCode(), new DynamicHammingCode(26), new GeneratedHammingCode(26), new ExtendedHammingCode(26),
+            new RepetitionCode(), new RepetitionCode(12, 5), new BchCode(6, 2), new ReedSolomonCode(7, 5),
+            new LdpcCode(32, 16), new ConvolutionalCode(16), new CrcCheckedCode(new DynamicHammingCode(57), Crc.CRC_16),
+            new BlockInterleaver(new HammingCode(), 8), new TestWords.FlipFirstBit()
+    };
+
+    private static final int COUNT = 1000;
+    private static final int OFFSET = 3;
+
+    @Test
+    void batchMatchesCorrectWords() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (IErrorCorrectionCode code : CODES) {
+            int n = code.getCodeWordLength();
+            long[] received = new long[OFFSET + COUNT];
+            long[] expectedData = new long[COUNT];
+            long[] expectedMasks = new long[COUNT];
+            int[] expectedResults = new int[COUNT];
+            int expectedCorrected = 0;
+            long[] data = new long[1];
+            for (int i = 0; i < COUNT; i++) {
+                long word = TestWords.withErrors(TestWords.encodeRandom(code, random, data), n, i % 5, random)[0];
+                received[OFFSET + i] = word;
+                long[] corrected = {word};
+                expectedResults[i] = code.correctWords(corrected);
+                expectedMasks[i] = word ^ corrected[0];
+                expectedData[i] = code.extractDataBits(corrected[0]);
+                expectedCorrected += (expectedResults[i] > 0) ? 1 : 0;
+            }
+
+            long[] dataWords = new long[OFFSET + COUNT];
+            long[] masks = new long[OFFSET + COUNT];
+            int[] results = new int[OFFSET + COUNT];
+            int corrected = code.decodeBatch(received, OFFSET, dataWords, masks, results, OFFSET, COUNT);
+            assertEquals(expectedCorrected, corrected, code.getName());
+            for (int i = 0; i < COUNT; i++) {
+                assertEquals(expectedResults[i], results[OFFSET + i], code.getName() + ", слово " + i);
+                assertEquals(expectedMasks[i], masks[OFFSET + i], code.getName() + ", слово " + i);
+                assertEquals(expectedData[i], dataWords[OFFSET + i], code.getName() + ", слово " + i);
+            }
+
+            ByteBuffer codeBuffer = ByteBuffer.allocate(COUNT * Long.BYTES);
+            for (int i = 0; i < COUNT; i++) {
+                codeBuffer.putLong(received[OFFSET + i]);
+            }
+            codeBuffer.flip();
+            ByteBuffer dataBuffer = ByteBuffer.allocate(COUNT * Long.BYTES);
+            int[] bufferResults = new int[COUNT];
+            assertEquals(expectedCorrected, code.decodeBatch(codeBuffer, dataBuffer, bufferResults), code.getName());
+            assertArrayEquals(expectedResults, bufferResults, code.getName());
+            dataBuffer.flip();
+            for (int i = 0; i < COUNT; i++) {
+                assertEquals(expectedData[i], dataBuffer.getLong(), code.getName() + ", слово " + i);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.stepaniuk.laboratorywork.algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.hamming.DynamicHammingCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CodecRegistryTest {
+
+    private static final String FAMILY = "test";
+    private static final int THREADS = 8;
+
+    @Test
+    void returnsSameInstance() {
+        CodecRegistry registry = CodecRegistry.createDefault(1L << 20);
+        IErrorCorrectionCode code = registry.get(CodecRegistry.HAMMING, 11);
+        assertSame(code, registry.get(CodecRegistry.HAMMING, 11));
+        assertNotSame(code, registry.get(CodecRegistry.HAMMING, 12));
+        assertNotSame(registry.get(CodecRegistry.BCH, 32, 2), registry.get(CodecRegistry.BCH, 32, 3));
+        assertEquals(11, code.getDataWordLength());
+        assertEquals(100, registry.get(CodecRegistry.HAMMING, 100).getDataWordLength()); // WideHammingCode
+        assertThrows(IllegalArgumentException.class, () -> registry.get("golay", 12));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOverBudget() {
+        // Коди однакового обсягу: ключі різні, а фабрика щоразу будує (15, 11)
+        long bytes = CodecRegistry.estimateBytes(new DynamicHammingCode(11));
+        CodecRegistry registry = new CodecRegistry(2 * bytes);
+        registry.register(FAMILY, k -> new DynamicHammingCode(11));
+
+        IErrorCorrectionCode first = registry.get(FAMILY, 11);
+        IErrorCorrectionCode second = registry.get(FAMILY, 10);
+        assertSame(first, registry.get(FAMILY, 11)); // Тепер найдавніше використаний - second
+        registry.get(FAMILY, 9);
+
+        assertEquals(2, registry.size());
+        assertEquals(2 * bytes, registry.usedBytes());
+        assertSame(first, registry.get(FAMILY, 11));
+        assertNotSame(second, registry.get(FAMILY, 10)); // Витіснений і створений заново
+        assertTrue(registry.usedBytes() <= 2 * bytes);
+
+        registry.clear();
+        assertEquals(0, registry.size());
+        assertEquals(0, registry.usedBytes());
+    }
+
+    @Test
+    void concurrentGetBuildsCodeOnce() throws Exception {
+        CodecRegistry registry = new CodecRegistry(1L << 20);
+        AtomicInteger created = new AtomicInteger();
+        registry.register(FAMILY, k -> {
+            created.incrementAndGet();
+            return new DynamicHammingCode(k);
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<IErrorCorrectionCode>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return registry.get(FAMILY, 26);
+                }));
+            }
+            start.countDown();
+            IErrorCorrectionCode code = results.get(0).get();
+            for (Future<IErrorCorrectionCode> result : results) {
+                assertSame(code, result.get());
+            }
+            assertEquals(1, created.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentGetWithEvictionKeepsAccounting() throws Exception {
+        long bytes = CodecRegistry.estimateBytes(new DynamicHammingCode(57));
+        CodecRegistry registry = new CodecRegistry(4 * bytes);
+        registry.register(FAMILY, DynamicHammingCode::new);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                long seed = i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int j = 0; j < 2000; j++) {
+                        int k = random.nextInt(1, 58);
+                        assertEquals(k, registry.get(FAMILY, k).getDataWordLength());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Бюджет перевищують хіба що щойно створені коди; після очищення облік повертається до нуля
+        long remaining = registry.usedBytes();
+        assertTrue(remaining > 0 && remaining <= 4 * bytes + THREADS * bytes, "usedBytes = " + remaining);
+        registry.clear();
+        assertEquals(0, registry.usedBytes());
+    }
+}
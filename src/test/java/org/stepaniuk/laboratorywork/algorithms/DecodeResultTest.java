@@ -0,0 +1,151 @@
+package org.stepaniuk.laboratorywork.algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.bch.BchCode;
+import org.stepaniuk.laboratorywork.algorithms.convolutional.ConvolutionalCode;
+import org.stepaniuk.laboratorywork.algorithms.crc.Crc;
+import org.stepaniuk.laboratorywork.algorithms.crc.CrcCheckedCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.DynamicHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.ExtendedHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.GeneratedHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.HammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.WideHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.interleaving.BlockInterleaver;
+import org.stepaniuk.laboratorywork.algorithms.ldpc.LdpcCode;
+import org.stepaniuk.laboratorywork.algorithms.reedsolomon.ReedSolomonCode;
+import org.stepaniuk.laboratorywork.algorithms.repetition.RepetitionCode;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link IErrorCorrectionCode#decode} має давати той самий результат, що й
+ * {@link IErrorCorrectionCode#correctWords}, для кожного сімейства кодів,
+ * а рядковий {@code checkAndCorrect} - ті самі тексти, що й до появи DecodeResult.
+ */
+class DecodeResultTest {
+
+    private enum Status { DEFAULT, POSITION, OWN }
+
+    private record Case(IErrorCorrectionCode code, Status status) {
+    }
+
+    private static final List<Case> CASES = List.of(
+            new Case(new HammingCode(), Status.POSITION),
+            new Case(new DynamicHammingCode(11), Status.POSITION),
+            new Case(new DynamicHammingCode(26), Status.POSITION),
+            new Case(new GeneratedHammingCode(26), Status.POSITION),
+            new Case(new WideHammingCode(120), Status.POSITION),
+            new Case(new ExtendedHammingCode(26), Status.OWN),
+            new Case(new TestWords.FlipFirstBit(), Status.DEFAULT),
+            new Case(new RepetitionCode(), Status.DEFAULT),
+            new Case(new RepetitionCode(30, 5), Status.DEFAULT),
+            new Case(new BchCode(6, 2), Status.DEFAULT),
+            new Case(new BchCode(8, 4), Status.DEFAULT),
+            new Case(new ReedSolomonCode(7, 5), Status.DEFAULT),
+            new Case(new ReedSolomonCode(15, 11), Status.DEFAULT),
+            new Case(new LdpcCode(32, 16), Status.DEFAULT),
+            new Case(new LdpcCode(128, 64), Status.DEFAULT),
+            new Case(new ConvolutionalCode(16), Status.DEFAULT),
+            new Case(new ConvolutionalCode(100), Status.DEFAULT),
+            new Case(new CrcCheckedCode(new DynamicHammingCode(57), Crc.CRC_16), Status.DEFAULT),
+            new Case(new CrcCheckedCode(new BchCode(8, 4), Crc.CRC_32), Status.DEFAULT),
+            new Case(new BlockInterleaver(new HammingCode(), 8), Status.DEFAULT),
+            new Case(new BlockInterleaver(new DynamicHammingCode(26), 4), Status.DEFAULT));
+
+    private static final int MAX_ERRORS = 6;
+    private static final int WORDS_PER_COUNT = 40;
+
+    @Test
+    void decodeMatchesCorrectWordsForEveryFamily() {
+        SplittableRandom random = new SplittableRandom(1);
+        DecodeResult result = new DecodeResult(); // Перевикористовується між кодами різної довжини
+        for (Case testCase : CASES) {
+            IErrorCorrectionCode code = testCase.code();
+            long[] data = new long[BitWords.wordCount(code.getDataWordLength())];
+            for (int errors = 0; errors <= MAX_ERRORS; errors++) {
+                for (int trial = 0; trial < WORDS_PER_COUNT; trial++) {
+                    long[] codeWords = TestWords.encodeRandom(code, random, data);
+                    long[] received = TestWords.withErrors(codeWords, code.getCodeWordLength(), errors, random);
+                    assertEquivalent(testCase, received, result);
+                }
+            }
+        }
+    }
+
+    @Test
+    void nonConvergingLdpcWordIsUncorrectable() {
+        LdpcCode code = new LdpcCode(32, 16);
+        String word = "001100011011101010111110100001101001000101000100";
+        DecodeResult result = code.checkAndCorrect(word, null);
+        assertEquals(DecodeResult.Outcome.DETECTED_UNCORRECTABLE, result.getOutcome());
+        assertEquals(0, result.getErrorMask());
+        assertEquals(word, result.getCorrectedWord());
+        assertEquals("Виявлено помилку, яку неможливо виправити", result.getStatus());
+        assertEquivalent(new Case(code, Status.DEFAULT), new long[]{BitWords.parse(word)}, new DecodeResult());
+    }
+
+    private static void assertEquivalent(Case testCase, long[] received, DecodeResult result) {
+        IErrorCorrectionCode code = testCase.code();
+        int n = code.getCodeWordLength();
+        int k = code.getDataWordLength();
+        String message = code.getName() + ", слово " + BitWords.format(received, n);
+
+        long[] expected = received.clone();
+        int corrected = code.correctWords(expected);
+        if (corrected == IErrorCorrectionCode.UNCORRECTABLE) {
+            expected = received.clone();
+        }
+        long[] expectedData = new long[BitWords.wordCount(k)];
+        code.extractDataWords(expected, expectedData);
+        DecodeResult.Outcome outcome = (corrected == IErrorCorrectionCode.UNCORRECTABLE)
+                ? DecodeResult.Outcome.DETECTED_UNCORRECTABLE
+                : (corrected > 0) ? DecodeResult.Outcome.CORRECTED : DecodeResult.Outcome.CLEAN;
+
+        long[] input = received.clone();
+        code.decode(input, result);
+        assertArrayEquals(received, input, message);
+        assertEquals(outcome, result.getOutcome(), message);
+        assertEquals(Math.max(corrected, 0), result.getErrorCount(), message);
+        long[] words = new long[received.length];
+        result.getCorrectedWords(words);
+        assertArrayEquals(expected, words, message);
+        long[] dataWords = new long[expectedData.length];
+        result.getDataWords(dataWords);
+        assertArrayEquals(expectedData, dataWords, message);
+        int firstError = -1;
+        for (int i = 0; i < n; i++) {
+            boolean flipped = BitWords.getBit(received, i) != BitWords.getBit(expected, i);
+            assertEquals(flipped, result.isErrorAt(i), message);
+            if (flipped && firstError < 0) {
+                firstError = i;
+            }
+        }
+        assertEquals(firstError, result.nextErrorPosition(0), message);
+
+        String status = switch (testCase.status()) {
+            case DEFAULT -> switch (outcome) {
+                case CLEAN -> "Помилок немає";
+                case DETECTED_UNCORRECTABLE -> "Виявлено помилку, яку неможливо виправити";
+                case CORRECTED -> (corrected == 1)
+                        ? "Виявлено та виправлено 1 помилку"
+                        : "Виявлено та виправлено " + corrected + " помилок";
+            };
+            case POSITION -> switch (outcome) {
+                case CLEAN -> "Помилок немає";
+                case CORRECTED -> "Помилка на позиції " + (firstError + 1);
+                case DETECTED_UNCORRECTABLE -> "Помилка на позиції " + code.syndromeWords(received);
+            };
+            case OWN -> result.getStatus();
+        };
+        assertEquals(status, result.getStatus(), message);
+
+        IErrorCorrectionCode.CodeCheckResult legacy = code.checkAndCorrect(BitWords.format(received, n));
+        assertEquals(status, legacy.status(), message);
+        assertEquals(BitWords.format(expected, n), legacy.correctedWord(), message);
+        assertEquals(BitWords.format(expectedData, k), legacy.extractedData(), message);
+    }
+}
@@ -0,0 +1,109 @@
+package org.stepaniuk.laboratorywork.algorithms;
+
+import org.stepaniuk.laboratorywork.algorithms.hamming.DynamicHammingCode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Допоміжні методи тестів: випадкові слова та помилки в різних позиціях.
+ */
+public final class TestWords {
+
+    private TestWords() {
+    }
+
+    /**
+     * Код Гемінга (15, 11), декодер якого при ненульовому синдромі інвертує біт 0
+     * і не перевіряє результат - як декодер, що здався, змінивши слово.
+     * Пакетні цикли та correctWords - реалізації за замовчуванням з інтерфейсу.
+     */
+    public static final class FlipFirstBit implements IErrorCorrectionCode {
+
+        private final DynamicHammingCode hamming = new DynamicHammingCode(11);
+
+        @Override
+        public String getName() {
+            return "Інвертує біт 0";
+        }
+
+        @Override
+        public int getDataWordLength() {
+            return hamming.getDataWordLength();
+        }
+
+        @Override
+        public int getCodeWordLength() {
+            return hamming.getCodeWordLength();
+        }
+
+        @Override
+        public String encode(String dataWord) {
+            return hamming.encode(dataWord);
+        }
+
+        @Override
+        public CodeCheckResult checkAndCorrect(String codeWord) {
+            return checkAndCorrect(codeWord, new DecodeResult()).toCheckResult();
+        }
+
+        @Override
+        public long encodeBits(long dataBits) {
+            return hamming.encodeBits(dataBits);
+        }
+
+        @Override
+        public long syndromeBits(long codeBits) {
+            return hamming.syndromeBits(codeBits);
+        }
+
+        @Override
+        public long correctBits(long codeBits) {
+            return (syndromeBits(codeBits) != 0) ? codeBits ^ 1 : codeBits;
+        }
+
+        @Override
+        public long extractDataBits(long codeBits) {
+            return hamming.extractDataBits(codeBits);
+        }
+
+        @Override
+        public Map<Integer, List<Integer>> getBitRelationships() {
+            return hamming.getBitRelationships();
+        }
+    }
+
+    /**
+     * Випадкове слово з {@code bits} біт у форматі масиву слів.
+     */
+    public static long[] randomBits(SplittableRandom random, int bits) {
+        long[] words = new long[BitWords.wordCount(bits)];
+        for (int i = 0; i < bits; i++) {
+            if (random.nextBoolean()) {
+                BitWords.flipBit(words, i);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Кодове слово для випадкових даних.
+     */
+    public static long[] encodeRandom(IErrorCorrectionCode code, SplittableRandom random, long[] dataOut) {
+        long[] data = randomBits(random, code.getDataWordLength());
+        System.arraycopy(data, 0, dataOut, 0, data.length);
+        long[] codeWords = new long[BitWords.wordCount(code.getCodeWordLength())];
+        code.encodeWords(data, codeWords);
+        return codeWords;
+    }
+
+    /**
+     * Копія слова з {@code count} помилками в різних позиціях з [0, n).
+     */
+    public static long[] withErrors(long[] word, int n, int count, SplittableRandom random) {
+        long[] received = word.clone();
+        random.ints(0, n).distinct().limit(count).forEach(position -> BitWords.flipBit(received, position));
+        return received;
+    }
+}
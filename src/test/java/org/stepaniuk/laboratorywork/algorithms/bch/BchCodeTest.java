@@ -0,0 +1,86 @@
+package org.stepaniuk.laboratorywork.algorithms.bch;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.TestWords;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BchCodeTest {
+
+    private static final BchCode[] CODES = {
+            new BchCode(6, 2), new BchCode(8, 4), new BchCode(10, 3, 200), BchCode.forDataLength(32, 3)
+    };
+
+    @Test
+    void correctsUpToCapability() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (BchCode code : CODES) {
+            int n = code.getCodeWordLength();
+            long[] data = new long[BitWords.wordCount(code.getDataWordLength())];
+            long[] extracted = new long[data.length];
+            for (int errors = 0; errors <= code.getCorrectableErrors(); errors++) {
+                for (int trial = 0; trial < 50; trial++) {
+                    long[] codeWords = TestWords.encodeRandom(code, random, data);
+                    long[] received = TestWords.withErrors(codeWords, n, errors, random);
+                    assertEquals(errors, code.correctWords(received), code.getName());
+                    assertArrayEquals(codeWords, received, code.getName());
+                    code.extractDataWords(received, extracted);
+                    assertArrayEquals(data, extracted, code.getName());
+                }
+            }
+        }
+    }
+
+    /**
+     * За межею можливостей декодер або повідомляє про невдачу, не змінюючи
+     * слова, або виправляє його до іншого кодового слова в радіусі t.
+     */
+    @Test
+    void beyondCapabilityReportsFailureOrAnotherCodeword() {
+        SplittableRandom random = new SplittableRandom(2);
+        for (BchCode code : CODES) {
+            int n = code.getCodeWordLength();
+            int t = code.getCorrectableErrors();
+            long[] data = new long[BitWords.wordCount(code.getDataWordLength())];
+            int failures = 0;
+            for (int trial = 0; trial < 200; trial++) {
+                long[] codeWords = TestWords.encodeRandom(code, random, data);
+                long[] received = TestWords.withErrors(codeWords, n, t + 1, random);
+                long[] before = received.clone();
+                int result = code.correctWords(received);
+                if (result == IErrorCorrectionCode.UNCORRECTABLE) {
+                    failures++;
+                    assertArrayEquals(before, received, code.getName());
+                    assertTrue(code.syndromeWords(received) != 0, code.getName());
+                } else {
+                    assertTrue(result <= t, code.getName());
+                    assertEquals(0, code.syndromeWords(received), code.getName());
+                }
+            }
+            assertTrue(failures > 0, code.getName());
+        }
+    }
+
+    @Test
+    void packedApiMatchesWordApi() {
+        SplittableRandom random = new SplittableRandom(3);
+        BchCode code = new BchCode(6, 2);
+        int n = code.getCodeWordLength();
+        long[] data = new long[1];
+        for (int errors = 0; errors <= code.getCorrectableErrors() + 2; errors++) {
+            for (int trial = 0; trial < 100; trial++) {
+                long[] received = TestWords.withErrors(TestWords.encodeRandom(code, random, data), n, errors, random);
+                long word = received[0];
+                int result = code.correctWords(received);
+                assertEquals(received[0], code.correctBits(word));
+                assertEquals(result == IErrorCorrectionCode.UNCORRECTABLE, code.syndromeBits(received[0]) != 0);
+            }
+        }
+    }
+}
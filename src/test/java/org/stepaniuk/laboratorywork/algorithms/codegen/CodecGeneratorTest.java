@@ -0,0 +1,67 @@
+package org.stepaniuk.laboratorywork.algorithms.codegen;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CodecGeneratorTest {
+
+    /**
+     * Систематичний код (7, 4) у формі [P | I]: дані в бітах 0..3, контрольні - в 4..6.
+     * Стовпець j не дорівнює j + 1, тож виправлення йде через порівняння зі стовпцями.
+     */
+    private static final int N = 7;
+    private static final long[] ROWS = {
+            0b0011011, // p0 = d0 ^ d1 ^ d3
+            0b0101101, // p1 = d0 ^ d2 ^ d3
+            0b1001110  // p2 = d1 ^ d2 ^ d3
+    };
+    private static final int K = N - ROWS.length;
+
+    @Test
+    void nonPositionalMatrixMatchesReference() {
+        GeneratedCodec codec = CodecGenerator.forMatrix(N, ROWS);
+        for (long data = 0; data < (1L << K); data++) {
+            long encoded = data;
+            for (int i = 0; i < ROWS.length; i++) {
+                encoded |= (long) parity(data & ROWS[i]) << (K + i);
+            }
+            assertEquals(encoded, codec.encode(data));
+            assertEquals(data, codec.extract(encoded));
+        }
+        for (long word = 0; word < (1L << N); word++) {
+            long syndrome = 0;
+            for (int i = 0; i < ROWS.length; i++) {
+                syndrome |= (long) parity(word & ROWS[i]) << i;
+            }
+            assertEquals(syndrome, codec.syndrome(word), "слово " + word);
+
+            long corrected = word;
+            for (int position = 0; position < N; position++) {
+                if (column(position) == syndrome) {
+                    corrected ^= 1L << position;
+                }
+            }
+            assertEquals(corrected, codec.correct(word), "слово " + word);
+            assertEquals(0, codec.syndrome(codec.correct(word)), "слово " + word);
+        }
+    }
+
+    @Test
+    void codecsAreCachedByMatrixContent() {
+        assertSame(CodecGenerator.forMatrix(N, ROWS), CodecGenerator.forMatrix(N, ROWS.clone()));
+    }
+
+    private static long column(int position) {
+        long column = 0;
+        for (int i = 0; i < ROWS.length; i++) {
+            column |= ((ROWS[i] >>> position) & 1) << i;
+        }
+        return column;
+    }
+
+    private static int parity(long bits) {
+        return Long.bitCount(bits) & 1;
+    }
+}
@@ -0,0 +1,107 @@
+package org.stepaniuk.laboratorywork.algorithms.convolutional;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.TestWords;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConvolutionalCodeTest {
+
+    // Код K = 7 (171, 133) має вільну відстань 10: будь-які 4 помилки виправляються
+    private static final int GUARANTEED_ERRORS = 4;
+
+    @Test
+    void correctsUpToHalfFreeDistance() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int k : new int[]{16, 100, 500}) {
+            ConvolutionalCode code = new ConvolutionalCode(k);
+            int n = code.getCodeWordLength();
+            long[] data = new long[BitWords.wordCount(k)];
+            long[] extracted = new long[data.length];
+            for (int errors = 0; errors <= GUARANTEED_ERRORS; errors++) {
+                for (int trial = 0; trial < 30; trial++) {
+                    long[] codeWords = TestWords.encodeRandom(code, random, data);
+                    long[] received = TestWords.withErrors(codeWords, n, errors, random);
+                    assertEquals(errors, code.correctWords(received));
+                    assertArrayEquals(codeWords, received);
+                    code.extractDataWords(received, extracted);
+                    assertArrayEquals(data, extracted);
+                }
+            }
+        }
+    }
+
+    /**
+     * Декодер максимальної правдоподібності ніколи не відмовляється: за межею
+     * можливостей він повертає найближче кодове слово та відстань до нього.
+     */
+    @Test
+    void beyondCapabilityReturnsNearestCodeword() {
+        SplittableRandom random = new SplittableRandom(2);
+        ConvolutionalCode code = new ConvolutionalCode(40);
+        int n = code.getCodeWordLength();
+        long[] data = new long[1];
+        int wrong = 0;
+        for (int trial = 0; trial < 200; trial++) {
+            long[] codeWords = TestWords.encodeRandom(code, random, data);
+            long[] received = TestWords.withErrors(codeWords, n, 12, random);
+            long[] before = received.clone();
+            int result = code.correctWords(received);
+            assertNotEquals(IErrorCorrectionCode.UNCORRECTABLE, result);
+            assertEquals(0, code.syndromeWords(received));
+            assertEquals(distance(before, received), result);
+            assertTrue(result <= 12);
+            wrong += distance(codeWords, received) != 0 ? 1 : 0;
+        }
+        assertTrue(wrong > 0, "12 помилок мали б хоча б раз перевищити можливості коду");
+    }
+
+    @Test
+    void streamingRoundTripWithSparseErrors() {
+        SplittableRandom random = new SplittableRandom(3);
+        Trellis trellis = new ConvolutionalCode(1).getTrellis();
+        int outputs = trellis.getOutputsPerStep();
+        int bits = 5000;
+        int chunk = 333; // Не кратне глибині декодера
+        long[] data = TestWords.randomBits(random, bits);
+        int tail = trellis.getConstraintLength() - 1;
+        long[] encoded = new long[BitWords.wordCount((bits + tail) * outputs)];
+        ConvolutionalEncoder encoder = new ConvolutionalEncoder(trellis);
+        int symbols = 0;
+        for (int from = 0; from < bits; from += chunk) {
+            symbols += encoder.encode(data, from, Math.min(chunk, bits - from), encoded, symbols);
+        }
+        symbols += encoder.terminate(encoded, symbols);
+        symbols /= outputs;
+        for (int bit = random.nextInt(50); bit < symbols * outputs; bit += 50 + random.nextInt(50)) {
+            BitWords.flipBit(encoded, bit); // Одна помилка на кілька довжин обмеження
+        }
+
+        ViterbiDecoder decoder = new ViterbiDecoder(trellis, 5 * trellis.getConstraintLength());
+        long[] decoded = new long[BitWords.wordCount(decoder.maxOutputBits(symbols))];
+        int written = 0;
+        for (int from = 0; from < symbols; from += chunk) {
+            written += decoder.decode(encoded, from * outputs, Math.min(chunk, symbols - from), decoded, written);
+        }
+        written += decoder.finish(true, decoded, written);
+        assertEquals(bits, written);
+        for (int i = 0; i < bits; i++) {
+            assertEquals(BitWords.getBit(data, i), BitWords.getBit(decoded, i), "біт " + i);
+        }
+    }
+
+    private static int distance(long[] a, long[] b) {
+        int distance = 0;
+        for (int i = 0; i < a.length; i++) {
+            distance += Long.bitCount(a[i] ^ b[i]);
+        }
+        return distance;
+    }
+}
@@ -0,0 +1,62 @@
+package org.stepaniuk.laboratorywork.algorithms.crc;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.TestWords;
+import org.stepaniuk.laboratorywork.algorithms.hamming.WideHammingCode;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * API над масивами слів (n > 64): буфери потоку використовуються повторно,
+ * тож результат кожного слова не залежить від попередніх викликів.
+ */
+class CrcCheckedCodeTest {
+
+    @Test
+    void wordApiRoundTripWithSingleErrors() {
+        SplittableRandom random = new SplittableRandom(21);
+        for (Crc crc : new Crc[]{Crc.CRC_32, Crc.CRC_32C.intrinsic(), Crc.CRC_16}) {
+            CrcCheckedCode code = new CrcCheckedCode(new WideHammingCode(100), crc);
+            int n = code.getCodeWordLength();
+            for (int trial = 0; trial < 200; trial++) {
+                long[] data = new long[BitWords.wordCount(code.getDataWordLength())];
+                long[] encoded = TestWords.encodeRandom(code, random, data);
+                assertEquals(0, code.syndromeWords(encoded), crc.getName());
+
+                // Помилка лише в контрольних бітах внутрішнього коду не виправляється (CRC збігається)
+                long[] received = TestWords.withErrors(encoded, n, trial % 2, random);
+                assertNotEquals(IErrorCorrectionCode.UNCORRECTABLE, code.correctWords(received), crc.getName());
+
+                long[] decoded = new long[data.length];
+                code.extractDataWords(received, decoded);
+                assertArrayEquals(data, decoded, crc.getName());
+            }
+        }
+    }
+
+    @Test
+    void uncorrectableWordIsLeftUnchanged() {
+        SplittableRandom random = new SplittableRandom(22);
+        CrcCheckedCode code = new CrcCheckedCode(new WideHammingCode(100), Crc.CRC_32);
+        int n = code.getCodeWordLength();
+        long[] data = new long[BitWords.wordCount(code.getDataWordLength())];
+        int uncorrectable = 0;
+        for (int trial = 0; trial < 200; trial++) {
+            long[] encoded = TestWords.encodeRandom(code, random, data);
+            long[] received = TestWords.withErrors(encoded, n, 3, random);
+            long[] receivedCopy = received.clone();
+            if (code.correctWords(received) == IErrorCorrectionCode.UNCORRECTABLE) {
+                uncorrectable++;
+                assertArrayEquals(receivedCopy, received);
+            }
+        }
+        assertTrue(uncorrectable > 0);
+    }
+}
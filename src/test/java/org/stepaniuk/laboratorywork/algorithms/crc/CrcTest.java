@@ -0,0 +1,112 @@
+package org.stepaniuk.laboratorywork.algorithms.crc;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Контрольні значення стандартних CRC і збіг таблиць slicing-by-8
+ * з побітовим обчисленням за визначенням.
+ */
+class CrcTest {
+
+    private static final byte[] CHECK = "123456789".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Параметри алгоритму для побітового еталона.
+     */
+    private record Reference(Crc crc, int polynomial, int init, int xorOut) {
+
+        long compute(long[] words, int bitLength) {
+            int value = init;
+            for (int i = 0; i < bitLength; i++) {
+                value ^= BitWords.getBit(words, i) ? 1 : 0;
+                value = (value >>> 1) ^ (polynomial & -(value & 1));
+            }
+            long mask = (crc.getWidth() == Integer.SIZE) ? 0xFFFFFFFFL : (1L << crc.getWidth()) - 1;
+            return (value ^ xorOut) & mask;
+        }
+    }
+
+    private static final List<Reference> REFERENCES = List.of(
+            new Reference(Crc.CRC_32, 0xEDB88320, 0xFFFFFFFF, 0xFFFFFFFF),
+            new Reference(Crc.CRC_32C, 0x82F63B78, 0xFFFFFFFF, 0xFFFFFFFF),
+            new Reference(Crc.CRC_16, 0xA001, 0, 0));
+
+    @Test
+    void checkValues() {
+        assertEquals(0xCBF43926L, Crc.CRC_32.compute(CHECK));
+        assertEquals(0xE3069283L, Crc.CRC_32C.compute(CHECK));
+        assertEquals(0xBB3DL, Crc.CRC_16.compute(CHECK));
+        assertEquals(0xCBF43926L, Crc.CRC_32.intrinsic().compute(CHECK));
+        assertEquals(0xE3069283L, Crc.CRC_32C.intrinsic().compute(CHECK));
+    }
+
+    @Test
+    void checkValuesOverBitWords() {
+        long[] words = new long[2];
+        for (int i = 0; i < CHECK.length; i++) {
+            BitWords.setBits(words, i * Byte.SIZE, Byte.SIZE, CHECK[i] & 0xFF);
+        }
+        int bits = CHECK.length * Byte.SIZE;
+        assertEquals(0xCBF43926L, Crc.CRC_32.compute(words, bits));
+        assertEquals(0xE3069283L, Crc.CRC_32C.compute(words, bits));
+        assertEquals(0xBB3DL, Crc.CRC_16.compute(words, bits));
+        assertEquals(0xCBF43926L, Crc.CRC_32.intrinsic().compute(words, bits));
+        assertEquals(0xE3069283L, Crc.CRC_32C.intrinsic().compute(words, bits));
+    }
+
+    @Test
+    void slicingMatchesBitwiseReference() {
+        SplittableRandom random = new SplittableRandom(21);
+        for (Reference reference : REFERENCES) {
+            for (int trial = 0; trial < 300; trial++) {
+                int bits = random.nextInt(1, 700);
+                long[] words = new long[BitWords.wordCount(bits)];
+                for (int i = 0; i < words.length; i++) {
+                    words[i] = random.nextLong();
+                }
+                if ((bits & 63) != 0) {
+                    words[words.length - 1] &= (1L << bits) - 1;
+                }
+                long expected = reference.compute(words, bits);
+                String message = reference.crc().getName() + ", " + bits + " біт";
+                assertEquals(expected, reference.crc().compute(words, bits), message);
+                if (reference.crc().hasIntrinsic()) {
+                    assertEquals(expected, reference.crc().intrinsic().compute(words, bits), message);
+                }
+                if (bits <= Long.SIZE) {
+                    assertEquals(expected, reference.crc().compute(words[0], bits), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    void bytesWithOffsetMatchBitwiseReference() {
+        SplittableRandom random = new SplittableRandom(22);
+        byte[] data = new byte[256];
+        random.nextBytes(data);
+        for (Reference reference : REFERENCES) {
+            for (int trial = 0; trial < 300; trial++) {
+                int offset = random.nextInt(0, 32);
+                int length = random.nextInt(0, data.length - offset);
+                long[] words = new long[BitWords.wordCount(length * Byte.SIZE) + 1];
+                for (int i = 0; i < length; i++) {
+                    BitWords.setBits(words, i * Byte.SIZE, Byte.SIZE, data[offset + i] & 0xFF);
+                }
+                long expected = reference.compute(words, length * Byte.SIZE);
+                String message = reference.crc().getName() + ", зсув " + offset + ", " + length + " байт";
+                assertEquals(expected, reference.crc().compute(data, offset, length), message);
+                if (reference.crc().hasIntrinsic()) {
+                    assertEquals(expected, reference.crc().intrinsic().compute(data, offset, length), message);
+                }
+            }
+        }
+    }
+}
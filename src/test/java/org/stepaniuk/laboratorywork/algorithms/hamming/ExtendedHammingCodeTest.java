@@ -0,0 +1,76 @@
+package org.stepaniuk.laboratorywork.algorithms.hamming;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.DecodeResult;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ExtendedHammingCodeTest {
+
+    @Test
+    void correctsEverySingleError() {
+        ExtendedHammingCode code = new ExtendedHammingCode(20);
+        int n = code.getCodeWordLength();
+        long data = new SplittableRandom(4).nextLong() & ((1L << 20) - 1);
+        long encoded = code.encodeBits(data);
+        DecodeResult result = new DecodeResult();
+        for (int position = 0; position < n; position++) {
+            long[] received = {encoded ^ (1L << position)};
+            assertEquals(1, code.correctWords(received));
+            assertEquals(encoded, received[0]);
+
+            code.decode(new long[]{encoded ^ (1L << position)}, result);
+            assertEquals(DecodeResult.Outcome.CORRECTED, result.getOutcome());
+            assertEquals(data, result.getDataBits());
+            String expected = (position == n - 1)
+                    ? "Помилка на позиції " + n + " (біт загальної парності)"
+                    : "Помилка на позиції " + (position + 1);
+            assertEquals(expected, result.getStatus());
+        }
+    }
+
+    @Test
+    void detectsEveryDoubleError() {
+        ExtendedHammingCode code = new ExtendedHammingCode(20);
+        int n = code.getCodeWordLength();
+        long encoded = code.encodeBits(0xABCDEL);
+        DecodeResult result = new DecodeResult();
+        for (int first = 0; first < n; first++) {
+            for (int second = first + 1; second < n; second++) {
+                long word = encoded ^ (1L << first) ^ (1L << second);
+                long[] received = {word};
+                assertEquals(IErrorCorrectionCode.UNCORRECTABLE, code.correctWords(received));
+                assertEquals(word, received[0]);
+
+                code.decode(new long[]{word}, result);
+                assertEquals(DecodeResult.Outcome.DETECTED_UNCORRECTABLE, result.getOutcome());
+                assertEquals("Виявлено подвійну помилку (виправлення неможливе)", result.getStatus());
+            }
+        }
+    }
+
+    /**
+     * (26, 20): внутрішній код скорочений до 25 біт, тож синдроми 26..31
+     * при порушеній парності (потрійна помилка) позиції не мають.
+     */
+    @Test
+    void tripleErrorBeyondShortenedWordHasNoPosition() {
+        ExtendedHammingCode code = new ExtendedHammingCode(20);
+        long encoded = code.encodeBits(0x12345L);
+        long word = encoded ^ (1L << 0) ^ (1L << 7) ^ (1L << 19); // Позиції 1, 8, 20: синдром 29
+        assertEquals(ExtendedHammingCode.OVERALL_PARITY_FLAG | 29, code.syndromeBits(word));
+
+        long[] received = {word};
+        assertEquals(IErrorCorrectionCode.UNCORRECTABLE, code.correctWords(received));
+        assertEquals(word, received[0]);
+
+        DecodeResult result = code.decode(new long[]{word}, new DecodeResult());
+        assertEquals(DecodeResult.Outcome.DETECTED_UNCORRECTABLE, result.getOutcome());
+        assertEquals("Виявлено кратну помилку (виправлення неможливе)", result.getStatus());
+        assertFalse(result.getStatus().contains("позиції"));
+    }
+}
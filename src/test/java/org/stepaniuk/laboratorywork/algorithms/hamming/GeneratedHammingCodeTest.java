@@ -0,0 +1,60 @@
+package org.stepaniuk.laboratorywork.algorithms.hamming;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.codegen.CodecGenerator;
+import org.stepaniuk.laboratorywork.algorithms.codegen.GeneratedCodec;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Згенерований кодек має збігатися з табличним {@link DynamicHammingCode}
+ * для кожного k: без помилок, з однією та з двома помилками.
+ */
+class GeneratedHammingCodeTest {
+
+    private static final int WORDS_PER_K = 200;
+
+    @Test
+    void matchesDynamicCodeForEveryK() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int k = 1; k <= DynamicHammingCode.MAX_K; k++) {
+            DynamicHammingCode reference = new DynamicHammingCode(k);
+            GeneratedHammingCode generated = new GeneratedHammingCode(k);
+            GeneratedCodec codec = CodecGenerator.forMatrix(reference.getCodeWordLength(), reference.parityCheckRows());
+            int n = reference.getCodeWordLength();
+            long dataMask = (1L << k) - 1;
+            for (int trial = 0; trial < WORDS_PER_K; trial++) {
+                long data = random.nextLong() & dataMask;
+                long encoded = reference.encodeBits(data);
+                assertEquals(encoded, generated.encodeBits(data), "k = " + k);
+                assertEquals(encoded, codec.encode(data), "k = " + k);
+
+                int[] positions = random.ints(0, n).distinct().limit(2).toArray();
+                long single = encoded ^ (1L << positions[0]);
+                long pair = single ^ (1L << positions[1]);
+                for (long word : new long[]{encoded, single, pair}) {
+                    assertSame(reference, generated, codec, word, "k = " + k);
+                }
+            }
+            for (int position = 0; position < n; position++) {
+                long word = reference.encodeBits(random.nextLong() & dataMask) ^ (1L << position);
+                assertSame(reference, generated, codec, word, "k = " + k + ", позиція " + position);
+            }
+        }
+    }
+
+    private static void assertSame(DynamicHammingCode reference, GeneratedHammingCode generated,
+                                   GeneratedCodec codec, long word, String message) {
+        long syndrome = reference.syndromeBits(word);
+        long corrected = reference.correctBits(word);
+        long data = reference.extractDataBits(corrected);
+        assertEquals(syndrome, generated.syndromeBits(word), message);
+        assertEquals(syndrome, codec.syndrome(word), message);
+        assertEquals(corrected, generated.correctBits(word), message);
+        assertEquals(corrected, codec.correct(word), message);
+        assertEquals(data, generated.extractDataBits(corrected), message);
+        assertEquals(data, codec.extract(corrected), message);
+    }
+}
@@ -0,0 +1,101 @@
+package org.stepaniuk.laboratorywork.algorithms.hamming;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.TestWords;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WideHammingCodeTest {
+
+    private static final int[] WIDE_K = {58, 64, 100, 247, 1013, 4083, WideHammingCode.MAX_K};
+
+    @Test
+    void roundTripBeyondOneWord() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int k : WIDE_K) {
+            WideHammingCode code = new WideHammingCode(k);
+            long[] data = new long[BitWords.wordCount(k)];
+            long[] extracted = new long[data.length];
+            for (int trial = 0; trial < 5; trial++) {
+                long[] codeWords = TestWords.encodeRandom(code, random, data);
+                assertEquals(0, code.syndromeWords(codeWords), code.getName());
+                assertEquals(0, code.correctWords(codeWords), code.getName());
+                code.extractDataWords(codeWords, extracted);
+                assertArrayEquals(data, extracted, code.getName());
+            }
+        }
+    }
+
+    @Test
+    void correctsSingleErrorAtEveryPosition() {
+        SplittableRandom random = new SplittableRandom(4);
+        for (int k : new int[]{58, 120, 1013}) {
+            WideHammingCode code = new WideHammingCode(k);
+            int n = code.getCodeWordLength();
+            long[] data = new long[BitWords.wordCount(k)];
+            long[] extracted = new long[data.length];
+            long[] codeWords = TestWords.encodeRandom(code, random, data);
+            for (int position = 0; position < n; position++) {
+                long[] received = codeWords.clone();
+                BitWords.flipBit(received, position);
+                assertEquals(position + 1, code.syndromeWords(received), code.getName());
+                assertEquals(1, code.correctWords(received), code.getName());
+                assertArrayEquals(codeWords, received, code.getName() + ", позиція " + position);
+                code.extractDataWords(received, extracted);
+                assertArrayEquals(data, extracted, code.getName());
+            }
+        }
+    }
+
+    @Test
+    void syndromeBeyondShortenedWordIsUncorrectable() {
+        WideHammingCode code = new WideHammingCode(58); // (65, 58): синдроми 66..127 позицій не мають
+        assertEquals(65, code.getCodeWordLength());
+        long[] codeWords = TestWords.encodeRandom(code, new SplittableRandom(5), new long[1]);
+        long[] received = codeWords.clone();
+        BitWords.flipBit(received, 63);  // Позиція 64
+        BitWords.flipBit(received, 2);   // Позиція 3, синдром 67 > n
+        assertEquals(67, code.syndromeWords(received));
+        long[] receivedCopy = received.clone();
+        assertEquals(IErrorCorrectionCode.UNCORRECTABLE, code.correctWords(received));
+        assertArrayEquals(receivedCopy, received);
+    }
+
+    @Test
+    void matchesDynamicCodeForShortWords() {
+        SplittableRandom random = new SplittableRandom(6);
+        for (int k = 1; k <= DynamicHammingCode.MAX_K; k++) {
+            WideHammingCode wide = new WideHammingCode(k);
+            DynamicHammingCode dynamic = new DynamicHammingCode(k);
+            assertEquals(dynamic.getCodeWordLength(), wide.getCodeWordLength());
+            for (int trial = 0; trial < 20; trial++) {
+                long data = random.nextLong() & ((1L << k) - 1);
+                long[] codeWords = new long[1];
+                wide.encodeWords(new long[]{data}, codeWords);
+                assertEquals(dynamic.encodeBits(data), codeWords[0], "k = " + k);
+            }
+        }
+    }
+
+    @Test
+    void parityGroupsFollowPositionBits() {
+        WideHammingCode code = new WideHammingCode(100);
+        int n = code.getCodeWordLength();
+        for (int i = 0; (1 << i) <= n; i++) {
+            List<Integer> group = code.getBitRelationships().get((1 << i) - 1);
+            int expected = 0;
+            for (int position = 1; position <= n; position++) {
+                if ((position & (1 << i)) != 0) {
+                    assertEquals(position - 1, group.get(expected++), "біт " + i);
+                }
+            }
+            assertEquals(expected, group.size(), "біт " + i);
+        }
+    }
+}
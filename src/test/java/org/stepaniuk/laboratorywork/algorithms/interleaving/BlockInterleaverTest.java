@@ -0,0 +1,87 @@
+package org.stepaniuk.laboratorywork.algorithms.interleaving;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.TestWords;
+import org.stepaniuk.laboratorywork.algorithms.hamming.DynamicHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.ExtendedHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.HammingCode;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BlockInterleaverTest {
+
+    @Test
+    void burstUpToDepthIsCorrected() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (BlockInterleaver code : new BlockInterleaver[]{
+                new BlockInterleaver(new HammingCode(), 8),
+                new BlockInterleaver(new DynamicHammingCode(26), 5),
+                new BlockInterleaver(new DynamicHammingCode(11), BlockInterleaver.MAX_DEPTH)}) {
+            int n = code.getCodeWordLength();
+            int depth = code.getDepth();
+            long[] data = new long[BitWords.wordCount(code.getDataWordLength())];
+            long[] extracted = new long[data.length];
+            for (int start = 0; start + depth <= n; start += 1 + random.nextInt(depth)) {
+                long[] codeWords = TestWords.encodeRandom(code, random, data);
+                long[] received = codeWords.clone();
+                int length = 1 + random.nextInt(depth);
+                for (int i = start; i < start + length; i++) {
+                    BitWords.flipBit(received, i);
+                }
+                assertEquals(length, code.correctWords(received), code.getName());
+                assertArrayEquals(codeWords, received, code.getName());
+                code.extractDataWords(received, extracted);
+                assertArrayEquals(data, extracted, code.getName());
+            }
+        }
+    }
+
+    /**
+     * Дві помилки в одному внутрішньому слові SECDED: блок невиправний і не змінюється,
+     * навіть якщо в інших словах є виправні помилки.
+     */
+    @Test
+    void uncorrectableBlockIsLeftUnchanged() {
+        SplittableRandom random = new SplittableRandom(2);
+        int depth = 6;
+        BlockInterleaver code = new BlockInterleaver(new ExtendedHammingCode(11), depth);
+        long[] data = new long[BitWords.wordCount(code.getDataWordLength())];
+        for (int trial = 0; trial < 50; trial++) {
+            long[] received = TestWords.encodeRandom(code, random, data);
+            int word = random.nextInt(depth);
+            BitWords.flipBit(received, word); // Біт 0 слова word
+            BitWords.flipBit(received, 3 * depth + word); // Біт 3 того самого слова
+            BitWords.flipBit(received, (word + 1) % depth); // Виправна помилка в сусідньому слові
+            long[] before = received.clone();
+            assertEquals(IErrorCorrectionCode.UNCORRECTABLE, code.correctWords(received));
+            assertArrayEquals(before, received);
+        }
+    }
+
+    @Test
+    void deinterleaveInvertsInterleave() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int depth = 1; depth <= BlockInterleaver.MAX_DEPTH; depth++) {
+            BlockInterleaver code = new BlockInterleaver(new DynamicHammingCode(26), depth);
+            long[] words = new long[depth];
+            for (int i = 0; i < depth; i++) {
+                words[i] = random.nextLong() & ((1L << 31) - 1);
+            }
+            long[] stream = new long[BitWords.wordCount(code.getCodeWordLength())];
+            code.interleave(words, stream);
+            for (int i = 0; i < depth; i++) {
+                for (int j = 0; j < 31; j++) {
+                    assertEquals(((words[i] >>> j) & 1) != 0, BitWords.getBit(stream, j * depth + i));
+                }
+            }
+            long[] back = new long[depth];
+            code.deinterleave(stream, back);
+            assertArrayEquals(words, back);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.stepaniuk.laboratorywork.algorithms.ldpc;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.TestWords;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LdpcCodeTest {
+
+    // Слово, на якому min-sum не сходиться за MAX_ITERATIONS (LDPC (48, 32))
+    private static final String NON_CONVERGING = "001100011011101010111110100001101001000101000100";
+
+    @Test
+    void cleanWordsRoundTrip() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (LdpcCode code : new LdpcCode[]{new LdpcCode(32, 16), new LdpcCode(512, 256)}) {
+            long[] data = new long[BitWords.wordCount(code.getDataWordLength())];
+            for (int trial = 0; trial < 50; trial++) {
+                long[] codeWords = TestWords.encodeRandom(code, random, data);
+                assertEquals(0, code.syndromeWords(codeWords));
+                long[] received = codeWords.clone();
+                assertEquals(0, code.correctWords(received));
+                assertArrayEquals(codeWords, received);
+                assertArrayEquals(data, extract(code, received));
+            }
+        }
+    }
+
+    @Test
+    void singleErrorsAreCorrected() {
+        SplittableRandom random = new SplittableRandom(2);
+        LdpcCode code = new LdpcCode(512, 256);
+        int n = code.getCodeWordLength();
+        long[] data = new long[BitWords.wordCount(code.getDataWordLength())];
+        for (int trial = 0; trial < 200; trial++) {
+            long[] codeWords = TestWords.encodeRandom(code, random, data);
+            long[] received = TestWords.withErrors(codeWords, n, 1, random);
+            assertEquals(1, code.correctWords(received));
+            assertArrayEquals(codeWords, received);
+        }
+    }
+
+    /**
+     * Успіх означає кодове слово; невдача - UNCORRECTABLE, і тоді слово не змінюється.
+     */
+    @Test
+    void heavyDamageEitherConvergesOrReportsFailure() {
+        SplittableRandom random = new SplittableRandom(3);
+        LdpcCode code = new LdpcCode(512, 256);
+        int n = code.getCodeWordLength();
+        long[] data = new long[BitWords.wordCount(code.getDataWordLength())];
+        int failures = 0;
+        for (int trial = 0; trial < 100; trial++) {
+            long[] codeWords = TestWords.encodeRandom(code, random, data);
+            long[] received = TestWords.withErrors(codeWords, n, n / 8, random);
+            long[] receivedCopy = received.clone();
+            int result = code.correctWords(received);
+            if (result == IErrorCorrectionCode.UNCORRECTABLE) {
+                failures++;
+                assertArrayEquals(receivedCopy, received);
+            } else {
+                assertEquals(0, code.syndromeWords(received));
+            }
+        }
+        assertTrue(failures > 0, "при n/8 помилок декодер мав би не зійтися хоча б раз");
+    }
+
+    @Test
+    void packedApiKeepsUncorrectableWordUnchanged() {
+        LdpcCode code = new LdpcCode(32, 16);
+        long word = BitWords.parse(NON_CONVERGING);
+        long[] buffer = {word};
+        assertEquals(IErrorCorrectionCode.UNCORRECTABLE, code.correctWords(buffer));
+        assertEquals(word, buffer[0]);
+        assertEquals(word, code.correctBits(word));
+        assertNotEquals(0, code.syndromeBits(word));
+    }
+
+    @Test
+    void softDecodingFollowsStrongChannelValues() {
+        SplittableRandom random = new SplittableRandom(4);
+        LdpcCode code = new LdpcCode(256, 128);
+        int n = code.getCodeWordLength();
+        long[] data = new long[BitWords.wordCount(code.getDataWordLength())];
+        long[] codeWords = TestWords.encodeRandom(code, random, data);
+        float[] llr = new float[n];
+        for (int i = 0; i < n; i++) {
+            llr[i] = BitWords.getBit(codeWords, i) ? -4f : 4f;
+        }
+        for (int i = 0; i < n; i += 37) {
+            llr[i] = -llr[i] / 8; // Слабкі хибні рішення
+        }
+        long[] decoded = new long[codeWords.length];
+        assertTrue(code.decodeSoft(llr, decoded) > 0);
+        assertArrayEquals(codeWords, decoded);
+    }
+
+    @Test
+    void parallelDecodingMatchesSequential() {
+        SplittableRandom random = new SplittableRandom(5);
+        LdpcCode code = new LdpcCode(128, 64);
+        int n = code.getCodeWordLength();
+        long[] data = new long[BitWords.wordCount(code.getDataWordLength())];
+        long[][] words = new long[100][];
+        long[][] received = new long[words.length][];
+        long[][] expected = new long[words.length][];
+        int[] expectedResults = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = TestWords.withErrors(TestWords.encodeRandom(code, random, data), n, i % 24, random);
+            received[i] = words[i].clone();
+            expected[i] = words[i].clone();
+            expectedResults[i] = code.correctWords(expected[i]);
+        }
+        int[] results = new int[words.length];
+        code.correctWordsParallel(words, results);
+        assertArrayEquals(expectedResults, results);
+        int failures = 0;
+        for (int i = 0; i < words.length; i++) {
+            assertArrayEquals(expected[i], words[i]);
+            if (results[i] == IErrorCorrectionCode.UNCORRECTABLE) {
+                failures++;
+                assertArrayEquals(received[i], words[i]);
+            }
+        }
+        assertTrue(failures > 0, "частина слів мала б бути невиправною");
+    }
+
+    private static long[] extract(LdpcCode code, long[] codeWords) {
+        long[] data = new long[BitWords.wordCount(code.getDataWordLength())];
+        code.extractDataWords(codeWords, data);
+        return data;
+    }
+}
@@ -0,0 +1,160 @@
+package org.stepaniuk.laboratorywork.algorithms.reedsolomon;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReedSolomonCodeTest {
+
+    private static final ReedSolomonCode[] CODES = {
+            new ReedSolomonCode(255, 223), new ReedSolomonCode(32, 24), new ReedSolomonCode(15, 11)
+    };
+
+    @Test
+    void correctsUpToCapability() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (ReedSolomonCode code : CODES) {
+            for (int errors = 0; errors <= code.getCorrectableSymbols(); errors++) {
+                for (int trial = 0; trial < 20; trial++) {
+                    byte[] block = encodeRandom(code, random);
+                    byte[] received = withSymbolErrors(block, errors, random);
+                    assertEquals(errors, code.decodeBlock(received, 0), code.getName());
+                    assertArrayEquals(block, received, code.getName());
+                }
+            }
+        }
+    }
+
+    /**
+     * За межею можливостей декодер або повідомляє про невдачу, залишаючи блок
+     * незмінним, або (рідко) знаходить інше кодове слово в радіусі t.
+     */
+    @Test
+    void beyondCapabilityReportsFailureOrAnotherCodeword() {
+        SplittableRandom random = new SplittableRandom(2);
+        for (ReedSolomonCode code : CODES) {
+            int t = code.getCorrectableSymbols();
+            int failures = 0;
+            for (int trial = 0; trial < 100; trial++) {
+                byte[] block = encodeRandom(code, random);
+                byte[] received = withSymbolErrors(block, t + 1, random);
+                byte[] copy = received.clone();
+                int result = code.decodeBlock(received, 0);
+                if (result == IErrorCorrectionCode.UNCORRECTABLE) {
+                    failures++;
+                    assertArrayEquals(copy, received, code.getName());
+                } else {
+                    assertTrue(result <= t, code.getName());
+                    assertEquals(0, code.decodeBlock(received.clone(), 0), code.getName());
+                }
+            }
+            assertTrue(failures > 0, code.getName());
+        }
+    }
+
+    @Test
+    void wordApiMatchesBlockApi() {
+        SplittableRandom random = new SplittableRandom(3);
+        ReedSolomonCode code = new ReedSolomonCode(32, 24);
+        for (int errors = 0; errors <= code.getCorrectableSymbols() + 2; errors++) {
+            for (int trial = 0; trial < 20; trial++) {
+                byte[] received = withSymbolErrors(encodeRandom(code, random), errors, random);
+                long[] words = toWords(received);
+                long[] before = words.clone();
+                int symbols = code.decodeBlock(received, 0);
+                int result = code.correctWords(words);
+                if (symbols == IErrorCorrectionCode.UNCORRECTABLE) {
+                    assertEquals(IErrorCorrectionCode.UNCORRECTABLE, result);
+                    assertArrayEquals(before, words);
+                    assertTrue(code.syndromeWords(words) != 0);
+                } else {
+                    assertArrayEquals(toWords(received), words);
+                    assertEquals(distance(before, words), result); // Біти, а не байти
+                    assertEquals(0, code.syndromeWords(words));
+                }
+            }
+        }
+    }
+
+    @Test
+    void blockReportsCountSymbolsAndFailures() {
+        SplittableRandom random = new SplittableRandom(4);
+        ReedSolomonCode code = new ReedSolomonCode(64, 48);
+        int n = code.getBlockLength();
+        int t = code.getCorrectableSymbols();
+        int count = 300;
+        byte[] data = new byte[count * code.getDataLength()];
+        random.nextBytes(data);
+        byte[] blocks = new byte[count * n];
+        code.encodeBlocks(data, 0, blocks, 0, count);
+        byte[] clean = blocks.clone();
+
+        long expectedSymbols = 0;
+        long expectedFailures = 0;
+        for (int b = 0; b < count; b++) {
+            int errors = b % (t + 3); // Частина блоків - за межею можливостей
+            byte[] block = new byte[n];
+            System.arraycopy(blocks, b * n, block, 0, n);
+            block = withSymbolErrors(block, errors, random);
+            System.arraycopy(block, 0, blocks, b * n, n);
+            int result = code.decodeBlock(block, 0);
+            if (result == IErrorCorrectionCode.UNCORRECTABLE) {
+                expectedFailures++;
+            } else {
+                expectedSymbols += result;
+            }
+        }
+        byte[] parallel = blocks.clone();
+        ReedSolomonCode.DecodeReport report = code.decodeBlocks(blocks, 0, count);
+        assertEquals(new ReedSolomonCode.DecodeReport(count, expectedSymbols, expectedFailures), report);
+        assertEquals(report, code.decodeBlocksParallel(parallel, 0, count));
+        assertArrayEquals(blocks, parallel);
+        for (int b = 0; b < count; b++) {
+            if (b % (t + 3) <= t) {
+                for (int i = 0; i < n; i++) {
+                    assertEquals(clean[b * n + i], blocks[b * n + i]);
+                }
+            }
+        }
+    }
+
+    private static byte[] encodeRandom(ReedSolomonCode code, SplittableRandom random) {
+        byte[] data = new byte[code.getDataLength()];
+        random.nextBytes(data);
+        byte[] block = new byte[code.getBlockLength()];
+        code.encodeBlock(data, 0, block, 0);
+        return block;
+    }
+
+    /**
+     * Копія блоку з ненульовими помилками у {@code count} різних байтах.
+     */
+    private static byte[] withSymbolErrors(byte[] block, int count, SplittableRandom random) {
+        byte[] received = block.clone();
+        random.ints(0, block.length).distinct().limit(count)
+                .forEach(i -> received[i] ^= (byte) (1 + random.nextInt(255)));
+        return received;
+    }
+
+    private static int distance(long[] a, long[] b) {
+        int distance = 0;
+        for (int i = 0; i < a.length; i++) {
+            distance += Long.bitCount(a[i] ^ b[i]);
+        }
+        return distance;
+    }
+
+    private static long[] toWords(byte[] block) {
+        long[] words = new long[BitWords.wordCount(block.length * Byte.SIZE)];
+        for (int i = 0; i < block.length; i++) {
+            BitWords.setBits(words, i * Byte.SIZE, Byte.SIZE, block[i] & 0xFF);
+        }
+        return words;
+    }
+}
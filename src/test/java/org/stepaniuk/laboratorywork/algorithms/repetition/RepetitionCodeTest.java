@@ -0,0 +1,120 @@
+package org.stepaniuk.laboratorywork.algorithms.repetition;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.BitWords;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RepetitionCodeTest {
+
+    /**
+     * Класичний код (12, 4): кожен біт повторено тричі поспіль, як і до узагальнення коду.
+     */
+    @Test
+    void defaultCodeKeepsPerBitLayout() {
+        RepetitionCode code = new RepetitionCode();
+        assertEquals("111000111000", code.encode("1010"));
+        assertEquals("000111111000", code.encode("0110"));
+        assertEquals(Map.of(0, List.of(0, 1, 2), 3, List.of(3, 4, 5), 6, List.of(6, 7, 8), 9, List.of(9, 10, 11)),
+                code.getBitRelationships());
+
+        IErrorCorrectionCode.CodeCheckResult result = code.checkAndCorrect("110000111000");
+        assertEquals(new IErrorCorrectionCode.CodeCheckResult(
+                "Виявлено та виправлено 1 помилку", "111000111000", "1010"), result);
+        assertEquals(new IErrorCorrectionCode.CodeCheckResult(
+                "Виявлено та виправлено 4 помилок", "111000111000", "1010"), code.checkAndCorrect("011100101001"));
+        assertEquals(new IErrorCorrectionCode.CodeCheckResult(
+                "Помилок немає", "000111111000", "0110"), code.checkAndCorrect("000111111000"));
+    }
+
+    @Test
+    void defaultCodeMatchesStringReference() {
+        RepetitionCode code = new RepetitionCode();
+        for (long word = 0; word < (1L << 12); word++) {
+            String received = BitWords.format(word, 12);
+            StringBuilder data = new StringBuilder();
+            StringBuilder corrected = new StringBuilder();
+            for (int i = 0; i < 12; i += 3) {
+                int ones = 0;
+                for (int j = i; j < i + 3; j++) {
+                    ones += received.charAt(j) - '0';
+                }
+                char bit = (ones >= 2) ? '1' : '0';
+                data.append(bit);
+                corrected.append(bit).append(bit).append(bit);
+            }
+            IErrorCorrectionCode.CodeCheckResult result = code.checkAndCorrect(received);
+            assertEquals(corrected.toString(), result.correctedWord(), received);
+            assertEquals(data.toString(), result.extractedData(), received);
+            assertEquals(BitWords.parse(corrected.toString()), code.correctBits(word), received);
+            assertEquals(BitWords.parse(data.toString()), code.extractDataBits(word), received);
+        }
+    }
+
+    /**
+     * До (t - 1) / 2 помилок у копіях кожного біта виправляються;
+     * (t + 1) / 2 помилок змінюють рішення більшості для цього біта.
+     */
+    @Test
+    void majorityVotingAtAndBeyondCapability() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int[] kt : new int[][]{{4, 3}, {12, 5}, {9, 7}, {100, 3}, {70, 9}}) {
+            RepetitionCode code = new RepetitionCode(kt[0], kt[1]);
+            int k = kt[0];
+            int t = kt[1];
+            for (int trial = 0; trial < 50; trial++) {
+                long[] data = new long[BitWords.wordCount(k)];
+                for (int i = 0; i < k; i++) {
+                    if (random.nextBoolean()) {
+                        BitWords.flipBit(data, i);
+                    }
+                }
+                long[] codeWords = new long[BitWords.wordCount(code.getCodeWordLength())];
+                code.encodeWords(data, codeWords);
+
+                long[] received = codeWords.clone();
+                int errors = 0;
+                for (int i = 0; i < k; i++) {
+                    int bit = i;
+                    int copies = random.nextInt((t - 1) / 2 + 1);
+                    random.ints(0, t).distinct().limit(copies).forEach(j -> BitWords.flipBit(received, j * k + bit));
+                    errors += copies;
+                }
+                assertEquals(errors, code.correctWords(received));
+                assertArrayEquals(codeWords, received);
+
+                int wrongBit = random.nextInt(k);
+                long[] beyond = codeWords.clone();
+                random.ints(0, t).distinct().limit((t + 1) / 2).forEach(j -> BitWords.flipBit(beyond, j * k + wrongBit));
+                long[] decoded = new long[data.length];
+                code.extractDataWords(beyond, decoded);
+                BitWords.flipBit(decoded, wrongBit);
+                assertArrayEquals(data, decoded);
+                assertEquals((t - 1) / 2, code.correctWords(beyond));
+            }
+        }
+    }
+
+    @Test
+    void packedApiMatchesWordApi() {
+        SplittableRandom random = new SplittableRandom(2);
+        for (RepetitionCode code : new RepetitionCode[]{new RepetitionCode(), new RepetitionCode(12, 5)}) {
+            int n = code.getCodeWordLength();
+            for (int trial = 0; trial < 500; trial++) {
+                long word = random.nextLong() & ((1L << n) - 1);
+                long[] words = {word};
+                int corrected = code.correctWords(words);
+                assertEquals(words[0], code.correctBits(word));
+                assertEquals(Long.bitCount(word ^ words[0]), corrected);
+                assertEquals(code.extractDataBits(word), code.extractDataBits(words[0]));
+                assertEquals(0, code.syndromeBits(words[0]));
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.stepaniuk.laboratorywork.algorithms.simd;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.DynamicHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.repetition.RepetitionCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Пакетний API з векторним ядром має давати той самий результат, що й скалярний
+ * цикл (пакет з одного слова ядро не обробляє), зокрема коли кількість слів
+ * не кратна кількості ліній вектора.
+ */
+class VectorKernelsTest {
+
+    private static List<IErrorCorrectionCode> codes() {
+        List<IErrorCorrectionCode> codes = new ArrayList<>();
+        for (int k : new int[]{1, 4, 11, 26, 40, 57}) {
+            codes.add(new DynamicHammingCode(k));
+        }
+        codes.add(new RepetitionCode(8, 3));
+        codes.add(new RepetitionCode(5, 7));
+        codes.add(new RepetitionCode(1, 63));
+        codes.add(new RepetitionCode(32, 1));
+        return codes;
+    }
+
+    @Test
+    void batchesMatchScalarLoop() {
+        assumeTrue(SimdSupport.isAvailable(), "Потрібно --add-modules jdk.incubator.vector");
+        int lanes = VectorKernels.preferredLanes();
+        SplittableRandom random = new SplittableRandom(22);
+        for (IErrorCorrectionCode code : codes()) {
+            int k = code.getDataWordLength();
+            int n = code.getCodeWordLength();
+            long dataMask = (k == Long.SIZE) ? -1L : (1L << k) - 1;
+            for (int count = 0; count <= 3 * lanes + lanes - 1; count++) {
+                int offset = random.nextInt(0, 3);
+                String message = code.getName() + ", " + count + " слів, зсув " + offset;
+
+                long[] data = new long[offset + count];
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = random.nextLong() & dataMask;
+                }
+                long[] encoded = new long[offset + count];
+                code.encodeBatch(data, offset, encoded, offset, count);
+                long[] expectedEncoded = new long[offset + count];
+                for (int i = offset; i < offset + count; i++) {
+                    code.encodeBatch(data, i, expectedEncoded, i, 1);
+                }
+                assertArrayEquals(expectedEncoded, encoded, message);
+
+                long[] received = encoded.clone();
+                for (int i = offset; i < received.length; i++) {
+                    int errors = random.nextInt(0, 4);
+                    for (int e = 0; e < errors; e++) {
+                        received[i] ^= 1L << random.nextInt(0, n);
+                    }
+                }
+                long[] dataOut = new long[offset + count];
+                long[] masks = new long[offset + count];
+                int[] results = new int[offset + count];
+                int corrected = code.decodeBatch(received, offset, dataOut, masks, results, offset, count);
+
+                long[] expectedData = new long[offset + count];
+                long[] expectedMasks = new long[offset + count];
+                int[] expectedResults = new int[offset + count];
+                int expectedCorrected = 0;
+                for (int i = offset; i < offset + count; i++) {
+                    expectedCorrected += code.decodeBatch(received, i, expectedData, expectedMasks,
+                            expectedResults, i, 1);
+                }
+                assertArrayEquals(expectedData, dataOut, message);
+                assertArrayEquals(expectedMasks, masks, message);
+                assertArrayEquals(expectedResults, results, message);
+                assertEquals(expectedCorrected, corrected, message);
+            }
+        }
+    }
+
+    @Test
+    void batchesMatchPerWordApi() {
+        assumeTrue(SimdSupport.isAvailable(), "Потрібно --add-modules jdk.incubator.vector");
+        SplittableRandom random = new SplittableRandom(23);
+        int count = 4 * VectorKernels.preferredLanes() + 1;
+        for (IErrorCorrectionCode code : codes()) {
+            int n = code.getCodeWordLength();
+            long[] received = new long[count];
+            for (int i = 0; i < count; i++) {
+                long dataMask = (code.getDataWordLength() == Long.SIZE) ? -1L : (1L << code.getDataWordLength()) - 1;
+                received[i] = code.encodeBits(random.nextLong() & dataMask) ^ (1L << random.nextInt(0, n));
+            }
+            long[] dataOut = new long[count];
+            long[] masks = new long[count];
+            code.decodeBatch(received, 0, dataOut, masks, null, 0, count);
+            for (int i = 0; i < count; i++) {
+                long corrected = code.correctBits(received[i]);
+                assertEquals(code.extractDataBits(corrected), dataOut[i], code.getName());
+                assertEquals(received[i] ^ corrected, masks[i], code.getName());
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.stepaniuk.laboratorywork.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.stepaniuk.laboratorywork.Launcher;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Консольний режим в окремій JVM: на module path лише класи програми,
+ * без JavaFX, ControlsFX та інших модулів графічного інтерфейсу.
+ */
+class CommandLineAppTest {
+
+    private static final String MODULE = "org.stepaniuk.laboratorywork";
+
+    @TempDir
+    Path directory;
+
+    private record Result(int exitCode, String out, String err) {
+    }
+
+    @Test
+    void encodesAndDecodesWithoutJavaFx() throws Exception {
+        Result encoded = run("1011\n0000\n", "encode", "hamming-4");
+        assertEquals(0, encoded.exitCode(), encoded.err());
+        assertEquals(List.of("0110011", "0000000"), encoded.out().lines().toList());
+
+        // Помилка в біті 6
+        Result decoded = run("0110010\n", "decode", "hamming-4");
+        assertEquals(0, decoded.exitCode(), decoded.err());
+        String[] columns = decoded.out().trim().split("\t");
+        assertEquals("1011", columns[0]);
+        assertEquals("0110011", columns[1]);
+    }
+
+    @Test
+    void protectsAndRecoversFile() throws Exception {
+        byte[] original = "Захищений файл для перевірки консольного режиму".getBytes(StandardCharsets.UTF_8);
+        Path source = Files.write(directory.resolve("in.bin"), original);
+        Path protectedFile = directory.resolve("protected.bin");
+        Path recovered = directory.resolve("out.bin");
+
+        Result protect = run("", "protect", "bch-32x3", source.toString(), protectedFile.toString());
+        assertEquals(0, protect.exitCode(), protect.err());
+        Result recover = run("", "recover", "bch-32x3", protectedFile.toString(), recovered.toString());
+        assertEquals(0, recover.exitCode(), recover.err());
+        assertArrayEquals(original, Files.readAllBytes(recovered));
+    }
+
+    @Test
+    void rejectsUnknownCode() throws Exception {
+        Result result = run("", "encode", "golay");
+        assertEquals(2, result.exitCode());
+        assertTrue(result.err().contains("golay"), result.err());
+    }
+
+    /**
+     * Запускає {@link Launcher} як модуль: якби module-info вимагав JavaFX,
+     * JVM не змогла б навіть розв'язати граф модулів.
+     */
+    private Result run(String input, String... args) throws IOException, InterruptedException, URISyntaxException {
+        Path classes = Path.of(Launcher.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Dstdout.encoding=UTF-8", "-Dstderr.encoding=UTF-8",
+                "--module-path", classes.toString(),
+                "--module", MODULE + "/" + Launcher.class.getName()));
+        command.addAll(List.of(args));
+
+        Process process = new ProcessBuilder(command)
+                .redirectError(directory.resolve("err.txt").toFile())
+                .redirectOutput(directory.resolve("out.txt").toFile())
+                .start();
+        try (var stdin = process.getOutputStream()) {
+            stdin.write(input.getBytes(StandardCharsets.UTF_8));
+        }
+        assertTrue(process.waitFor(60, TimeUnit.SECONDS), "Процес не завершився");
+        return new Result(process.exitValue(),
+                Files.readString(directory.resolve("out.txt"), StandardCharsets.UTF_8),
+                Files.readString(directory.resolve("err.txt"), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,45 @@
+package org.stepaniuk.laboratorywork.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.TestWords;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InstrumentedCodeTest {
+
+    @Test
+    void changedWordWithNonZeroSyndromeIsUncorrectable() {
+        MetricsRegistry registry = new MetricsRegistry();
+        InstrumentedCode code = registry.instrument(new TestWords.FlipFirstBit());
+        CodecMetrics metrics = code.getMetrics();
+        long codeWord = code.encodeBits(0b101_1010_0110L);
+
+        code.correctBits(codeWord);
+        assertCounts(metrics, 1, 0, 0);
+        code.correctBits(codeWord ^ 1);
+        assertCounts(metrics, 2, 1, 0);
+        code.correctBits(codeWord ^ 0b100); // Змінене, але з ненульовим синдромом
+        assertCounts(metrics, 3, 1, 1);
+        assertEquals(1, metrics.getCorrectedBits());
+        assertEquals(1, metrics.getCorrectedAt(0));
+    }
+
+    @Test
+    void wordApiUsesTheSameRule() {
+        MetricsRegistry registry = new MetricsRegistry();
+        InstrumentedCode code = registry.instrument(new TestWords.FlipFirstBit());
+        long received = code.encodeBits(0b011_0101_1001L) ^ 0b100;
+        long[] words = {received};
+
+        assertEquals(IErrorCorrectionCode.UNCORRECTABLE, code.correctWords(words));
+        assertEquals(received, words[0]);
+        assertCounts(code.getMetrics(), 1, 0, 1);
+    }
+
+    private static void assertCounts(CodecMetrics metrics, long decoded, long corrected, long uncorrectable) {
+        assertEquals(decoded, metrics.getDecodedWords());
+        assertEquals(corrected, metrics.getCorrectedWords());
+        assertEquals(uncorrectable, metrics.getUncorrectableWords());
+    }
+}
@@ -0,0 +1,115 @@
+package org.stepaniuk.laboratorywork.pipeline;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.bch.BchCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.DynamicHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.ldpc.LdpcCode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileProtectionPipelineTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripWithoutErrors() throws IOException {
+        // Розміри не кратні k біт, у т.ч. порожній файл
+        for (IErrorCorrectionCode code : new IErrorCorrectionCode[]{new DynamicHammingCode(11), new BchCode(8, 4)}) {
+            for (int size : new int[]{0, 1, 7, 1001}) {
+                byte[] original = randomBytes(size, size);
+                FileProtectionPipeline pipeline = new FileProtectionPipeline(code);
+                PipelineReport protectReport = pipeline.protect(write("in.bin", original), path("protected.bin"));
+                PipelineReport report = pipeline.recover(path("protected.bin"), path("out.bin"));
+
+                assertArrayEquals(original, Files.readAllBytes(path("out.bin")), code.getName() + ", " + size);
+                assertEquals(protectReport.words(), report.words());
+                assertEquals(0, report.correctedWords());
+                assertEquals(0, report.uncorrectableWords());
+            }
+        }
+    }
+
+    @Test
+    void correctsInjectedErrors() throws IOException {
+        SplittableRandom random = new SplittableRandom(6);
+        for (IErrorCorrectionCode code : new IErrorCorrectionCode[]{new DynamicHammingCode(11), new BchCode(8, 4)}) {
+            byte[] original = randomBytes(4099, 6);
+            FileProtectionPipeline pipeline = new FileProtectionPipeline(code);
+            PipelineReport protectReport = pipeline.protect(write("in.bin", original), path("protected.bin"));
+
+            // Одна помилка в кожному третьому слові
+            byte[] stream = Files.readAllBytes(path("protected.bin"));
+            long dataBit = dataOffset(stream) * 8L;
+            int n = code.getCodeWordLength();
+            long damaged = 0;
+            for (long word = 0; word < protectReport.words(); word += 3) {
+                long bit = dataBit + word * n + random.nextInt(0, n);
+                stream[(int) (bit >>> 3)] ^= (byte) (1 << (bit & 7));
+                damaged++;
+            }
+            Files.write(path("protected.bin"), stream);
+
+            PipelineReport report = pipeline.recover(path("protected.bin"), path("out.bin"));
+            assertArrayEquals(original, Files.readAllBytes(path("out.bin")), code.getName());
+            assertEquals(damaged, report.correctedWords(), code.getName());
+            assertEquals(damaged, report.correctedBits(), code.getName());
+            assertEquals(0, report.uncorrectableWords(), code.getName());
+        }
+    }
+
+    @Test
+    void rejectsAnotherCodeWithSameLengths() throws IOException {
+        BchCode bch = new BchCode(6, 3);
+        LdpcCode ldpc = new LdpcCode(45, 18);
+        assertEquals(bch.getCodeWordLength(), ldpc.getCodeWordLength());
+        assertEquals(bch.getDataWordLength(), ldpc.getDataWordLength());
+
+        new FileProtectionPipeline(bch).protect(write("in.bin", randomBytes(100, 1)), path("protected.bin"));
+        assertThrows(IOException.class,
+                () -> new FileProtectionPipeline(ldpc).recover(path("protected.bin"), path("out.bin")));
+        assertThrows(IOException.class,
+                () -> new FileProtectionPipeline(new DynamicHammingCode(45)).recover(path("protected.bin"), path("out.bin")));
+        // Той самий код, створений заново, підходить
+        new FileProtectionPipeline(new BchCode(6, 3)).recover(path("protected.bin"), path("out.bin"));
+    }
+
+    @Test
+    void rejectsLdpcWithAnotherMatrix() throws IOException {
+        new FileProtectionPipeline(new LdpcCode(64, 32, 3, 1))
+                .protect(write("in.bin", randomBytes(100, 2)), path("protected.bin"));
+        assertThrows(IOException.class, () -> new FileProtectionPipeline(new LdpcCode(64, 32, 3, 2))
+                .recover(path("protected.bin"), path("out.bin")));
+    }
+
+    private static int dataOffset(byte[] stream) {
+        int nameBytes = ByteBuffer.wrap(stream).order(ByteOrder.LITTLE_ENDIAN)
+                .getInt(FileProtectionPipeline.HEADER_BYTES - Integer.BYTES);
+        return (FileProtectionPipeline.HEADER_BYTES + nameBytes + 7) & -8;
+    }
+
+    private static byte[] randomBytes(int size, long seed) {
+        byte[] bytes = new byte[size];
+        new SplittableRandom(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    private Path write(String name, byte[] bytes) throws IOException {
+        return Files.write(path(name), bytes);
+    }
+
+    private Path path(String name) {
+        return directory.resolve(name);
+    }
+}
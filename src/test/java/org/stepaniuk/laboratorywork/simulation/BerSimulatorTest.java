@@ -0,0 +1,82 @@
+package org.stepaniuk.laboratorywork.simulation;
+
+import org.junit.jupiter.api.Test;
+import org.stepaniuk.laboratorywork.algorithms.IErrorCorrectionCode;
+import org.stepaniuk.laboratorywork.algorithms.bch.BchCode;
+import org.stepaniuk.laboratorywork.algorithms.hamming.DynamicHammingCode;
+import org.stepaniuk.laboratorywork.algorithms.repetition.RepetitionCode;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BerSimulatorTest {
+
+    // Пакетний шлях (n <= 64) і шлях над масивами слів (n > 64)
+    private static final IErrorCorrectionCode[] CODES = {new DynamicHammingCode(26), new BchCode(8, 4)};
+
+    @Test
+    void noiselessChannelGivesNoErrors() {
+        for (IErrorCorrectionCode code : CODES) {
+            BerPoint point = new BerSimulator(code).run(new double[]{0}, 5000, 1).get(0);
+            assertEquals(5000, point.words());
+            assertEquals(5000L * code.getDataWordLength(), point.dataBits());
+            assertEquals(0, point.bitErrors());
+            assertEquals(0, point.wordErrors());
+            assertEquals(0, point.ber());
+        }
+    }
+
+    @Test
+    void sameSeedGivesSameResult() {
+        double[] rates = {1e-3, 1e-2, 5e-2};
+        for (IErrorCorrectionCode code : CODES) {
+            // Більше однієї порції, тож результат не має залежати від розкладу потоків
+            long words = (code.getCodeWordLength() <= Long.SIZE) ? 600_000 : 3000;
+            List<BerPoint> first = new BerSimulator(code).run(rates, words, 42);
+            List<BerPoint> second = new BerSimulator(code).run(rates, words, 42);
+            assertEquals(first, second);
+            assertTrue(first.get(2).bitErrors() > 0);
+        }
+    }
+
+    @Test
+    void tinyErrorRateFinishes() {
+        for (IErrorCorrectionCode code : CODES) {
+            BerPoint point = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> new BerSimulator(code).run(new double[]{1e-20, Double.MIN_VALUE}, 3000, 7).get(0));
+            assertEquals(0, point.bitErrors());
+        }
+    }
+
+    /**
+     * Помилка в біті 0, після якої відстань до наступної для p = 1e-20 (~7e19)
+     * раніше насичувалася до Long.MAX_VALUE: лічильник переповнювався, і цикл не завершувався.
+     */
+    @Test
+    void errorFollowedByHugeGapDoesNotOverflow() {
+        double[] uniforms = {0.0, 0.5};
+        int[] next = {0};
+        BerSimulator.Channel channel = new BerSimulator.Channel(() -> uniforms[Math.min(next[0]++, 1)], 1e-20);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertEquals(1L, channel.nextErrorMask(Long.SIZE));
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(0L, channel.nextErrorMask(Long.SIZE));
+            }
+            long[] words = new long[4];
+            channel.corrupt(words, 256);
+            assertEquals(0, words[0] | words[1] | words[2] | words[3]);
+        });
+    }
+
+    @Test
+    void certainErrorsFlipEveryBit() {
+        // Усі копії кожного біта інвертовано - більшість завжди хибна
+        BerPoint point = new BerSimulator(new RepetitionCode(8, 3)).run(new double[]{1}, 1000, 3).get(0);
+        assertEquals(point.dataBits(), point.bitErrors());
+        assertEquals(1.0, point.ber());
+    }
+}